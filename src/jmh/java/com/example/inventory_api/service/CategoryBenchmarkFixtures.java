@@ -0,0 +1,74 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.service.SystemCategorySnapshot.SystemCategory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ベンチマークで使うカテゴリのデータ
+ * <p>
+ * ベンチマークはDBやSpringのコンテキストを使わず、計測する処理を担うクラス({@link CategoryList}, {@link CategoryJsonWriter} など)を直接呼び出す。
+ */
+final class CategoryBenchmarkFixtures {
+
+  static final String SYSTEM_USER_ID = "system";
+  static final String USER_ID = "user1";
+
+  // アプリケーションと同じく、カテゴリのJSONはJacksonで作成する
+  static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  static final CategoryJsonWriter CATEGORY_JSON_WRITER = new CategoryJsonWriter(OBJECT_MAPPER);
+
+  // 起動時に登録するデフォルトカテゴリと同じ一覧(seed/default-categories.yml)
+  static final List<String> SYSTEM_CATEGORY_NAMES = DefaultCategories.load(
+      new DefaultResourceLoader().getResource(DefaultCategories.RESOURCE_LOCATION)).names();
+
+  // カスタムカテゴリ名の材料。漢字・ひらがな・カタカナ・英数字を混ぜる
+  private static final List<String> WORDS = List.of(
+      "食品", "ストック", "日用品", "ようふく", "Tools", "文房具", "ＰＣ周り", "ﾍﾞﾋﾞｰ用品",
+      "くすり", "掃除道具", "季節家電", "アウトドア", "本", "おもちゃ", "Garden", "工具");
+
+  private CategoryBenchmarkFixtures() {
+  }
+
+  /**
+   * 乱数で組み立てたカテゴリ名を生成する 同じ件数なら毎回同じ名前になる
+   */
+  static List<String> customCategoryNames(int count) {
+    Random random = new Random(count);
+    List<String> names = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      names.add(WORDS.get(random.nextInt(WORDS.size())) + WORDS.get(random.nextInt(WORDS.size())) + i);
+    }
+    return names;
+  }
+
+  /**
+   * カテゴリのエンティティを生成する 並び順はリポジトリと同じソートキー順にする
+   */
+  static List<Category> categories(String userId, List<String> names, int firstId) {
+    List<Category> categories = new ArrayList<>(names.size());
+    for (int i = 0; i < names.size(); i++) {
+      categories.add(new Category(firstId + i, userId, names.get(i), false));
+    }
+    categories.sort(Comparator.comparing(Category::getSortKey, Arrays::compareUnsigned));
+    return categories;
+  }
+
+  /**
+   * {@link SystemCategorySnapshot} が保持するものと同じ、辞書順のデフォルトカテゴリを生成する
+   */
+  static List<SystemCategory> systemCategories() {
+    return categories(SYSTEM_USER_ID, SYSTEM_CATEGORY_NAMES, 1).stream()
+        .map(category -> new SystemCategory(category,
+            CATEGORY_JSON_WRITER.element(category.getId(), category.getName())))
+        .toList();
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.controller.dto.CategoryResponse;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.service.SystemCategorySnapshot.SystemCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CategoryService#getCategoryList(String)} のうち、キャッシュにヒットしない場合に一覧を組み立てる処理のベンチマーク
+ * <p>
+ * デフォルトカテゴリとカスタムカテゴリを辞書順にマージし({@link CategoryList#merge})、DTOとJSONに変換するまでを計測する。 DBアクセスとキャッシュは含めない。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryListBenchmark {
+
+  // 0〜50件は通常の利用範囲(カスタムカテゴリの上限は50件)、1000件以上は負荷確認用
+  @Param({"0", "10", "50", "1000", "10000"})
+  public int customCount;
+
+  private List<SystemCategory> systemCategories;
+  private List<Category> customCategories;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    systemCategories = CategoryBenchmarkFixtures.systemCategories();
+    customCategories = CategoryBenchmarkFixtures.categories(CategoryBenchmarkFixtures.USER_ID,
+        CategoryBenchmarkFixtures.customCategoryNames(customCount), 1000);
+  }
+
+  @Benchmark
+  public CategoryList mergeCategoryList() {
+    return CategoryList.merge(systemCategories, customCategories,
+        CategoryBenchmarkFixtures.CATEGORY_JSON_WRITER);
+  }
+
+  // Category から CategoryResponse への変換だけを計測する
+  @Benchmark
+  public List<CategoryResponse> mapToResponse() {
+    return customCategories.stream().map(CategoryResponse::new).toList();
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.service.SystemCategorySnapshot.SystemCategory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /categories の1リクエストあたりのシリアライズのコストのベンチマーク
+ * <p>
+ * 一覧はキャッシュにヒットする前提で、キャッシュ済みの一覧をリクエストごとにJacksonでシリアライズする場合(変更前)と、
+ * シリアライズ済みのJSONを返す場合(変更後)を比較する。 キャッシュにヒットしない場合の、JSONの要素をつなぎ合わせる処理も計測する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryListJsonBenchmark {
+
+  // 0〜50件は通常の利用範囲(カスタムカテゴリの上限は50件)
+  @Param({"0", "10", "50"})
+  public int customCount;
+
+  private List<SystemCategory> systemCategories;
+  private List<Category> customCategories;
+  private CategoryListCache categoryListCache;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    systemCategories = CategoryBenchmarkFixtures.systemCategories();
+    customCategories = CategoryBenchmarkFixtures.categories(CategoryBenchmarkFixtures.USER_ID,
+        CategoryBenchmarkFixtures.customCategoryNames(customCount), 1000);
+    // 一覧のキャッシュに読み込んでおく
+    categoryListCache = new CategoryListCache(10, Duration.ofMinutes(10));
+    categoryListCache.put(CategoryBenchmarkFixtures.USER_ID,
+        CategoryList.merge(systemCategories, customCategories, CategoryBenchmarkFixtures.CATEGORY_JSON_WRITER),
+        categoryListCache.startLoading(CategoryBenchmarkFixtures.USER_ID));
+  }
+
+  // 変更前: キャッシュ済みの一覧をリクエストごとにシリアライズする
+  @Benchmark
+  public byte[] serializePerRequest() throws JsonProcessingException {
+    return CategoryBenchmarkFixtures.OBJECT_MAPPER.writeValueAsBytes(
+        categoryListCache.get(CategoryBenchmarkFixtures.USER_ID).orElseThrow().categories());
+  }
+
+  // 変更後: シリアライズ済みのJSONをそのまま返す
+  @Benchmark
+  public byte[] preSerialized() {
+    return categoryListCache.get(CategoryBenchmarkFixtures.USER_ID).orElseThrow().json();
+  }
+
+  // キャッシュにヒットしない場合: カスタムカテゴリだけをシリアライズし、デフォルトカテゴリの要素とつなぎ合わせる
+  @Benchmark
+  public byte[] spliceOnMiss() {
+    return CategoryList.merge(systemCategories, customCategories,
+        CategoryBenchmarkFixtures.CATEGORY_JSON_WRITER).json();
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.support.CategoryNames;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * カテゴリ名の重複チェックの前に行う、カテゴリ名の正規化({@link CategoryNames#normalize(String)})のベンチマーク
+ * <p>
+ * 重複チェックのクエリは含めず、正規化にかかる時間だけを計測する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryNameValidationBenchmark {
+
+  // 正規化で変化しない名前と、全角英数字・半角カナを含み変換が必要な名前
+  @Param({"キッチン用品", "ＴＯＩＬＥＴ", "ﾍﾞﾋﾞｰ用品ストック"})
+  public String name;
+
+  @Benchmark
+  public String normalizeCategoryName() {
+    return CategoryNames.normalize(name);
+  }
+}
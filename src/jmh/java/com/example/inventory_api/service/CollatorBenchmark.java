@@ -0,0 +1,90 @@
+package com.example.inventory_api.service;
+
+import com.ibm.icu.text.CollationKey;
+import com.ibm.icu.text.Collator;
+import com.ibm.icu.util.ULocale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ICUのCollatorを使った日本語の辞書順ソートのベンチマーク
+ * <p>
+ * Collatorを毎回生成する場合と共有する場合、CollationKeyで比較する場合と {@link Collator#compare} で比較する場合、
+ * 保存済みのソートキー(バイト列)で比較する場合を比べる。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollatorBenchmark {
+
+  @Param({"10", "60", "1000", "10000"})
+  public int size;
+
+  private static final Collator SHARED_COLLATOR = Collator.getInstance(ULocale.JAPANESE).freeze();
+
+  private List<String> names;
+  private List<byte[]> sortKeys;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    names = CategoryBenchmarkFixtures.customCategoryNames(size);
+    sortKeys = names.stream().map(name -> SHARED_COLLATOR.getCollationKey(name).toByteArray()).toList();
+  }
+
+  // Collatorの生成だけにかかる時間
+  @Benchmark
+  public Collator newCollator() {
+    return Collator.getInstance(ULocale.JAPANESE);
+  }
+
+  @Benchmark
+  public List<String> sortWithNewCollator() {
+    Collator collator = Collator.getInstance(ULocale.JAPANESE);
+    List<String> sorted = new ArrayList<>(names);
+    sorted.sort(collator::compare);
+    return sorted;
+  }
+
+  @Benchmark
+  public List<String> sortWithSharedCollator() {
+    List<String> sorted = new ArrayList<>(names);
+    sorted.sort(SHARED_COLLATOR::compare);
+    return sorted;
+  }
+
+  @Benchmark
+  public CollationKey[] sortWithCollationKeys() {
+    CollationKey[] keys = new CollationKey[names.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = SHARED_COLLATOR.getCollationKey(names.get(i));
+    }
+    Arrays.sort(keys);
+    return keys;
+  }
+
+  // DBに保存済みのソートキーを使う場合。CategoryService のマージと同じ比較方法
+  @Benchmark
+  public List<byte[]> sortWithStoredSortKeys() {
+    List<byte[]> sorted = new ArrayList<>(sortKeys);
+    sorted.sort(Arrays::compareUnsigned);
+    return sorted;
+  }
+}
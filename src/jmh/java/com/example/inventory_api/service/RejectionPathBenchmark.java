@@ -0,0 +1,149 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.controller.advice.CustomExceptionHandler;
+import com.example.inventory_api.controller.dto.ErrorResponse;
+import com.example.inventory_api.domain.support.CategoryNames;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 業務エラー(重複・上限など)でリクエストを受け付けない場合の、例外の生成から例外ハンドラーでのレスポンス作成までのベンチマーク
+ * <p>
+ * 変更前の方式(スタックトレース付きのIllegalStateExceptionと、メッセージの接頭辞による振り分け)は、比較のためにこのクラス内で再現する。
+ * 実際のリクエストではTomcat・Springのフレームの上で例外が発生するため、stackDepthで呼び出しの深さを変えて計測する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectionPathBenchmark {
+
+  @Param({"0", "100"})
+  public int stackDepth;
+
+  // 変更前の方式で先頭・末尾に判定される接頭辞
+  @Param({"CATEGORY_NAME_DUPLICATE", "ITEM_QUANTITY_CONFLICT"})
+  public ErrorCode errorCode;
+
+  private static final String MESSAGE = "そのカテゴリ名は既に使用されています";
+
+  private MeterRegistry meterRegistry;
+  private CustomExceptionHandler customExceptionHandler;
+  private String legacyMessage;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    customExceptionHandler = new CustomExceptionHandler(meterRegistry);
+    legacyMessage = switch (errorCode) {
+      case CATEGORY_NAME_DUPLICATE -> "DUPLICATE:" + MESSAGE;
+      case ITEM_QUANTITY_CONFLICT -> "QUANTITY_CONFLICT:" + MESSAGE;
+      default -> throw new IllegalArgumentException(errorCode.name());
+    };
+  }
+
+  // 変更前: スタックトレース付きの例外を投げ、メッセージの接頭辞で振り分ける
+  @Benchmark
+  public ResponseEntity<ErrorResponse> legacyIllegalStateException() {
+    try {
+      throwAt(stackDepth, () -> new IllegalStateException(legacyMessage));
+      return null;
+    } catch (IllegalStateException e) {
+      return LegacyDispatch.handle(e, meterRegistry);
+    }
+  }
+
+  // 変更後: スタックトレースを取得しない例外を投げ、型とエラーコードで振り分ける
+  @Benchmark
+  public ResponseEntity<ErrorResponse> businessException() {
+    try {
+      throwAt(stackDepth, () -> new BusinessException(errorCode, MESSAGE));
+      return null;
+    } catch (BusinessException e) {
+      return customExceptionHandler.handleBusinessException(e);
+    }
+  }
+
+  // 変更後のカテゴリ名の重複エラー: CategoryService と同じく名前を正規化してから重複と判定し、例外ハンドラーまで
+  // 重複チェックのクエリは常に重複ありを返すものとして含めない
+  @Benchmark
+  public ResponseEntity<ErrorResponse> duplicateCategoryName() {
+    try {
+      throwAt(stackDepth, () -> {
+        String normalized = CategoryNames.normalize("重複カテゴリ");
+        return normalized.isEmpty() ? null : new BusinessException(ErrorCode.CATEGORY_NAME_DUPLICATE, MESSAGE);
+      });
+      return null;
+    } catch (BusinessException e) {
+      return customExceptionHandler.handleBusinessException(e);
+    }
+  }
+
+  // depthの深さまで呼び出しを重ねてから例外を投げる
+  private static void throwAt(int depth, ExceptionFactory factory) {
+    if (depth > 0) {
+      throwAt(depth - 1, factory);
+      return;
+    }
+    RuntimeException e = factory.create();
+    if (e != null) {
+      throw e;
+    }
+  }
+
+  @FunctionalInterface
+  private interface ExceptionFactory {
+
+    RuntimeException create();
+  }
+
+  /**
+   * 変更前の CustomExceptionHandler#handleIllegalStateException の振り分け
+   */
+  private static final class LegacyDispatch {
+
+    private static final String[][] PREFIXES = {
+        {"DUPLICATE:", "CATEGORY_NAME_DUPLICATE", "409"},
+        {"LIMIT:", "CATEGORY_LIMIT_EXCEEDED", "400"},
+        {"NOT_FOUND:", "NOT_FOUND_ERROR", "404"},
+        {"FORBIDDEN:", "DEFAULT_CATEGORY_IMMUTABLE", "403"},
+        {"CATEGORY_NOT_FOUND:", "CATEGORY_NOT_FOUND", "404"},
+        {"INVALID_CURSOR:", "INVALID_CURSOR", "400"},
+        {"INVALID_CSV:", "INVALID_CSV", "400"},
+        {"QUANTITY_CONFLICT:", "ITEM_QUANTITY_CONFLICT", "409"},
+    };
+
+    static ResponseEntity<ErrorResponse> handle(IllegalStateException e, MeterRegistry meterRegistry) {
+      String message = e.getMessage();
+      for (String[] prefix : PREFIXES) {
+        if (message.startsWith(prefix[0])) {
+          HttpStatus status = HttpStatus.valueOf(Integer.parseInt(prefix[2]));
+          meterRegistry.counter("api.errors", "code", prefix[1], "status", prefix[2]).increment();
+          return new ResponseEntity<>(
+              new ErrorResponse(prefix[1], message.substring(prefix[0].length())), status);
+        }
+      }
+      return new ResponseEntity<>(new ErrorResponse("BAD_REQUEST", message), HttpStatus.BAD_REQUEST);
+    }
+  }
+}
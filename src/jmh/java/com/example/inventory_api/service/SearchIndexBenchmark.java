@@ -0,0 +1,99 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.support.SearchTexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /search の検索1回あたりのコストのベンチマーク
+ * <p>
+ * N-gram索引({@link UserSearchIndex})から検索する場合と、LIKE '%検索語%' と同じく全アイテムの名前を走査する場合を比較する。
+ * アイテムの登録時に索引へ1件反映するコストも計測する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+  // 1ユーザーのアイテム数
+  @Param({"1000", "10000", "50000"})
+  public int size;
+
+  // 前方一致で多く当たる語、部分一致で少し当たる語、1文字の語
+  @Param({"トイレ", "ぺーぱー", "洗"})
+  public String query;
+
+  private static final int LIMIT = 20;
+
+  // アイテム名の材料。漢字・ひらがな・カタカナ・英数字を混ぜる
+  private static final List<String> WORDS = List.of(
+      "トイレット", "ペーパー", "洗剤", "詰め替え", "ティッシュ", "お米", "しょうゆ", "乾電池",
+      "Tシャツ", "ＬＥＤ電球", "ﾏｽｸ", "歯ブラシ", "ハンドソープ", "キッチン", "ラップ", "保存袋");
+
+  private UserSearchIndex index;
+  private List<SearchDocument> documents;
+  private String normalizedQuery;
+  private int nextId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(size);
+    documents = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      String name = WORDS.get(random.nextInt(WORDS.size()))
+          + WORDS.get(random.nextInt(WORDS.size())) + i;
+      documents.add(SearchDocument.item(i, i % 50, name));
+    }
+    index = new UserSearchIndex(documents);
+    normalizedQuery = SearchTexts.normalize(query);
+    nextId = size;
+  }
+
+  // 変更後: N-gram索引から候補を絞り込んで検索する
+  @Benchmark
+  public List<SearchDocument> indexLookup() {
+    return index.search(normalizedQuery, LIMIT);
+  }
+
+  // 変更前に相当: 全アイテムの名前に検索語が含まれるかを確認する(LIKE '%検索語%' と同じ走査)
+  @Benchmark
+  public List<SearchDocument> linearScan() {
+    List<SearchDocument> matches = new ArrayList<>();
+    for (SearchDocument document : documents) {
+      if (document.text().contains(normalizedQuery)) {
+        matches.add(document);
+      }
+    }
+    matches.sort(Comparator.comparingInt((SearchDocument document) -> document.text().length())
+        .thenComparing(SearchDocument::id));
+    return matches.subList(0, Math.min(LIMIT, matches.size()));
+  }
+
+  // アイテム1件の登録を索引に反映するコスト
+  @Benchmark
+  public UserSearchIndex upsert() {
+    int id = nextId++;
+    index.upsert(SearchDocument.item(id, 1, "詰め替えハンドソープ" + id));
+    index.remove(SearchDocument.Type.ITEM, id);
+    return index;
+  }
+}
@@ -1,50 +1,57 @@
 package com.example.inventory_api;
 
-import com.example.inventory_api.domain.model.Category;
-import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.service.DefaultCategories;
+import com.example.inventory_api.service.DefaultCategorySeeder;
+import com.example.inventory_api.service.SystemCategorySnapshot;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 // アプリの起動時に自動で呼び出される
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
-  private final CategoryRepository categoryRepository;
-
-  @Override
-  public void run(String... args) throws Exception {
-    // デフォルトカテゴリのデータ作成
+  private final DefaultCategorySeeder defaultCategorySeeder;
+  private final SystemCategorySnapshot systemCategorySnapshot;
+  private final TaskExecutor applicationTaskExecutor;
 
-    // システムユーザー（仮）
-    final String SYSTEM_USER_ID = "system";
+  // 作成するデフォルトカテゴリの一覧(バージョン付き)
+  @Value(DefaultCategories.RESOURCE_LOCATION)
+  private Resource defaultCategoriesResource;
 
-    // 作成するデフォルトカテゴリのリスト
-    List<String> categoryNames = List.of(
-        "キッチン",
-        "バスルーム",
-        "洗面所・脱衣所",
-        "トイレ",
-        "リビング・ダイニング",
-        "寝室",
-        "玄関",
-        "収納・クローゼット",
-        "掃除用品",
-        "備蓄・防災"
-    );
+  // trueの場合、起動の完了を待たずに別スレッドで登録する
+  @Value("${app.seed.async}")
+  private boolean async;
 
-    for (String name : categoryNames) {
-      // アプリを起動するたびにデフォルトカテゴリが作成されないよう、重複チェックを行う
-      if (categoryRepository.findByNameAndUserIdAndDeletedFalse(name, SYSTEM_USER_ID).isEmpty()) {
-        Category category = new Category();
-        category.setUserId(SYSTEM_USER_ID);
-        category.setName(name);
-        category.setDeleted(false);
-        categoryRepository.save(category);
+  @Override
+  public void run(String... args) throws Exception {
+    if (!async) {
+      seedDefaultCategories();
+      return;
+    }
+    // 登録が終わる前の一覧の取得では、登録済みのデフォルトカテゴリだけを返す
+    // 登録後にスナップショットを読み込み直すため、それ以降の取得には反映される
+    applicationTaskExecutor.execute(() -> {
+      try {
+        seedDefaultCategories();
+      } catch (RuntimeException e) {
+        log.error("デフォルトカテゴリの登録に失敗しました", e);
       }
+    });
+  }
+
+  private void seedDefaultCategories() {
+    // デフォルトカテゴリのデータ作成
+    // 登録済みのバージョンと一致する場合は何もしない
+    if (defaultCategorySeeder.seed(DefaultCategories.load(defaultCategoriesResource))) {
+      // 登録したデフォルトカテゴリをスナップショットに反映する
+      systemCategorySnapshot.refresh();
     }
   }
 }
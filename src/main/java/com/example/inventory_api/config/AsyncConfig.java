@@ -0,0 +1,16 @@
+package com.example.inventory_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async} メソッドを有効にする設定
+ * <p>
+ * 実行にはSpring Bootが用意するapplicationTaskExecutorを使う。 virtual-threadsプロファイル(spring.threads.virtual.enabled=true)では
+ * 仮想スレッドで実行される。
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+}
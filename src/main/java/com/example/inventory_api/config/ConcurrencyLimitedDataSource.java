@@ -0,0 +1,109 @@
+package com.example.inventory_api.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 同時に取得できるDB接続の数を制限するDataSource
+ * <p>
+ * 仮想スレッドではリクエストごとにスレッドが作られるため、同時リクエスト数がそのままコネクションプールへの同時要求数になる。 プールの手前で公平なセマフォを使って待たせることで、
+ * プールの待ち行列に大量のスレッドが殺到するのを防ぎ、待ち時間の上限を超えたリクエストは早めに失敗させる。
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final long acquireTimeoutNanos;
+
+  /**
+   * @param targetDataSource 実際の接続を取得するDataSource
+   * @param maxConnections   同時に取得できる接続の数（コネクションプールの最大サイズに合わせる）
+   * @param acquireTimeout   接続を取得できるまで待つ時間の上限
+   */
+  public ConcurrencyLimitedDataSource(DataSource targetDataSource, int maxConnections,
+      Duration acquireTimeout) {
+    super(targetDataSource);
+    this.permits = new Semaphore(maxConnections, true);
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return limited(super.getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return limited(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * 現在すぐに取得できる接続の数
+   */
+  public int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException("DB接続の取得待ちがタイムアウトしました");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("DB接続の取得待ちが中断されました", e);
+    }
+  }
+
+  // closeされたときに1回だけ許可を返す接続に包む
+  private Connection limited(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[]{Connection.class},
+        (proxy, method, args) -> {
+          if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+            try {
+              return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            } finally {
+              if (released.compareAndSet(false, true)) {
+                permits.release();
+              }
+            }
+          }
+          if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+            if (((Class<?>) args[0]).isInstance(connection)) {
+              return "unwrap".equals(method.getName()) ? connection : true;
+            }
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException e) {
+            throw e.getCause();
+          }
+        });
+  }
+}
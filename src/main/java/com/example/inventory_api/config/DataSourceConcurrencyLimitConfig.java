@@ -0,0 +1,44 @@
+package com.example.inventory_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * DataSourceを {@link ConcurrencyLimitedDataSource} で包む設定
+ * <p>
+ * app.datasource.concurrency-limit.enabled=true の場合のみ有効。virtual-threadsプロファイルで有効にする。 同時に取得できる接続の数は、
+ * コネクションプールの最大サイズに合わせる。
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyLimitConfig {
+
+  // Hikari以外のDataSourceの場合に使う、同時に取得できる接続の数
+  private static final int DEFAULT_MAX_CONNECTIONS = 10;
+
+  @Bean
+  static BeanPostProcessor dataSourceConcurrencyLimiter(Environment environment) {
+    Duration acquireTimeout = environment.getProperty(
+        "app.datasource.concurrency-limit.acquire-timeout", Duration.class, Duration.ofSeconds(30));
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // 他のDataSourceに処理を委ねるDataSource(レプリカへの振り分けなど)は、委譲先のDataSourceで制限する
+        if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+          return bean;
+        }
+        int maxConnections = dataSource instanceof HikariDataSource hikari
+            ? hikari.getMaximumPoolSize() : DEFAULT_MAX_CONNECTIONS;
+        return new ConcurrencyLimitedDataSource(dataSource, maxConnections, acquireTimeout);
+      }
+    };
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.inventory_api.config;
+
+import com.example.inventory_api.service.CategoryListCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometerのメトリクス設定
+ * <p>
+ * HTTPリクエスト・リポジトリ呼び出し・Hikari・HibernateのメトリクスはSpring Bootが自動で登録する。 ここでは {@code @Timed}
+ * を有効にするアスペクトと、カテゴリ一覧キャッシュの統計を登録する。
+ */
+@Configuration
+public class MetricsConfig {
+
+  private static final String CATEGORY_LIST_CACHE = "categoryList";
+
+  /**
+   * {@code @Timed} を付けたクラス・メソッドの実行時間を計測する
+   */
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+
+  /**
+   * カテゴリ一覧キャッシュのヒット数・ミス数・破棄数・件数を、Micrometerのキャッシュメトリクスと同じ名前で登録する
+   */
+  @Bean
+  public MeterBinder categoryListCacheMetrics(CategoryListCache categoryListCache) {
+    return registry -> {
+      FunctionCounter.builder("cache.gets", categoryListCache, cache -> cache.getStats().hits())
+          .tag("cache", CATEGORY_LIST_CACHE)
+          .tag("result", "hit")
+          .description("キャッシュから取得できた回数")
+          .register(registry);
+      FunctionCounter.builder("cache.gets", categoryListCache, cache -> cache.getStats().misses())
+          .tag("cache", CATEGORY_LIST_CACHE)
+          .tag("result", "miss")
+          .description("キャッシュに無く、DBから読み込んだ回数")
+          .register(registry);
+      FunctionCounter.builder("cache.evictions", categoryListCache,
+              cache -> cache.getStats().evictions())
+          .tag("cache", CATEGORY_LIST_CACHE)
+          .description("件数上限またはTTLによって破棄された回数")
+          .register(registry);
+      Gauge.builder("cache.size", categoryListCache, cache -> cache.getStats().size())
+          .tag("cache", CATEGORY_LIST_CACHE)
+          .description("キャッシュ済みのユーザー数")
+          .register(registry);
+    };
+  }
+}
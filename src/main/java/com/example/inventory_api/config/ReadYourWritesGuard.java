@@ -0,0 +1,107 @@
+package com.example.inventory_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 自分が書き込んだ直後の読み取りを、レプリカではなくプライマリに振り分けるためのクラス
+ * <p>
+ * レプリカへの反映には遅れがあるため、書き込んだ直後にレプリカから読むと、書き込む前の内容が返ることがある。 書き込みのコミット時刻をユーザーごとに記録し、
+ * 一定時間(read-your-writes-window)内の読み取り専用トランザクションはプライマリから読む。 レプリカを使わない場合(app.datasource.replica.enabled=false)は何もしない。
+ */
+@Component
+public class ReadYourWritesGuard {
+
+  // 記録を掃除する目安の件数
+  private static final int CLEANUP_THRESHOLD = 10_000;
+
+  private final boolean enabled;
+  private final long windowNanos;
+
+  // ユーザーごとの最後の書き込みのコミット時刻(System.nanoTime)
+  private final ConcurrentHashMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+  // 現在のトランザクションをプライマリで実行するかどうか
+  private final ThreadLocal<Boolean> pinnedToPrimary = new ThreadLocal<>();
+
+  public ReadYourWritesGuard(
+      @Value("${app.datasource.replica.enabled}") boolean enabled,
+      @Value("${app.datasource.replica.read-your-writes-window}") Duration window
+  ) {
+    this.enabled = enabled;
+    this.windowNanos = window.toNanos();
+  }
+
+  /**
+   * ユーザーの書き込みを記録する 書き込むトランザクション内で呼び出す
+   * <p>
+   * トランザクション内の場合はコミット後に記録する。 ロールバックした書き込みは記録しない。
+   *
+   * @param userId 書き込んだユーザーのID
+   */
+  public void recordWrite(String userId) {
+    if (!enabled) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          markWritten(userId);
+        }
+      });
+    } else {
+      markWritten(userId);
+    }
+  }
+
+  /**
+   * ユーザーが直前に書き込んでいた場合、現在のトランザクションの読み取りをプライマリに振り分ける
+   * <p>
+   * 接続は最初のSQLの実行時に取得するため、読み取り専用トランザクションの中で、DBにアクセスする前に呼び出す。 指定はトランザクションの終了時に解除する。
+   *
+   * @param userId 読み取るユーザーのID
+   */
+  public void routeReads(String userId) {
+    if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()
+        || !isRecentlyWritten(userId)) {
+      return;
+    }
+    pinnedToPrimary.set(Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        pinnedToPrimary.remove();
+      }
+    });
+  }
+
+  /**
+   * 現在のトランザクションをプライマリで実行する必要があるかどうか
+   */
+  public boolean isPinnedToPrimary() {
+    return pinnedToPrimary.get() != null;
+  }
+
+  /**
+   * ユーザーが一定時間内に書き込んでいるかどうか
+   */
+  boolean isRecentlyWritten(String userId) {
+    Long writtenAt = lastWrites.get(userId);
+    return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+  }
+
+  private void markWritten(String userId) {
+    long now = System.nanoTime();
+    lastWrites.put(userId, now);
+    // 書き込んだユーザーの数だけ記録が増えるため、一定件数を超えたら期限切れの記録を消す
+    if (lastWrites.size() > CLEANUP_THRESHOLD) {
+      lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+  }
+}
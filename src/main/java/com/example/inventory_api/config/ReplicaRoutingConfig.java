@@ -0,0 +1,71 @@
+package com.example.inventory_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 読み取り専用のトランザクションをレプリカのコネクションプールに振り分ける設定
+ * <p>
+ * app.datasource.replica.enabled=true の場合のみ有効。 プライマリは spring.datasource.*、レプリカは app.datasource.replica.* の接続先を使い、
+ * それぞれ別のコネクションプールを作る。 {@code @Transactional(readOnly = true)} のメソッドはレプリカから読み、それ以外はプライマリを使う。
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("app.datasource.replica.hikari")
+  HikariDataSource replicaDataSource(
+      @Value("${app.datasource.replica.url}") String url,
+      @Value("${app.datasource.replica.username}") String username,
+      @Value("${app.datasource.replica.password:}") String password
+  ) {
+    HikariDataSource dataSource = DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .url(url)
+        .username(username)
+        .password(password)
+        .build();
+    dataSource.setPoolName("replica");
+    // レプリカには書き込まない
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  /**
+   * JPA・Flywayなどが使うDataSource
+   * <p>
+   * トランザクションの開始時点では読み取り専用かどうかが振り分けに反映されないため、最初のSQLの実行まで接続の取得を遅らせる。
+   */
+  @Bean
+  @Primary
+  DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReadYourWritesGuard readYourWritesGuard
+  ) {
+    return new LazyConnectionDataSourceProxy(
+        new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesGuard));
+  }
+}
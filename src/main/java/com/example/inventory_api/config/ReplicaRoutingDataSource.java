@@ -0,0 +1,43 @@
+package com.example.inventory_api.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 読み取り専用のトランザクションをレプリカに、それ以外をプライマリに振り分けるDataSource
+ * <p>
+ * 振り分け先は接続を取得する時点のトランザクションで決まるため、トランザクションの開始時ではなく最初のSQLの実行時に接続を取得するよう、
+ * LazyConnectionDataSourceProxyで包んで使う。 自分が書き込んだ直後の読み取りは {@link ReadYourWritesGuard} の指定に従ってプライマリに振り分ける。
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  /**
+   * 振り分け先
+   */
+  public enum Route {
+    PRIMARY, REPLICA
+  }
+
+  private final ReadYourWritesGuard readYourWritesGuard;
+
+  public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+      ReadYourWritesGuard readYourWritesGuard) {
+    this.readYourWritesGuard = readYourWritesGuard;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  // トランザクション外の処理(Flywayのマイグレーションなど)や書き込みはプライマリを使う
+  @Override
+  protected Route determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        && !readYourWritesGuard.isPinnedToPrimary()) {
+      return Route.REPLICA;
+    }
+    return Route.PRIMARY;
+  }
+}
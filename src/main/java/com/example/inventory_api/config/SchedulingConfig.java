@@ -0,0 +1,15 @@
+package com.example.inventory_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} メソッド(定期実行のジョブ)を有効にする設定
+ * <p>
+ * 実行のタイミングは各ジョブのcronのプロパティで設定する。 "-" を指定したジョブは実行しない。
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,32 @@
+package com.example.inventory_api.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 起動時間を優先するモード(startupプロファイル)の設定
+ * <p>
+ * springdoc(Swagger UI・APIドキュメント)のBeanを遅延初期化にし、起動時ではなく初回のアクセス時に作成する。 springdocのBeanはAPIの処理からは参照されないため、
+ * 他のBeanの初期化には影響しない。
+ */
+@Configuration
+@Profile("startup")
+public class StartupConfig {
+
+  private static final String SPRINGDOC_PACKAGE = "org.springdoc";
+
+  // BeanFactoryPostProcessorは他のBeanより先に作成されるため、staticで定義する
+  @Bean
+  static BeanFactoryPostProcessor lazySpringdocBeans() {
+    return beanFactory -> {
+      for (String beanName : beanFactory.getBeanDefinitionNames()) {
+        Class<?> beanType = beanFactory.getType(beanName, false);
+        if (beanType != null && beanType.getPackageName().startsWith(SPRINGDOC_PACKAGE)) {
+          beanFactory.getBeanDefinition(beanName).setLazyInit(true);
+        }
+      }
+    };
+  }
+}
@@ -1,14 +1,20 @@
 package com.example.inventory_api.controller;
 
+import com.example.inventory_api.controller.dto.CategoryBatchCreateRequest;
+import com.example.inventory_api.controller.dto.CategoryBatchResponse;
+import com.example.inventory_api.controller.dto.CategoryBatchUpdateRequest;
 import com.example.inventory_api.controller.dto.CategoryCreateRequest;
 import com.example.inventory_api.controller.dto.CategoryResponse;
+import com.example.inventory_api.controller.dto.CategorySummaryResponse;
 import com.example.inventory_api.controller.dto.CategoryUpdateRequest;
 import com.example.inventory_api.domain.model.Category;
 import com.example.inventory_api.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -35,14 +41,36 @@ public class CategoryController {
 
   /**
    * カテゴリ一覧を取得するAPI GET /categories
+   * <p>
+   * If-None-MatchのETagが現在のバージョンと一致する場合は、一覧を取得せずに304 Not Modifiedを返す。
+   * 一覧はシリアライズ済みのJSON(CategoryResponseの配列)をそのままレスポンスに書き込む。
    */
-  @GetMapping
-  public List<CategoryResponse> getCategoryList() {
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public byte[] getCategoryList(WebRequest webRequest) {
     //  TODO:認証機能実装後、実際のuserIdに置き換える
     String currentUserId = "user1";
 
-    // serviceからResponseのリストを受け取って返す
-    return categoryService.getCategoryList(currentUserId);
+    // 一覧より先にETagを取得する（逆の順序だと、古い一覧に新しいETagが付く可能性がある）
+    // checkNotModifiedはレスポンスにETagヘッダーも設定する
+    if (webRequest.checkNotModified(categoryService.getCategoryListETag(currentUserId))) {
+      return null;
+    }
+
+    // serviceからシリアライズ済みの一覧を受け取って返す
+    return categoryService.getCategoryListJson(currentUserId);
+  }
+
+  /**
+   * カテゴリごとのアイテムの集計を取得するAPI GET /categories/summary
+   * <p>
+   * 表示するカテゴリごとに、アイテムの件数・在庫数の合計・金額の合計(在庫数 × 価格)を返す。
+   */
+  @GetMapping("/summary")
+  public List<CategorySummaryResponse> getCategorySummary() {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    return categoryService.getCategorySummary(currentUserId);
   }
 
   /**
@@ -58,4 +86,40 @@ public class CategoryController {
 
     return new CategoryResponse(updatedCategory);
   }
+
+  /**
+   * カスタムカテゴリを1件削除(論理削除)するAPI DELETE /categories/{categoryId}
+   */
+  @DeleteMapping("/{categoryId}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void deleteCategory(@PathVariable Integer categoryId) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    categoryService.deleteCategory(categoryId, currentUserId);
+  }
+
+  /**
+   * カスタムカテゴリを一括登録するAPI POST /categories/batch
+   */
+  @PostMapping("/batch")
+  public CategoryBatchResponse createCategories(
+      @RequestBody @Validated CategoryBatchCreateRequest request) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    return categoryService.createCategories(request, currentUserId);
+  }
+
+  /**
+   * カスタムカテゴリを一括更新するAPI PATCH /categories/batch
+   */
+  @PatchMapping("/batch")
+  public CategoryBatchResponse updateCategories(
+      @RequestBody @Validated CategoryBatchUpdateRequest request) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    return categoryService.updateCategories(request, currentUserId);
+  }
 }
@@ -0,0 +1,128 @@
+package com.example.inventory_api.controller;
+
+import com.example.inventory_api.controller.dto.ItemImportResponse;
+import com.example.inventory_api.controller.dto.ItemQuantityAdjustRequest;
+import com.example.inventory_api.controller.dto.ItemQuantityResponse;
+import com.example.inventory_api.controller.dto.ItemResponse;
+import com.example.inventory_api.controller.dto.ItemThresholdUpdateRequest;
+import com.example.inventory_api.service.ItemExportFormat;
+import com.example.inventory_api.service.ItemExportService;
+import com.example.inventory_api.service.ItemImportService;
+import com.example.inventory_api.service.ItemPage;
+import com.example.inventory_api.service.ItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/items")
+@RequiredArgsConstructor
+public class ItemController {
+
+  // 次ページを取得するためのカーソルを返すレスポンスヘッダー
+  static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  private final ItemService itemService;
+  private final ItemExportService itemExportService;
+  private final ItemImportService itemImportService;
+
+  /**
+   * カテゴリ内のアイテム一覧を取得するAPI GET /items?categoryId={id}
+   * <p>
+   * 次ページがある場合は、X-Next-Cursorヘッダーに次ページ取得用のカーソルを返す。
+   */
+  @GetMapping
+  public ResponseEntity<List<ItemResponse>> getItemList(
+      @RequestParam Integer categoryId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    ItemPage page = itemService.getItemList(categoryId, cursor, limit, currentUserId);
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (page.nextCursor() != null) {
+      response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+    }
+    return response.body(page.items());
+  }
+
+  /**
+   * 在庫が少ないアイテムの一覧を取得するAPI GET /items/low-stock
+   */
+  @GetMapping("/low-stock")
+  public List<ItemResponse> getLowStockItems(@RequestParam(required = false) Integer limit) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    return itemService.getLowStockItems(limit, currentUserId);
+  }
+
+  /**
+   * ユーザーの全アイテムをエクスポートするAPI GET /items/export?format={ndjson|csv}
+   * <p>
+   * アイテムをまとめて読み込まず、DBから読んだ順にレスポンスへ書き出す。
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportItems(
+      @RequestParam(required = false) String format) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    // 形式のチェックは書き出し開始前に行い、不正な場合は400を返す
+    ItemExportFormat exportFormat = ItemExportFormat.from(format);
+    StreamingResponseBody body = out -> itemExportService.export(currentUserId, exportFormat, out);
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(exportFormat.getFileName()).build().toString())
+        .body(body);
+  }
+
+  /**
+   * CSVからアイテムを一括登録するAPI POST /items/import
+   * <p>
+   * リクエストボディのCSVを読み込みながら登録する。 不正な行は読み飛ばし、行番号とエラー内容をレスポンスで返す。
+   */
+  @PostMapping(value = "/import", consumes = "text/csv")
+  public ItemImportResponse importItems(InputStream csv) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    return itemImportService.importItems(csv, currentUserId);
+  }
+
+  /**
+   * アイテムの在庫数を増減するAPI POST /items/{itemId}/quantity:adjust
+   */
+  @PostMapping("/{itemId}/quantity:adjust")
+  public ItemQuantityResponse adjustQuantity(@PathVariable Integer itemId,
+      @RequestBody @Validated ItemQuantityAdjustRequest request) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    return itemService.adjustQuantity(itemId, request.getDelta(), currentUserId);
+  }
+
+  /**
+   * アイテムのしきい値を更新するAPI PATCH /items/{itemId}/threshold
+   */
+  @PatchMapping("/{itemId}/threshold")
+  public ItemResponse updateThreshold(@PathVariable Integer itemId,
+      @RequestBody @Validated ItemThresholdUpdateRequest request) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    return itemService.updateThreshold(itemId, request.getThreshold(), currentUserId);
+  }
+}
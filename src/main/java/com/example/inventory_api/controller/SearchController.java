@@ -0,0 +1,32 @@
+package com.example.inventory_api.controller;
+
+import com.example.inventory_api.controller.dto.SearchResultResponse;
+import com.example.inventory_api.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+  private final SearchService searchService;
+
+  /**
+   * アイテム名・カテゴリ名を検索するAPI GET /search?q={検索語}
+   */
+  @GetMapping
+  public List<SearchResultResponse> search(
+      @RequestParam String q,
+      @RequestParam(required = false) Integer limit) {
+    // TODO: 認証機能実装後、実際のuserIdに置き換える
+    String currentUserId = "user1";
+
+    return searchService.search(q, limit, currentUserId);
+  }
+}
@@ -1,23 +1,29 @@
 package com.example.inventory_api.controller.advice;
 
 import com.example.inventory_api.controller.dto.ErrorResponse;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 @RestControllerAdvice // 全ての@RestControllerに対する共通処理を担うクラスであることを宣言
+@RequiredArgsConstructor
 public class CustomExceptionHandler {
 
-  // Service層で定義するエラーメッセージの接頭辞
-  private static final String DUPLICATE_PREFIX = "DUPLICATE:";
-  private static final String LIMIT_PREFIX = "LIMIT:";
-  private static final String NOT_FOUND_PREFIX = "NOT_FOUND:";
-  private static final String FORBIDDEN_PREFIX = "FORBIDDEN:";
+  private final MeterRegistry meterRegistry;
+
+  // エラーの発生件数を記録するメトリクス名
+  private static final String METRIC_ERRORS = "api.errors";
 
   // エラーメッセージを定数化
   private static final String MSG_VALIDATION_ERROR = "不正なリクエストです";
@@ -28,11 +34,13 @@ public class CustomExceptionHandler {
   // DTOのバリデーションメッセージに含まれる部分文字列
   private static final String PARTIAL_MSG_REQUIRED = "必須です";
   private static final String PARTIAL_MSG_TOO_LONG = "50文字以内で入力してください";
+  private static final String FIELD_NAME = "name";
 
   // 404 Not Found
   @ExceptionHandler(NoHandlerFoundException.class)
   @ResponseStatus(HttpStatus.NOT_FOUND)
   public ErrorResponse handleNoHandlerFoundException(NoHandlerFoundException e) {
+    countError("NOT_FOUND", HttpStatus.NOT_FOUND);
     return new ErrorResponse("NOT_FOUND", MSG_NOT_FOUND);
   }
 
@@ -44,15 +52,14 @@ public class CustomExceptionHandler {
     FieldError fieldError = e.getBindingResult().getFieldError();
 
     if (fieldError == null) {
-      ErrorResponse errorResponse = new ErrorResponse("VALIDATION_ERROR", MSG_VALIDATION_ERROR);
-      return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+      return errorResponse("VALIDATION_ERROR", MSG_VALIDATION_ERROR, HttpStatus.BAD_REQUEST);
     }
 
     String errorMessage = fieldError.getDefaultMessage();
     String errorCode;
 
-    // エラーメッセージの内容に応じて、API仕様書のエラーコードを判定
-    if (errorMessage != null) {
+    // エラーメッセージの内容に応じて、API仕様書のエラーコードを判定（カテゴリ名の項目のみ）
+    if (errorMessage != null && FIELD_NAME.equals(fieldError.getField())) {
       if (errorMessage.contains(PARTIAL_MSG_REQUIRED)) {
         errorCode = "CATEGORY_NAME_REQUIRED";
       } else if (errorMessage.contains(PARTIAL_MSG_TOO_LONG)) {
@@ -64,45 +71,62 @@ public class CustomExceptionHandler {
       errorCode = "VALIDATION_ERROR";
     }
 
-    ErrorResponse errorResponse = new ErrorResponse(errorCode, errorMessage);
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    return errorResponse(errorCode, errorMessage, HttpStatus.BAD_REQUEST);
   }
 
-  // 400 or 409: Service層で発生したエラーをハンドリング
-  @ExceptionHandler(IllegalStateException.class)
-  public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException e) {
-    String message = e.getMessage();
-    if (message.startsWith(DUPLICATE_PREFIX)) {
-      ErrorResponse errorResponse = new ErrorResponse("CATEGORY_NAME_DUPLICATE",
-          message.substring(DUPLICATE_PREFIX.length()));
-      return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT); // 409
-    }
-    if (message.startsWith(LIMIT_PREFIX)) {
-      ErrorResponse errorResponse = new ErrorResponse("CATEGORY_LIMIT_EXCEEDED",
-          message.substring(LIMIT_PREFIX.length()));
-      return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST); // 400
-    }
-    if (message.startsWith(NOT_FOUND_PREFIX)) {
-      ErrorResponse errorResponse = new ErrorResponse("NOT_FOUND_ERROR", message.substring(10));
-      return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND); // 404
-    }
-    if (message.startsWith(FORBIDDEN_PREFIX)) {
-      ErrorResponse errorResponse = new ErrorResponse("DEFAULT_CATEGORY_IMMUTABLE",
-          message.substring(10));
-      return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN); // 403
-    }
+  // 400 Bad Request: クエリパラメータの不足・型不一致
+  @ExceptionHandler({MissingServletRequestParameterException.class,
+      MethodArgumentTypeMismatchException.class})
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ErrorResponse handleRequestParameterException(Exception e) {
+    countError("BAD_REQUEST", HttpStatus.BAD_REQUEST);
+    return new ErrorResponse("BAD_REQUEST", MSG_BAD_REQUEST);
+  }
 
-    // その他のIllegalStateExceptionは汎用的な400エラーとして返す
-    ErrorResponse errorResponse = new ErrorResponse("BAD_REQUEST", MSG_BAD_REQUEST);
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST); // 400
+  // 400/403/404/409: Service層で発生した業務エラーをハンドリング
+  @ExceptionHandler(BusinessException.class)
+  public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+    ErrorCode errorCode = e.getErrorCode();
+    return errorResponse(errorCode.name(), e.getMessage(), statusOf(errorCode));
   }
 
   // 500 Internal Server Error: 予期せぬエラー全般をハンドリング
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleAllUncaughtException(Exception e) {
-    ErrorResponse errorResponse = new ErrorResponse("INTERNAL_SERVER_ERROR",
-        MSG_INTERNAL_SERVER_ERROR);
     // 本番環境ではここで詳細なエラーログを出力することが重要
-    return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    return errorResponse("INTERNAL_SERVER_ERROR", MSG_INTERNAL_SERVER_ERROR,
+        HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  /**
+   * 業務エラーの種類に対応するHTTPステータスを返す
+   */
+  private static HttpStatus statusOf(ErrorCode errorCode) {
+    return switch (errorCode) {
+      case CATEGORY_NAME_DUPLICATE, ITEM_QUANTITY_CONFLICT, CATEGORY_NOT_EMPTY, CATEGORY_CONFLICT ->
+          HttpStatus.CONFLICT; // 409
+      case NOT_FOUND_ERROR, CATEGORY_NOT_FOUND -> HttpStatus.NOT_FOUND; // 404
+      case DEFAULT_CATEGORY_IMMUTABLE -> HttpStatus.FORBIDDEN; // 403
+      case CATEGORY_LIMIT_EXCEEDED, INVALID_CURSOR, INVALID_CSV, INVALID_SEARCH_QUERY, INVALID_EXPORT_FORMAT ->
+          HttpStatus.BAD_REQUEST; // 400
+    };
+  }
+
+  /**
+   * エラーの発生件数を記録したうえで、エラーレスポンスを組み立てる
+   */
+  private ResponseEntity<ErrorResponse> errorResponse(String errorCode, String message,
+      HttpStatus status) {
+    countError(errorCode, status);
+    return new ResponseEntity<>(new ErrorResponse(errorCode, message), status);
+  }
+
+  /**
+   * エラーコード・ステータスごとの発生件数を記録する
+   */
+  private void countError(String errorCode, HttpStatus status) {
+    meterRegistry.counter(METRIC_ERRORS,
+        "code", errorCode,
+        "status", String.valueOf(status.value())).increment();
   }
 }
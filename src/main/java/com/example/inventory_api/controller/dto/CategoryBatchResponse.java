@@ -0,0 +1,24 @@
+package com.example.inventory_api.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategoryBatchResponse {
+
+  private int succeeded;
+  private int failed;
+  // リクエストと同じ順序の結果
+  private List<CategoryBatchResult> results;
+
+  public CategoryBatchResponse(List<CategoryBatchResult> results) {
+    this.results = results;
+    this.succeeded = (int) results.stream().filter(result -> result.getError() == null).count();
+    this.failed = results.size() - this.succeeded;
+  }
+}
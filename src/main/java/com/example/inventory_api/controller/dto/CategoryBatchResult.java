@@ -0,0 +1,27 @@
+package com.example.inventory_api.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 一括登録・更新の1件分の結果。成功時はcategory、失敗時はerrorのみを返す
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CategoryBatchResult {
+
+  // リクエスト内での位置(0始まり)
+  private int index;
+  private CategoryResponse category;
+  private ErrorResponse error;
+
+  public static CategoryBatchResult success(int index, CategoryResponse category) {
+    return new CategoryBatchResult(index, category, null);
+  }
+
+  public static CategoryBatchResult failure(int index, String code, String message) {
+    return new CategoryBatchResult(index, null, new ErrorResponse(code, message));
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.inventory_api.controller.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CategoryBatchUpdateRequest {
+
+  // 各カテゴリの検証結果は1件ずつレスポンスで返すため、ここでは件数のみ検証する
+  @NotEmpty(message = "カテゴリを1件以上指定してください")
+  @Size(max = 100, message = "一度に更新できるカテゴリは100件までです")
+  private List<CategoryBatchUpdateItem> categories;
+}
@@ -0,0 +1,29 @@
+package com.example.inventory_api.controller.dto;
+
+import com.example.inventory_api.domain.repository.CategoryRepository.CategorySummary;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategorySummaryResponse {
+
+  private Integer id;
+  private String name;
+  // 未削除のアイテムの件数
+  private long itemCount;
+  // 在庫数の合計
+  private long totalQuantity;
+  // 在庫数 × 価格 の合計
+  private long totalValue;
+
+  public CategorySummaryResponse(CategorySummary summary) {
+    this.id = summary.getCategoryId();
+    this.name = summary.getCategoryName();
+    this.itemCount = summary.getItemCount();
+    this.totalQuantity = summary.getTotalQuantity();
+    this.totalValue = summary.getTotalValue();
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.inventory_api.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// インポートで取り込めなかった行
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemImportError {
+
+  // CSVの行番号(1始まり、ヘッダー行を含む)
+  private int line;
+  private String code;
+  private String message;
+}
@@ -0,0 +1,19 @@
+package com.example.inventory_api.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// インポート結果 取り込んだ行数と、取り込めなかった行の一覧
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemImportResponse {
+
+  private int accepted;
+  private int rejected;
+  // 取り込めなかった行(件数が多い場合は先頭から一定件数まで)
+  private List<ItemImportError> errors;
+}
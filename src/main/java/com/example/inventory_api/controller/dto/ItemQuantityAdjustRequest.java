@@ -0,0 +1,16 @@
+package com.example.inventory_api.controller.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ItemQuantityAdjustRequest {
+
+  // 在庫数に加算する数(減らす場合は負の数)
+  @NotNull(message = "増減する数は必須です")
+  @Min(value = -1000, message = "増減する数は-1000から1000の範囲で入力してください")
+  @Max(value = 1000, message = "増減する数は-1000から1000の範囲で入力してください")
+  private Integer delta;
+}
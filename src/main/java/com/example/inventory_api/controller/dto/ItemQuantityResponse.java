@@ -0,0 +1,15 @@
+package com.example.inventory_api.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemQuantityResponse {
+
+  private Integer id;
+  // 増減を反映した後の在庫数
+  private Integer quantity;
+}
@@ -0,0 +1,26 @@
+package com.example.inventory_api.controller.dto;
+
+import com.example.inventory_api.domain.model.Item;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemResponse {
+
+  private Integer id;
+  private Integer categoryId;
+  private String name;
+  private Integer quantity;
+  private Integer threshold;
+
+  public ItemResponse(Item item) {
+    this.id = item.getId();
+    this.categoryId = item.getCategoryId();
+    this.name = item.getName();
+    this.quantity = item.getQuantity();
+    this.threshold = item.getThreshold();
+  }
+}
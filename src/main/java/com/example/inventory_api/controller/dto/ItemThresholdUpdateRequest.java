@@ -0,0 +1,12 @@
+package com.example.inventory_api.controller.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class ItemThresholdUpdateRequest {
+
+  // 在庫が少ないと判定するしきい値。nullの場合はしきい値を解除する
+  @Min(value = 0, message = "しきい値は0以上の整数で入力してください")
+  private Integer threshold;
+}
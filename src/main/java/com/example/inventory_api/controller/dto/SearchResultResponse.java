@@ -0,0 +1,26 @@
+package com.example.inventory_api.controller.dto;
+
+import com.example.inventory_api.service.SearchDocument;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchResultResponse {
+
+  // CATEGORY または ITEM
+  private String type;
+  private Integer id;
+  // アイテムのカテゴリID。カテゴリの場合はnull
+  private Integer categoryId;
+  private String name;
+
+  public SearchResultResponse(SearchDocument document) {
+    this.type = document.type().name();
+    this.id = document.id();
+    this.categoryId = document.categoryId();
+    this.name = document.name();
+  }
+}
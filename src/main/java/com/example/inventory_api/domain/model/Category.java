@@ -1,19 +1,38 @@
 package com.example.inventory_api.domain.model;
 
+import com.example.inventory_api.domain.support.CategoryNames;
+import com.example.inventory_api.domain.support.CategorySortKeys;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Entity
-@Table(name = "categories")
+@Table(name = "categories", indexes = {
+    // 一覧取得をインデックス順に読めるよう、ソートキーまで含める。(user_id, deleted)での件数取得にも使う
+    @Index(name = "idx_categories_user_id_deleted_sort_key", columnList = "user_id, deleted, sort_key"),
+    // カテゴリ名の重複チェック用
+    @Index(name = "idx_categories_user_id_normalized_name", columnList = "user_id, normalized_name")
+})
 @NoArgsConstructor
-@AllArgsConstructor
+// 件数が少なく更新も少ないため、2次キャッシュに載せる。保存・更新時はHibernateがキャッシュも更新する
+// ただしアイテムの登録・削除で実行するアイテム数の一括UPDATE(CategoryRepository.addItemCount)では、Hibernateがリージョン全体と
+// カテゴリを対象にしたクエリキャッシュを無効にする。アイテムの更新が多い間はキャッシュにヒットしにくい
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Category.CACHE_REGION)
 public class Category {
 
+  // 2次キャッシュのリージョン名(application.confでキャッシュの設定を行う)
+  public static final String CACHE_REGION = "categories";
+
+  // IDENTITYではHibernateがINSERTをバッチ化できないため、まとめて払い出せるシーケンスを使う
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+  @SequenceGenerator(name = "categories_seq", sequenceName = "categories_seq", allocationSize = 50)
   private Integer id;
 
   private String userId;
@@ -22,13 +41,53 @@ public class Category {
 
   private Boolean deleted;
 
+  // 辞書順ソート用のキー。nameの設定時に自動で再計算する
+  @Setter(AccessLevel.NONE)
+  @Column(length = 1024)
+  private byte[] sortKey;
+
+  // 重複チェック用に正規化したカテゴリ名。nameの設定時に自動で再計算する
+  @Setter(AccessLevel.NONE)
+  private String normalizedName;
+
+  // 未削除のアイテムの件数。アイテムの登録と同じトランザクションで増減する(CategoryRepository.addItemCount)
+  @Setter(AccessLevel.NONE)
+  private Integer itemCount = 0;
+
+  // 楽観ロック用のバージョン。削除時に、読み込んだ後でアイテムが登録されていないことを確認するために使う
+  @Version
+  private Long version;
+
   public Category(
+      Integer id,
       String userId,
       String name,
       Boolean deleted
   ) {
+    this.id = id;
     this.userId = userId;
-    this.name = name;
     this.deleted = deleted;
+    setName(name);
+  }
+
+  public Category(
+      String userId,
+      String name,
+      Boolean deleted
+  ) {
+    this(null, userId, name, deleted);
+  }
+
+  public void setName(String name) {
+    this.name = name;
+    refreshNameKeys();
+  }
+
+  /**
+   * 現在のカテゴリ名からソートキーと正規化名を再計算する
+   */
+  private void refreshNameKeys() {
+    this.sortKey = CategorySortKeys.of(name);
+    this.normalizedName = CategoryNames.normalize(name);
   }
 }
@@ -0,0 +1,23 @@
+package com.example.inventory_api.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// ユーザーごとのカスタムカテゴリ登録数を管理するカウンター
+@Data
+@Entity
+@Table(name = "category_quotas")
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryQuota {
+
+  @Id
+  private String userId;
+
+  // 登録済み(未削除)のカスタムカテゴリ数
+  private Integer usedCount;
+}
@@ -1,17 +1,31 @@
 package com.example.inventory_api.domain.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Data
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = {
+    // アイテム一覧のキーセットページング用(更新日時の降順、同時刻はID降順)。外部キー(カテゴリ)の参照にも使う
+    @Index(name = "idx_items_category_id_user_id_deleted_updated_at_id",
+        columnList = "category_id, user_id, deleted, updated_at, id"),
+    // 在庫が少ないアイテムの検索用(在庫数 - しきい値 が0以下の範囲だけを読む)
+    @Index(name = "idx_items_user_id_deleted_stock_margin_id",
+        columnList = "user_id, deleted, stock_margin, id"),
+    // ユーザーの全アイテムの読み込み用(エクスポート、インポート時の重複チェック)
+    @Index(name = "idx_items_user_id_deleted_id", columnList = "user_id, deleted, id")
+})
 public class Item {
 
+  // IDENTITYではHibernateがINSERTをバッチ化できないため、まとめて払い出せるシーケンスを使う
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+  @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
   private Integer id;
 
   private Integer categoryId;
@@ -22,6 +36,13 @@ public class Item {
 
   private Integer quantity;
 
+  // 在庫が少ないと判定するしきい値。在庫数がこの値以下になると在庫が少ないアイテムとして扱う。nullの場合は判定しない
+  private Integer threshold;
+
+  // 在庫数 - しきい値。在庫数・しきい値の設定時に自動で再計算する
+  @Setter(AccessLevel.NONE)
+  private Integer stockMargin;
+
   private Integer price;
 
   private String place;
@@ -30,4 +51,41 @@ public class Item {
 
   private LocalDateTime created;
 
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  public void setQuantity(Integer quantity) {
+    this.quantity = quantity;
+    refreshStockMargin();
+  }
+
+  public void setThreshold(Integer threshold) {
+    this.threshold = threshold;
+    refreshStockMargin();
+  }
+
+  private void refreshStockMargin() {
+    this.stockMargin = quantity == null || threshold == null ? null : quantity - threshold;
+  }
+
+  /**
+   * 登録時に作成日時と更新日時を設定する
+   */
+  @PrePersist
+  void onCreate() {
+    touch();
+    if (created == null) {
+      created = updatedAt;
+    }
+  }
+
+  /**
+   * 登録・更新のたびに更新日時を設定する
+   * <p>
+   * DBのTIMESTAMPの精度(マイクロ秒)に揃えておき、ページングのカーソルに使う値とDBの値を一致させる。
+   */
+  @PreUpdate
+  void touch() {
+    updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+  }
 }
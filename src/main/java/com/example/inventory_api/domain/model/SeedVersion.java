@@ -0,0 +1,24 @@
+package com.example.inventory_api.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 起動時に登録する初期データの、登録済みのバージョン
+@Data
+@Entity
+@Table(name = "seed_versions")
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeedVersion {
+
+  // 初期データの種類
+  @Id
+  private String name;
+
+  // 登録済みのバージョン(0は未登録)
+  private Integer version;
+}
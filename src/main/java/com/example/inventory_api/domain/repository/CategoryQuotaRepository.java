@@ -0,0 +1,58 @@
+package com.example.inventory_api.domain.repository;
+
+import com.example.inventory_api.domain.model.CategoryQuota;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+// CategoryQuotaエンティティとやり取りを行うリポジトリ（インターフェース）
+public interface CategoryQuotaRepository extends JpaRepository<CategoryQuota, String> {
+
+  /**
+   * 登録数が上限未満の場合のみ、登録数を1件加算する
+   * <p>
+   * 判定と加算を1つのUPDATE文で行うため、同一ユーザーの同時リクエストでも上限を超えない。 更新した行はトランザクション終了までロックされ、他のユーザーの行には影響しない。
+   *
+   * @param userId ユーザーID
+   * @param limit  登録数の上限
+   * @return 更新件数。加算できなかった場合(上限到達またはカウンター未作成)は0
+   */
+  @Modifying
+  @Query("""
+      UPDATE CategoryQuota q
+      SET q.usedCount = q.usedCount + 1
+      WHERE q.userId = :userId
+      AND q.usedCount < :limit
+      """)
+  int incrementIfBelow(@Param("userId") String userId, @Param("limit") int limit);
+
+  /**
+   * 登録数を1件減算する カスタムカテゴリの削除時に使用
+   *
+   * @param userId ユーザーID
+   * @return 更新件数。カウンター未作成または登録数が0の場合は0
+   */
+  @Modifying
+  @Query("""
+      UPDATE CategoryQuota q
+      SET q.usedCount = q.usedCount - 1
+      WHERE q.userId = :userId
+      AND q.usedCount > 0
+      """)
+  int decrement(@Param("userId") String userId);
+
+  /**
+   * カウンター行を行ロック付きで取得する 一括登録で残り枠を計算する際に使用
+   *
+   * @param userId ユーザーID
+   * @return カウンター
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT q FROM CategoryQuota q WHERE q.userId = :userId")
+  Optional<CategoryQuota> findForUpdate(@Param("userId") String userId);
+}
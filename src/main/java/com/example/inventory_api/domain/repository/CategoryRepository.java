@@ -1,40 +1,206 @@
 package com.example.inventory_api.domain.repository;
 
 import com.example.inventory_api.domain.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 // Categoryエンティティとやり取りを行うリポジトリ（インターフェース）
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 
+  // findByUserIdAndDeletedFalseOrderBySortKeyAscIdAscの結果をキャッシュするリージョン名
+  String USER_CATEGORIES_CACHE_REGION = "user-categories";
+
   /**
-   * 指定した名称とユーザーIDに一致し、かつ論理削除されていないカテゴリを検索 DataInitializerでの重複チェックに使用
+   * ログインユーザーのカスタムカテゴリと、システムのデフォルトカテゴリの一覧を取得
    *
-   * @param name   カテゴリ名
-   * @param userId ユーザーID
-   * @return 条件に一致するカテゴリのリスト
+   * @param userId       ログインユーザーのID
+   * @param systemUserId システムユーザーのID
+   * @return ログインユーザーの未削除カテゴリと、システムの未削除カテゴリの合算リスト（辞書順）
    */
-  // TODO: SQLでの取得に変更したい
-  List<Category> findByNameAndUserIdAndDeletedFalse(String name, String userId);
+  @Query("""
+      SELECT c
+      FROM Category c
+      WHERE c.userId IN (:userId, :systemUserId)
+      AND c.deleted = false
+      ORDER BY c.sortKey, c.id
+      """)
+  List<Category> findUserCategories(
+      @Param("userId") String userId,
+      @Param("systemUserId") String systemUserId
+  );
 
   /**
-   * ログインユーザーのカスタムカテゴリと、システムのデフォルトカテゴリの一覧を取得
+   * ログインユーザーに表示するカテゴリ(findUserCategoriesと同じ条件)ごとに、アイテムの件数・在庫数の合計・金額の合計を集計する
+   * <p>
+   * カテゴリにアイテムを外部結合し、1回のGROUP BYで全カテゴリ分を集計する。 アイテムのないカテゴリは件数・合計を0で返す。
    *
    * @param userId       ログインユーザーのID
    * @param systemUserId システムユーザーのID
-   * @return ログインユーザーの未削除カテゴリと、システムの未削除カテゴリの合算リスト
-   */
-  @Query(value = """
-      SELECT *
-      FROM categories
-      WHERE user_id IN (:userId, :systemUserId)
-      AND deleted = false
-      """, nativeQuery = true)
-  List<Category> findUserCategories(
+   * @return カテゴリごとの集計結果（辞書順）
+   */
+  @Query("""
+      SELECT c.id AS categoryId, c.name AS categoryName,
+        COUNT(i.id) AS itemCount,
+        COALESCE(SUM(i.quantity), 0) AS totalQuantity,
+        COALESCE(SUM(CAST(i.quantity AS Long) * i.price), 0) AS totalValue
+      FROM Category c
+      LEFT JOIN Item i ON i.categoryId = c.id AND i.userId = :userId AND i.deleted = false
+      WHERE c.userId IN (:userId, :systemUserId)
+      AND c.deleted = false
+      GROUP BY c.id, c.name, c.sortKey
+      ORDER BY c.sortKey, c.id
+      """)
+  List<CategorySummary> summarizeUserCategories(
       @Param("userId") String userId,
       @Param("systemUserId") String systemUserId
   );
+
+  /**
+   * 指定したユーザーの未削除カテゴリを辞書順で取得
+   * <p>
+   * カテゴリ一覧(GET /categories)がCategoryListCacheにヒットしない場合に発行するクエリのため、結果はクエリキャッシュに載せる。
+   * categoriesテーブルを更新すると、Hibernateがキャッシュした結果を無効にする。
+   *
+   * @param userId ユーザーID
+   * @return 指定したユーザーの未削除カテゴリのリスト（辞書順）
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_CATEGORIES_CACHE_REGION)
+  })
+  List<Category> findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(String userId);
+
+  /**
+   * ログインユーザーのカスタムカテゴリとシステムのデフォルトカテゴリの中に、正規化後の名前が一致する未削除カテゴリが存在するか判定
+   *
+   * @param userId         ログインユーザーのID
+   * @param systemUserId   システムユーザーのID
+   * @param normalizedName 正規化したカテゴリ名
+   * @param excludeId      判定から除外するカテゴリID (更新時に使用)。除外しない場合はnull
+   * @return 一致するカテゴリが存在する場合はtrue
+   */
+  @Query("""
+      SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END
+      FROM Category c
+      WHERE c.userId IN (:userId, :systemUserId)
+      AND c.normalizedName = :normalizedName
+      AND c.deleted = false
+      AND (:excludeId IS NULL OR c.id <> :excludeId)
+      """)
+  boolean existsDuplicateName(
+      @Param("userId") String userId,
+      @Param("systemUserId") String systemUserId,
+      @Param("normalizedName") String normalizedName,
+      @Param("excludeId") Integer excludeId
+  );
+
+  /**
+   * 指定したユーザーの未削除カテゴリの件数を取得 カスタムカテゴリの上限チェックに使用
+   *
+   * @param userId ユーザーID
+   * @return 未削除カテゴリの件数
+   */
+  long countByUserIdAndDeletedFalse(String userId);
+
+  /**
+   * IDに一致する未削除のカテゴリを取得
+   *
+   * @param id カテゴリID
+   * @return 条件に一致するカテゴリ
+   */
+  Optional<Category> findByIdAndDeletedFalse(Integer id);
+
+  /**
+   * 未削除のカテゴリのアイテム数を増減し、バージョンを進める アイテムの登録と同じトランザクションで呼び出す
+   * <p>
+   * エンティティを読み込まずに1回のUPDATEで増減するため、同時に登録しても増減が失われない。 バージョンも進めるため、先にカテゴリを読み込んでいた削除処理は楽観ロックで失敗する。
+   * カテゴリが先に削除されていた場合は更新しない。
+   * <p>
+   * 一括UPDATEのため、Hibernateはカテゴリの2次キャッシュのリージョン全体と、カテゴリのクエリキャッシュを無効にする。
+   *
+   * @param id    カテゴリID
+   * @param delta 増減する件数
+   * @return 更新した件数（カテゴリが存在しない、または削除済みの場合は0）
+   */
+  @Modifying
+  @Query("""
+      UPDATE Category c
+      SET c.itemCount = c.itemCount + :delta, c.version = c.version + 1
+      WHERE c.id = :id
+      AND c.deleted = false
+      """)
+  int addItemCount(@Param("id") Integer id, @Param("delta") int delta);
+
+  /**
+   * アイテム数のカウンターが実際の未削除アイテムの件数と一致しないカテゴリを取得する
+   *
+   * @return カウンターと実際の件数が異なるカテゴリ
+   */
+  @Query("""
+      SELECT c.id AS categoryId, c.itemCount AS recordedCount, COUNT(i.id) AS actualCount
+      FROM Category c
+      LEFT JOIN Item i ON i.categoryId = c.id AND i.deleted = false
+      GROUP BY c.id, c.itemCount
+      HAVING c.itemCount <> COUNT(i.id)
+      """)
+  List<ItemCountMismatch> findItemCountMismatches();
+
+  /**
+   * アイテム数のカウンターを実際の件数に修正する
+   * <p>
+   * 照合した後にカウンターが増減されていた場合は、照合結果が古いため更新しない。
+   *
+   * @param id            カテゴリID
+   * @param recordedCount 照合時のカウンターの値
+   * @param actualCount   実際の件数
+   * @return 更新した件数
+   */
+  @Modifying
+  @Query("""
+      UPDATE Category c
+      SET c.itemCount = :actualCount, c.version = c.version + 1
+      WHERE c.id = :id
+      AND c.itemCount = :recordedCount
+      """)
+  int correctItemCount(
+      @Param("id") Integer id,
+      @Param("recordedCount") int recordedCount,
+      @Param("actualCount") int actualCount
+  );
+
+  /**
+   * カテゴリごとのアイテムの集計結果
+   */
+  interface CategorySummary {
+
+    Integer getCategoryId();
+
+    String getCategoryName();
+
+    Long getItemCount();
+
+    Long getTotalQuantity();
+
+    Long getTotalValue();
+  }
+
+  /**
+   * アイテム数のカウンターと実際の件数の差
+   */
+  interface ItemCountMismatch {
+
+    Integer getCategoryId();
+
+    Integer getRecordedCount();
+
+    Long getActualCount();
+  }
 }
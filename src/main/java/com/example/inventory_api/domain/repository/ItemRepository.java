@@ -1,8 +1,214 @@
 package com.example.inventory_api.domain.repository;
 
 import com.example.inventory_api.domain.model.Item;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ItemRepository extends JpaRepository<Item, Integer> {
 
+  /**
+   * カテゴリ内のアイテム一覧の先頭ページを取得する 更新日時の降順、同時刻はIDの降順
+   *
+   * @param userId     ユーザーID
+   * @param categoryId カテゴリID
+   * @param limit      取得件数
+   * @return アイテムのリスト
+   */
+  @Query("""
+      SELECT i FROM Item i
+      WHERE i.userId = :userId AND i.categoryId = :categoryId AND i.deleted = false
+      ORDER BY i.updatedAt DESC, i.id DESC
+      """)
+  List<Item> findFirstPage(
+      @Param("userId") String userId,
+      @Param("categoryId") Integer categoryId,
+      Limit limit
+  );
+
+  /**
+   * カテゴリ内のアイテム一覧について、前ページの最後のアイテムより後ろを取得する
+   * <p>
+   * OFFSETを使わず、(updated_at, id)の複合インデックスを前ページの位置から読み進めるため、 何ページ目でも取得コストが変わらない。
+   * ORの条件だけではインデックスを読み始める位置に使えないため、 updated_at &lt;= :updatedAt の条件を重ねて範囲の開始位置を指定する。
+   *
+   * @param userId     ユーザーID
+   * @param categoryId カテゴリID
+   * @param updatedAt  前ページの最後のアイテムの更新日時
+   * @param id         前ページの最後のアイテムのID
+   * @param limit      取得件数
+   * @return アイテムのリスト
+   */
+  @Query("""
+      SELECT i FROM Item i
+      WHERE i.userId = :userId AND i.categoryId = :categoryId AND i.deleted = false
+        AND i.updatedAt <= :updatedAt
+        AND (i.updatedAt < :updatedAt OR (i.updatedAt = :updatedAt AND i.id < :id))
+      ORDER BY i.updatedAt DESC, i.id DESC
+      """)
+  List<Item> findNextPage(
+      @Param("userId") String userId,
+      @Param("categoryId") Integer categoryId,
+      @Param("updatedAt") LocalDateTime updatedAt,
+      @Param("id") Integer id,
+      Limit limit
+  );
+
+  /**
+   * ユーザーの全アイテムを1件ずつ読み込むストリームを取得する エクスポートで使用
+   * <p>
+   * 結果をまとめてヒープに載せないよう、JDBCのフェッチサイズ単位でDBから読み進める。 呼び出し元はトランザクション内でストリームをcloseすること。
+   *
+   * @param userId ユーザーID
+   * @return アイテムのストリーム（ID順）
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT i FROM Item i WHERE i.userId = :userId AND i.deleted = false ORDER BY i.id")
+  Stream<Item> streamByUserId(@Param("userId") String userId);
+
+  /**
+   * ユーザーの未削除アイテムのカテゴリIDと名前を取得する インポート時の重複チェックに使用
+   *
+   * @param userId ユーザーID
+   * @return カテゴリIDとアイテム名のリスト
+   */
+  @Query("""
+      SELECT i.categoryId AS categoryId, i.name AS name FROM Item i
+      WHERE i.userId = :userId AND i.deleted = false
+      """)
+  List<CategoryItemName> findItemNamesByUserId(@Param("userId") String userId);
+
+  /**
+   * ユーザーの未削除アイテムのID・カテゴリID・名前を取得する 検索の索引の作成に使用
+   *
+   * @param userId ユーザーID
+   * @return アイテムのID・カテゴリID・名前のリスト
+   */
+  @Query("""
+      SELECT i.id AS id, i.categoryId AS categoryId, i.name AS name FROM Item i
+      WHERE i.userId = :userId AND i.deleted = false
+      """)
+  List<ItemName> findItemNamesWithIdByUserId(@Param("userId") String userId);
+
+  /**
+   * 在庫数を増減する 増減の途中で在庫数が0未満になる場合は更新しない
+   * <p>
+   * エンティティを読み込まずに1回のUPDATEで増減するため、同時に更新しても増減が失われない。
+   * 複数の増減をまとめて反映する場合は、順に反映したときに最も小さくなる時点までの合計をlowestに指定する。
+   *
+   * @param id        アイテムID
+   * @param userId    ユーザーID
+   * @param delta     増減する数
+   * @param lowest    増減を順に反映したときの、途中の合計の最小値（0以下。1件の場合は min(0, delta)）
+   * @param updatedAt 更新日時
+   * @return 更新した件数（アイテムが存在しない、または0未満になる場合は0）
+   */
+  @Modifying
+  @Query("""
+      UPDATE Item i
+      SET i.quantity = i.quantity + :delta, i.stockMargin = i.stockMargin + :delta,
+        i.updatedAt = :updatedAt
+      WHERE i.id = :id AND i.userId = :userId AND i.deleted = false
+        AND i.quantity + :lowest >= 0
+      """)
+  int adjustQuantity(
+      @Param("id") Integer id,
+      @Param("userId") String userId,
+      @Param("delta") int delta,
+      @Param("lowest") int lowest,
+      @Param("updatedAt") LocalDateTime updatedAt
+  );
+
+  /**
+   * しきい値を設定する 在庫数 - しきい値 も同じUPDATEで再計算する
+   *
+   * @param id        アイテムID
+   * @param userId    ユーザーID
+   * @param threshold しきい値。nullの場合はしきい値を解除する
+   * @param updatedAt 更新日時
+   * @return 更新した件数（アイテムが存在しない場合は0）
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      UPDATE Item i
+      SET i.threshold = :threshold, i.stockMargin = i.quantity - :threshold,
+        i.updatedAt = :updatedAt
+      WHERE i.id = :id AND i.userId = :userId AND i.deleted = false
+      """)
+  int updateThreshold(
+      @Param("id") Integer id,
+      @Param("userId") String userId,
+      @Param("threshold") Integer threshold,
+      @Param("updatedAt") LocalDateTime updatedAt
+  );
+
+  /**
+   * 在庫が少ないアイテムを取得する 在庫数がしきい値以下のアイテムを、不足している順に取得
+   * <p>
+   * (user_id, deleted, stock_margin)のインデックスのうち0以下の範囲だけを読むため、 アイテムの総数ではなく該当件数に比例したコストで取得できる。
+   *
+   * @param userId ユーザーID
+   * @param limit  取得件数
+   * @return アイテムのリスト
+   */
+  @Query("""
+      SELECT i FROM Item i
+      WHERE i.userId = :userId AND i.deleted = false AND i.stockMargin <= 0
+      ORDER BY i.stockMargin, i.id
+      """)
+  List<Item> findLowStock(@Param("userId") String userId, Limit limit);
+
+  /**
+   * アイテムを取得する
+   *
+   * @param id     アイテムID
+   * @param userId ユーザーID
+   * @return アイテム。存在しない場合は空
+   */
+  Optional<Item> findByIdAndUserIdAndDeletedFalse(Integer id, String userId);
+
+  /**
+   * 在庫数を取得する
+   *
+   * @param id     アイテムID
+   * @param userId ユーザーID
+   * @return 在庫数。アイテムが存在しない場合は空
+   */
+  @Query("SELECT i.quantity FROM Item i WHERE i.id = :id AND i.userId = :userId AND i.deleted = false")
+  Optional<Integer> findQuantity(@Param("id") Integer id, @Param("userId") String userId);
+
+  /**
+   * アイテムID・カテゴリID・アイテム名の組
+   */
+  interface ItemName {
+
+    Integer getId();
+
+    Integer getCategoryId();
+
+    String getName();
+  }
+
+  /**
+   * カテゴリIDとアイテム名の組
+   */
+  interface CategoryItemName {
+
+    Integer getCategoryId();
+
+    String getName();
+  }
 }
@@ -0,0 +1,26 @@
+package com.example.inventory_api.domain.repository;
+
+import com.example.inventory_api.domain.model.SeedVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+// SeedVersionエンティティとやり取りを行うリポジトリ（インターフェース）
+public interface SeedVersionRepository extends JpaRepository<SeedVersion, String> {
+
+  /**
+   * 初期データのバージョンを行ロック付きで取得する
+   * <p>
+   * 複数のインスタンスが同時に起動した場合も、後から取得したインスタンスは登録の完了を待ってから新しいバージョンを読む。
+   *
+   * @param name 初期データの種類
+   * @return 登録済みのバージョン
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM SeedVersion s WHERE s.name = :name")
+  Optional<SeedVersion> findForUpdate(@Param("name") String name);
+}
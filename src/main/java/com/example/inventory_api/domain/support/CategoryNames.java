@@ -0,0 +1,30 @@
+package com.example.inventory_api.domain.support;
+
+import com.ibm.icu.text.Normalizer2;
+
+/**
+ * カテゴリ名の重複判定に使う正規化を行うユーティリティ
+ * <p>
+ * NFKC正規化により、全角英数字・記号は半角に、半角カナは全角に揃える。 「ＴＯＩＬＥＴ」と「TOILET」、「ﾄｲﾚ」と「トイレ」のような表記揺れを同じ名前として扱う。
+ */
+public final class CategoryNames {
+
+  // Normalizer2のインスタンスはスレッドセーフなため共有する
+  private static final Normalizer2 NFKC = Normalizer2.getNFKCInstance();
+
+  private CategoryNames() {
+  }
+
+  /**
+   * 重複判定用にカテゴリ名を正規化する
+   *
+   * @param name カテゴリ名
+   * @return 正規化したカテゴリ名。nameがnullの場合はnull
+   */
+  public static String normalize(String name) {
+    if (name == null) {
+      return null;
+    }
+    return NFKC.normalize(name);
+  }
+}
@@ -0,0 +1,31 @@
+package com.example.inventory_api.domain.support;
+
+import com.ibm.icu.text.Collator;
+import com.ibm.icu.util.ULocale;
+
+/**
+ * カテゴリ名から日本語の辞書順ソートキーを生成するユーティリティ
+ * <p>
+ * ソートキーはICUのCollationKeyをバイト列にしたもので、符号なしバイト列として比較すると Collatorでの比較結果と一致する。DBのVARBINARY列に保存しておけば、ORDER BYだけで辞書順に並ぶ。
+ */
+public final class CategorySortKeys {
+
+  // Collatorの生成は重いため、freezeしてスレッドセーフにしたインスタンスを共有する
+  private static final Collator COLLATOR = Collator.getInstance(ULocale.JAPANESE).freeze();
+
+  private CategorySortKeys() {
+  }
+
+  /**
+   * カテゴリ名のソートキーを生成する
+   *
+   * @param name カテゴリ名
+   * @return ソートキー。nameがnullの場合はnull
+   */
+  public static byte[] of(String name) {
+    if (name == null) {
+      return null;
+    }
+    return COLLATOR.getCollationKey(name).toByteArray();
+  }
+}
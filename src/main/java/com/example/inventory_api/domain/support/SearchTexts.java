@@ -0,0 +1,95 @@
+package com.example.inventory_api.domain.support;
+
+import com.ibm.icu.text.Normalizer2;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * アイテム名・カテゴリ名の検索に使う正規化とN-gramの分割を行うユーティリティ
+ * <p>
+ * NFKC正規化と大文字・小文字の統一(ケースフォールディング)に加えて、ひらがなをカタカナに揃え、空白を取り除く。
+ * 「ﾄｲﾚ」「といれ」「ト イ レ」をいずれも「トイレ」として検索できる。
+ */
+public final class SearchTexts {
+
+  // Normalizer2のインスタンスはスレッドセーフなため共有する
+  private static final Normalizer2 NFKC_CASEFOLD = Normalizer2.getNFKCCasefoldInstance();
+
+  // ひらがな(ぁ〜ゖ)とカタカナ(ァ〜ヶ)のコードポイントの差
+  private static final int HIRAGANA_TO_KATAKANA = 'ァ' - 'ぁ';
+
+  private SearchTexts() {
+  }
+
+  /**
+   * 検索用に名前を正規化する
+   *
+   * @param text アイテム名・カテゴリ名、または検索語
+   * @return 正規化した文字列。textがnullの場合は空文字
+   */
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String normalized = NFKC_CASEFOLD.normalize(text);
+    StringBuilder sb = new StringBuilder(normalized.length());
+    normalized.codePoints().forEach(codePoint -> {
+      if (Character.isWhitespace(codePoint)) {
+        return;
+      }
+      if (codePoint >= 'ぁ' && codePoint <= 'ゖ') {
+        codePoint += HIRAGANA_TO_KATAKANA;
+      }
+      sb.appendCodePoint(codePoint);
+    });
+    return sb.toString();
+  }
+
+  /**
+   * 索引に登録するN-gramを取得する
+   * <p>
+   * 1文字の検索語にも応答できるよう、2文字ずつの組(bigram)に加えて1文字ずつ(unigram)も含める。
+   *
+   * @param normalized {@link #normalize(String)} で正規化した名前
+   * @return 重複を除いたunigramとbigram
+   */
+  public static Set<String> indexGrams(String normalized) {
+    Set<String> grams = new HashSet<>();
+    int start = 0;
+    while (start < normalized.length()) {
+      int next = normalized.offsetByCodePoints(start, 1);
+      grams.add(normalized.substring(start, next));
+      if (next < normalized.length()) {
+        grams.add(normalized.substring(start, normalized.offsetByCodePoints(next, 1)));
+      }
+      start = next;
+    }
+    return grams;
+  }
+
+  /**
+   * 検索語から、索引を引くN-gramを取得する
+   * <p>
+   * 1文字の場合はその文字(unigram)、2文字以上の場合はbigramだけを使う。 bigramがすべて含まれていても検索語を含むとは限らないため、 呼び出し元で名前に検索語が含まれることを確認すること。
+   *
+   * @param normalized {@link #normalize(String)} で正規化した検索語
+   * @return 重複を除いたN-gram。検索語が空の場合は空
+   */
+  public static Set<String> queryGrams(String normalized) {
+    if (normalized.codePointCount(0, normalized.length()) == 1) {
+      return Set.of(normalized);
+    }
+    Set<String> grams = new HashSet<>();
+    int start = 0;
+    while (start < normalized.length()) {
+      int next = normalized.offsetByCodePoints(start, 1);
+      if (next >= normalized.length()) {
+        break;
+      }
+      grams.add(normalized.substring(start, normalized.offsetByCodePoints(next, 1)));
+      start = next;
+    }
+    return grams;
+  }
+}
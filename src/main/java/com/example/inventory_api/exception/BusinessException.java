@@ -0,0 +1,33 @@
+package com.example.inventory_api.exception;
+
+import lombok.Getter;
+
+/**
+ * 重複・上限・存在しない・権限なしなど、業務ルールによってリクエストを受け付けなかったことを表す例外
+ * <p>
+ * 入力エラーと同じく通常の処理の一部として頻繁に発生するため、生成時にスタックトレースを取得しない。 原因の調査にはエラーコードとメッセージを使う。
+ */
+@Getter
+public class BusinessException extends RuntimeException {
+
+  private final ErrorCode errorCode;
+
+  /**
+   * @param errorCode エラーの種類
+   * @param message   クライアントに返すエラーメッセージ
+   */
+  public BusinessException(ErrorCode errorCode, String message) {
+    this(errorCode, message, null);
+  }
+
+  /**
+   * @param errorCode エラーの種類
+   * @param message   クライアントに返すエラーメッセージ
+   * @param cause     原因となった例外
+   */
+  public BusinessException(ErrorCode errorCode, String message, Throwable cause) {
+    // スタックトレースの取得(fillInStackTrace)と抑制された例外の記録を行わない
+    super(message, cause, false, false);
+    this.errorCode = errorCode;
+  }
+}
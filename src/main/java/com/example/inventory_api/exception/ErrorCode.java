@@ -0,0 +1,33 @@
+package com.example.inventory_api.exception;
+
+/**
+ * 業務エラーの種類 API仕様書のエラーコードと同じ名前にする
+ * <p>
+ * HTTPステータスへの変換は {@code CustomExceptionHandler} で行う。
+ */
+public enum ErrorCode {
+  // カテゴリ名が既存のカテゴリと重複している
+  CATEGORY_NAME_DUPLICATE,
+  // 登録できるカテゴリの上限に達している
+  CATEGORY_LIMIT_EXCEEDED,
+  // 操作対象のカテゴリ・アイテムが見つからない
+  NOT_FOUND_ERROR,
+  // デフォルトカテゴリや他のユーザーのカテゴリを操作しようとした
+  DEFAULT_CATEGORY_IMMUTABLE,
+  // アイテム一覧で指定したカテゴリが見つからない
+  CATEGORY_NOT_FOUND,
+  // アイテム一覧のカーソルの形式が正しくない
+  INVALID_CURSOR,
+  // インポートするCSVの形式が正しくない
+  INVALID_CSV,
+  // 在庫数を0未満にしようとした
+  ITEM_QUANTITY_CONFLICT,
+  // アイテムが登録されているカテゴリを削除しようとした
+  CATEGORY_NOT_EMPTY,
+  // 読み込んだ後で、カテゴリが他のリクエストで更新された
+  CATEGORY_CONFLICT,
+  // 検索語が空、または長すぎる
+  INVALID_SEARCH_QUERY,
+  // エクスポート形式が対応していない形式
+  INVALID_EXPORT_FORMAT
+}
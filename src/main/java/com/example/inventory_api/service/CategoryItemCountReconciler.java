@@ -0,0 +1,45 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.CategoryRepository.ItemCountMismatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * カテゴリのアイテム数のカウンターを、実際の未削除アイテムの件数と照合するジョブ
+ * <p>
+ * カウンターはアイテムの登録と同じトランザクションで増減するため通常は一致するが、DBを直接更新した場合などに備えて定期的に照合し、
+ * 一致しないカテゴリはカウンターを実際の件数に修正する。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryItemCountReconciler {
+
+  private final CategoryRepository categoryRepository;
+
+  /**
+   * 全カテゴリのアイテム数を照合し、一致しないカウンターを修正する
+   *
+   * @return 修正したカテゴリの数
+   */
+  @Scheduled(cron = "${app.category-item-count.reconcile-cron}")
+  @Transactional
+  public int reconcile() {
+    List<ItemCountMismatch> mismatches = categoryRepository.findItemCountMismatches();
+    int corrected = 0;
+    for (ItemCountMismatch mismatch : mismatches) {
+      log.warn("カテゴリのアイテム数が実際の件数と一致しません: categoryId={}, recorded={}, actual={}",
+          mismatch.getCategoryId(), mismatch.getRecordedCount(), mismatch.getActualCount());
+      // 照合した後でアイテムが登録された場合は修正せず、次回の照合に任せる
+      corrected += categoryRepository.correctItemCount(mismatch.getCategoryId(),
+          mismatch.getRecordedCount(), Math.toIntExact(mismatch.getActualCount()));
+    }
+    return corrected;
+  }
+}
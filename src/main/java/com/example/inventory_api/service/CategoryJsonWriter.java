@@ -0,0 +1,61 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.controller.dto.CategoryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+/**
+ * カテゴリ一覧のレスポンスをJSONのバイト列として組み立てる
+ * <p>
+ * カテゴリ1件分の要素はアプリケーションのObjectMapperで一度だけシリアライズし、 一覧は要素のバイト列をつなぎ合わせて作る。 デフォルトカテゴリの要素は
+ * {@link SystemCategorySnapshot} に、ユーザーごとの一覧は {@link CategoryListCache} に保持するため、 キャッシュにヒットしたリクエストではシリアライズを行わない。
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryJsonWriter {
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * カテゴリ1件分のJSON({@link CategoryResponse} と同じ形式)を作成する
+   *
+   * @param id   カテゴリID
+   * @param name カテゴリ名
+   * @return UTF-8のJSONオブジェクト
+   */
+  public byte[] element(Integer id, String name) {
+    try {
+      return objectMapper.writeValueAsBytes(new CategoryResponse(id, name));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("カテゴリをJSONに変換できません: " + id, e);
+    }
+  }
+
+  /**
+   * 要素のJSONを並び順のままつなぎ、JSON配列にする
+   *
+   * @param elements {@link #element(Integer, String)} で作成した要素
+   * @return UTF-8のJSON配列
+   */
+  public byte[] array(List<byte[]> elements) {
+    int size = 2 + Math.max(elements.size() - 1, 0);
+    for (byte[] element : elements) {
+      size += element.length;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+    out.write('[');
+    for (int i = 0; i < elements.size(); i++) {
+      if (i > 0) {
+        out.write(',');
+      }
+      out.writeBytes(elements.get(i));
+    }
+    out.write(']');
+    return out.toByteArray();
+  }
+}
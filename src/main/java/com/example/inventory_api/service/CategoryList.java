@@ -0,0 +1,78 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.controller.dto.CategoryResponse;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.service.SystemCategorySnapshot.SystemCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ユーザーごとの辞書順のカテゴリ一覧 {@link CategoryListCache} に保持する
+ *
+ * @param categories 辞書順のカテゴリ一覧
+ * @param json       categoriesをシリアライズしたレスポンスのJSON配列(UTF-8)
+ */
+public record CategoryList(List<CategoryResponse> categories, byte[] json) {
+
+  public CategoryList {
+    categories = List.copyOf(categories);
+  }
+
+  /**
+   * 辞書順に並んだデフォルトカテゴリとカスタムカテゴリを、並び順を保ったまま1つの一覧にまとめる
+   * <p>
+   * レスポンスのJSONも同じ順序で組み立てる。デフォルトカテゴリはシリアライズ済みの要素をそのまま使い、カスタムカテゴリの要素だけをシリアライズする。
+   *
+   * @param systemCategories   辞書順のデフォルトカテゴリ
+   * @param customCategories   辞書順のカスタムカテゴリ
+   * @param categoryJsonWriter カスタムカテゴリの要素のシリアライズに使う
+   * @return 辞書順のカテゴリ一覧
+   */
+  static CategoryList merge(
+      List<SystemCategory> systemCategories,
+      List<Category> customCategories,
+      CategoryJsonWriter categoryJsonWriter
+  ) {
+    int size = systemCategories.size() + customCategories.size();
+    List<CategoryResponse> merged = new ArrayList<>(size);
+    List<byte[]> elements = new ArrayList<>(size);
+    int i = 0;
+    int j = 0;
+    while (i < systemCategories.size() && j < customCategories.size()) {
+      SystemCategory systemCategory = systemCategories.get(i);
+      Category customCategory = customCategories.get(j);
+      int compared = Arrays.compareUnsigned(systemCategory.sortKey(), customCategory.getSortKey());
+      if (compared == 0) {
+        compared = systemCategory.id().compareTo(customCategory.getId());
+      }
+      if (compared <= 0) {
+        addSystemCategory(systemCategory, merged, elements);
+        i++;
+      } else {
+        addCustomCategory(customCategory, merged, elements, categoryJsonWriter);
+        j++;
+      }
+    }
+    for (; i < systemCategories.size(); i++) {
+      addSystemCategory(systemCategories.get(i), merged, elements);
+    }
+    for (; j < customCategories.size(); j++) {
+      addCustomCategory(customCategories.get(j), merged, elements, categoryJsonWriter);
+    }
+    return new CategoryList(merged, categoryJsonWriter.array(elements));
+  }
+
+  private static void addSystemCategory(SystemCategory systemCategory, List<CategoryResponse> merged,
+      List<byte[]> elements) {
+    merged.add(new CategoryResponse(systemCategory.id(), systemCategory.name()));
+    elements.add(systemCategory.json());
+  }
+
+  private static void addCustomCategory(Category customCategory, List<CategoryResponse> merged,
+      List<byte[]> elements, CategoryJsonWriter categoryJsonWriter) {
+    merged.add(new CategoryResponse(customCategory));
+    elements.add(categoryJsonWriter.element(customCategory.getId(), customCategory.getName()));
+  }
+}
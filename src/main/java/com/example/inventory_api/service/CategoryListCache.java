@@ -0,0 +1,153 @@
+package com.example.inventory_api.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * ユーザーごとのソート済みカテゴリ一覧を保持するキャッシュ
+ * <p>
+ * 一覧とあわせて、シリアライズ済みのレスポンスのJSONも保持する。
+ * 件数上限を超えた場合は最も長く参照されていないエントリから削除(LRU)し、 TTLを過ぎたエントリは参照時に破棄する。
+ */
+@Component
+public class CategoryListCache {
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final LongSupplier nanoTime;
+
+  // accessOrder=trueで参照順に並べ、先頭を最も古いエントリとして扱う
+  private final LinkedHashMap<String, CacheEntry> entries;
+
+  // 読み込み中のユーザーと、読み込みごとに振る番号。読み込み中にそのユーザーの無効化が走った場合、古い一覧を書き戻さないために使う
+  // 他のユーザーの無効化では取り除かないため、書き込みの多いユーザーがいても他のユーザーの一覧はキャッシュできる
+  private final LinkedHashMap<String, Long> loading;
+  private final AtomicLong loadSequence = new AtomicLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  @Autowired
+  public CategoryListCache(
+      @Value("${app.category-cache.max-size}") int maxSize,
+      @Value("${app.category-cache.ttl}") Duration ttl
+  ) {
+    this(maxSize, ttl, System::nanoTime);
+  }
+
+  CategoryListCache(int maxSize, Duration ttl, LongSupplier nanoTime) {
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl.toNanos();
+    this.nanoTime = nanoTime;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+        if (size() > CategoryListCache.this.maxSize) {
+          evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+    // 読み込み中に例外が発生した番号が残り続けないよう、キャッシュと同じ件数で打ち切る
+    this.loading = new LinkedHashMap<>() {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+        return size() > CategoryListCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * キャッシュからカテゴリ一覧を取得する
+   *
+   * @param userId ユーザーID
+   * @return キャッシュ済みの一覧。未登録または期限切れの場合は空
+   */
+  public synchronized Optional<CategoryList> get(String userId) {
+    CacheEntry entry = entries.get(userId);
+    if (entry == null) {
+      misses.increment();
+      return Optional.empty();
+    }
+    if (nanoTime.getAsLong() - entry.loadedAt() > ttlNanos) {
+      entries.remove(userId);
+      evictions.increment();
+      misses.increment();
+      return Optional.empty();
+    }
+    hits.increment();
+    return Optional.of(entry.categoryList());
+  }
+
+  /**
+   * DBから一覧を読み込む前に呼び出し、読み込みの番号を取得する
+   *
+   * @param userId ユーザーID
+   * @return {@link #put(String, CategoryList, long)} に渡す番号
+   */
+  public synchronized long startLoading(String userId) {
+    long loadId = loadSequence.incrementAndGet();
+    loading.put(userId, loadId);
+    return loadId;
+  }
+
+  /**
+   * カテゴリ一覧をキャッシュに登録する 読み込み中にそのユーザーの無効化が行われていた場合は登録しない
+   * <p>
+   * 同じユーザーの一覧を同時に読み込んだ場合は、最後に読み込みを始めたものだけを登録する。
+   *
+   * @param userId       ユーザーID
+   * @param categoryList ソート済みのカテゴリ一覧
+   * @param loadId       読み込み開始時に {@link #startLoading(String)} で取得した番号
+   */
+  public synchronized void put(String userId, CategoryList categoryList, long loadId) {
+    if (!loading.remove(userId, loadId)) {
+      return;
+    }
+    entries.put(userId, new CacheEntry(categoryList, nanoTime.getAsLong()));
+  }
+
+  /**
+   * 指定ユーザーのエントリを破棄する カテゴリの登録・更新時に呼び出す
+   *
+   * @param userId ユーザーID
+   */
+  public synchronized void evict(String userId) {
+    loading.remove(userId);
+    entries.remove(userId);
+  }
+
+  /**
+   * 全ユーザーのエントリを破棄する デフォルトカテゴリの変更時に呼び出す
+   */
+  public synchronized void clear() {
+    loading.clear();
+    entries.clear();
+  }
+
+  /**
+   * ヒット数・ミス数・破棄数などの統計情報を取得する
+   */
+  public synchronized Stats getStats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+  }
+
+  private record CacheEntry(CategoryList categoryList, long loadedAt) {
+
+  }
+
+  public record Stats(long hits, long misses, long evictions, int size) {
+
+  }
+}
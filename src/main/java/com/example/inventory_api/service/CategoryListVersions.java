@@ -0,0 +1,52 @@
+package com.example.inventory_api.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ユーザーごとのカテゴリ一覧のバージョンを管理する
+ * <p>
+ * カテゴリの登録・更新のコミット後にバージョンを進め、GET /categories のETagとして使う。 メモリ上で管理するため、DBにアクセスせずに更新有無を判定できる。
+ * 再起動でバージョンが巻き戻っても以前のETagと一致しないよう、ETagには起動時刻を含める。
+ */
+@Component
+public class CategoryListVersions {
+
+  private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+  // 全ユーザーで共有する単調増加の番号。バージョンはここから払い出す
+  private final AtomicLong sequence = new AtomicLong();
+
+  // デフォルトカテゴリのバージョン。全ユーザーのETagに影響する
+  private volatile long defaultsVersion;
+
+  private final ConcurrentHashMap<String, Long> userVersions = new ConcurrentHashMap<>();
+
+  /**
+   * 指定ユーザーのカテゴリ一覧の現在のETagを取得する
+   *
+   * @param userId ユーザーID
+   * @return 引用符を含まないETagの値
+   */
+  public String currentETag(String userId) {
+    return epoch + "-" + defaultsVersion + "-" + userVersions.getOrDefault(userId, 0L);
+  }
+
+  /**
+   * 指定ユーザーのバージョンを進める カテゴリの登録・更新のコミット後に呼び出す
+   *
+   * @param userId ユーザーID
+   */
+  public void bump(String userId) {
+    userVersions.put(userId, sequence.incrementAndGet());
+  }
+
+  /**
+   * 全ユーザーのバージョンを進める デフォルトカテゴリの変更後に呼び出す
+   */
+  public void bumpAll() {
+    defaultsVersion = sequence.incrementAndGet();
+  }
+}
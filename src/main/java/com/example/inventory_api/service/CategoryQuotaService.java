@@ -0,0 +1,114 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.CategoryQuota;
+import com.example.inventory_api.domain.repository.CategoryQuotaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+/**
+ * カスタムカテゴリの登録上限を管理するサービス
+ * <p>
+ * ユーザーごとのカウンター行を条件付きUPDATEで加算することで、テーブル全体をロックせずに上限を守る。 カウンター行はユーザーが初めてカテゴリを登録する際に作成する。
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryQuotaService {
+
+  private final CategoryQuotaRepository categoryQuotaRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  // @Valueアノテーションでプロパティファイルから値を読み込む
+  @Value("${app.custom-category.max-limit}")
+  private int maxCustomCategoryLimit;
+
+  private static final String INSERT_QUOTA_SQL = """
+      INSERT INTO category_quotas (user_id, used_count)
+      SELECT ?, COUNT(*)
+      FROM categories
+      WHERE user_id = ?
+      AND deleted = false
+      """;
+
+  /**
+   * カスタムカテゴリ1件分の登録枠を確保する
+   * <p>
+   * 呼び出し元のトランザクション内で実行すること。カテゴリの登録に失敗してロールバックした場合は、確保した枠も元に戻る。
+   *
+   * @param userId ユーザーID
+   * @return 確保できた場合はtrue、上限に達している場合はfalse
+   */
+  public boolean tryAcquire(String userId) {
+    if (categoryQuotaRepository.incrementIfBelow(userId, maxCustomCategoryLimit) == 1) {
+      return true;
+    }
+
+    // 初回登録時はカウンター行を作成してから再度加算する
+    // 最初のUPDATEの後に別リクエストが作成した行がコミットされる場合もあるため、行が存在していても再度加算を試みる
+    if (!categoryQuotaRepository.existsById(userId)) {
+      createQuotaIfAbsent(userId);
+    }
+    return categoryQuotaRepository.incrementIfBelow(userId, maxCustomCategoryLimit) == 1;
+  }
+
+  /**
+   * カスタムカテゴリの登録枠を、指定件数を上限に確保できるだけ確保する 一括登録で使用
+   * <p>
+   * 対象ユーザーのカウンター行をロックしてから残り枠を計算するため、同じユーザーの同時リクエストでも上限を超えない。 呼び出し元のトランザクション内で実行すること。
+   *
+   * @param userId    ユーザーID
+   * @param requested 確保したい件数
+   * @return 確保できた件数（0以上requested以下）
+   */
+  public int acquireUpTo(String userId, int requested) {
+    if (!categoryQuotaRepository.existsById(userId)) {
+      createQuotaIfAbsent(userId);
+    }
+    CategoryQuota quota = categoryQuotaRepository.findForUpdate(userId).orElseThrow();
+    int granted = Math.max(0, Math.min(requested, maxCustomCategoryLimit - quota.getUsedCount()));
+    quota.setUsedCount(quota.getUsedCount() + granted);
+    return granted;
+  }
+
+  /**
+   * カスタムカテゴリ1件分の登録枠を返却する カテゴリの削除時に呼び出す
+   * <p>
+   * 呼び出し元のトランザクション内で実行すること。カテゴリの削除に失敗してロールバックした場合は、返却も取り消される。
+   *
+   * @param userId ユーザーID
+   */
+  public void release(String userId) {
+    categoryQuotaRepository.decrement(userId);
+  }
+
+  /**
+   * カウンター行を作成する 同じユーザーの別リクエストが先に作成していた場合は何もしない
+   * <p>
+   * 作成の失敗を呼び出し元のトランザクションに波及させないよう、トランザクション中のコネクションでセーブポイントを取ってから実行する。
+   */
+  private void createQuotaIfAbsent(String userId) {
+    jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+      Savepoint savepoint = connection.setSavepoint();
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_QUOTA_SQL)) {
+        statement.setString(1, userId);
+        statement.setString(2, userId);
+        statement.executeUpdate();
+        connection.releaseSavepoint(savepoint);
+      } catch (SQLException e) {
+        connection.rollback(savepoint);
+        if (!(jdbcTemplate.getExceptionTranslator()
+            .translate("createQuota", INSERT_QUOTA_SQL, e) instanceof DuplicateKeyException)) {
+          throw e;
+        }
+      }
+      return null;
+    });
+  }
+}
@@ -1,43 +1,84 @@
 package com.example.inventory_api.service;
 
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.controller.dto.CategoryBatchCreateRequest;
+import com.example.inventory_api.controller.dto.CategoryBatchResponse;
+import com.example.inventory_api.controller.dto.CategoryBatchResult;
+import com.example.inventory_api.controller.dto.CategoryBatchUpdateItem;
+import com.example.inventory_api.controller.dto.CategoryBatchUpdateRequest;
 import com.example.inventory_api.controller.dto.CategoryCreateRequest;
 import com.example.inventory_api.controller.dto.CategoryResponse;
+import com.example.inventory_api.controller.dto.CategorySummaryResponse;
 import com.example.inventory_api.controller.dto.CategoryUpdateRequest;
 import com.example.inventory_api.domain.model.Category;
 import com.example.inventory_api.domain.repository.CategoryRepository;
-import com.ibm.icu.text.Collator;
-import com.ibm.icu.util.ULocale;
+import com.example.inventory_api.domain.support.CategoryNames;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "category.service", description = "CategoryServiceの各メソッドの実行時間")
 public class CategoryService {
 
   private final CategoryRepository categoryRepository;
-
-  // @Valueアノテーションでプロパティファイルから値を読み込む
-  @Value("${app.custom-category.max-limit}")
-  private int maxCustomCategoryLimit;
+  private final CategoryListCache categoryListCache;
+  private final SystemCategorySnapshot systemCategorySnapshot;
+  private final CategoryQuotaService categoryQuotaService;
+  private final CategoryListVersions categoryListVersions;
+  private final Validator validator;
+  private final ReadYourWritesGuard readYourWritesGuard;
+  private final PlatformTransactionManager transactionManager;
+  private final CategoryJsonWriter categoryJsonWriter;
+  private final SearchIndex searchIndex;
 
   // システムユーザー（仮）
   private static final String SYSTEM_USER_ID = "system";
 
   // --エラーメッセージを定数で管理--
   // TODO: メッセージ用のプロパティファイルを用意したい（https://github.com/miki-hayashi-71/inventory-api/pull/18#discussion_r2299559046）
-  private static final String MSG_DUPLICATE_CREATE = "DUPLICATE:そのカテゴリ名は既に使用されています";
-  private static final String MSG_LIMIT_CREATE = "LIMIT:登録できるカテゴリの上限に達しています";
-  private static final String MSG_NOT_FOUND_UPDATE = "NOT_FOUND:該当のカテゴリが見つかりません";
-  private static final String MSG_FORBIDDEN_UPDATE = "FORBIDDEN:このカテゴリを操作する権限がありません";
+  private static final String MSG_DUPLICATE_CREATE = "そのカテゴリ名は既に使用されています";
+  private static final String MSG_LIMIT_CREATE = "登録できるカテゴリの上限に達しています";
+  private static final String MSG_NOT_FOUND_UPDATE = "該当のカテゴリが見つかりません";
+  private static final String MSG_FORBIDDEN_UPDATE = "このカテゴリを操作する権限がありません";
+  private static final String MSG_NOT_EMPTY_DELETE = "アイテムが1件以上登録されているカテゴリは削除できません";
+  private static final String MSG_CONFLICT_DELETE = "カテゴリが他の操作で更新されました。もう一度お試しください";
   private static final String MSG_DB_ACCESS_ERROR = "データベースへのアクセスに失敗しました";
   private static final String MSG_UNEXPECTED_ERROR = "予期せぬエラーが発生しました";
+  private static final String MSG_BATCH_ITEM_REQUIRED = "カテゴリを指定してください";
+
+  // 一括処理の結果に含めるエラーコード（API仕様書のエラーコードと合わせる）
+  private static final String CODE_VALIDATION_ERROR = "VALIDATION_ERROR";
+  private static final String CODE_NAME_REQUIRED = "CATEGORY_NAME_REQUIRED";
+  private static final String CODE_NAME_TOO_LONG = "CATEGORY_NAME_TOO_LONG";
+  private static final String CODE_DUPLICATE = ErrorCode.CATEGORY_NAME_DUPLICATE.name();
+  private static final String CODE_LIMIT = ErrorCode.CATEGORY_LIMIT_EXCEEDED.name();
+  private static final String CODE_NOT_FOUND = ErrorCode.NOT_FOUND_ERROR.name();
+  private static final String CODE_FORBIDDEN = ErrorCode.DEFAULT_CATEGORY_IMMUTABLE.name();
 
   /**
    * 新しいカスタムカテゴリを1件登録 createCategory
@@ -47,25 +88,22 @@ public class CategoryService {
       String userId
   ) {
     try {
-      List<Category> existingCategories = categoryRepository.findUserCategories(userId,
-          SYSTEM_USER_ID);
-
       // 重複チェック
-      validateCategoryName(request.getName(), null, existingCategories);
-
-      // 上限チェック
-      long userCategoryCount = existingCategories.stream()
-          .filter(category -> userId.equals(category.getUserId()))
-          .count();
-      if (userCategoryCount >= maxCustomCategoryLimit) {
-        throw new IllegalStateException(MSG_LIMIT_CREATE);
+      validateCategoryName(request.getName(), null, userId);
+
+      // 上限チェック 同時リクエストでも上限を超えないよう、登録枠をカウンターで確保する
+      if (!categoryQuotaService.tryAcquire(userId)) {
+        throw new BusinessException(ErrorCode.CATEGORY_LIMIT_EXCEEDED, MSG_LIMIT_CREATE);
       }
 
       // 新しいカテゴリを作成して保存
       Category newCategory = new Category(userId, request.getName(), false);
-      return categoryRepository.save(newCategory);
+      Category savedCategory = categoryRepository.save(newCategory);
+      invalidateCategoryList(userId);
+      indexCategories(userId, List.of(savedCategory));
+      return savedCategory;
 
-    } catch (IllegalStateException e) {
+    } catch (BusinessException e) {
       throw e;
     } catch (DataAccessException e) {
       throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
@@ -80,17 +118,84 @@ public class CategoryService {
    * カスタムカテゴリの一覧を取得 getCategoryList
    */
   public List<CategoryResponse> getCategoryList(String userId) {
+    return loadCategoryList(userId).categories();
+  }
+
+  /**
+   * カテゴリ一覧のレスポンスのJSONを取得 getCategoryListJson
+   * <p>
+   * シリアライズ済みのバイト列を返すため、キャッシュにヒットした場合はDTOの変換もシリアライズも行わない。
+   */
+  public byte[] getCategoryListJson(String userId) {
+    return loadCategoryList(userId).json();
+  }
+
+  private CategoryList loadCategoryList(String userId) {
+    Optional<CategoryList> cached = categoryListCache.get(userId);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
     try {
-      List<Category> categories = categoryRepository.findUserCategories(userId, SYSTEM_USER_ID);
+      long loadId = categoryListCache.startLoading(userId);
+      // デフォルトカテゴリはスナップショットから取得し、DBからはユーザー自身のカテゴリのみを辞書順で取得する
+      List<Category> customCategories = loadCustomCategories(userId);
+      CategoryList categoryList =
+          CategoryList.merge(systemCategorySnapshot.getCategories(), customCategories, categoryJsonWriter);
+
+      categoryListCache.put(userId, categoryList, loadId);
+      return categoryList;
+
+    } catch (DataAccessException e) {
+      throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
+    } catch (Exception e) {
+      throw new RuntimeException(MSG_UNEXPECTED_ERROR, e);
+    }
+  }
+
+  /**
+   * ユーザーのカスタムカテゴリを辞書順で取得する
+   * <p>
+   * キャッシュにヒットした場合に接続を取得しないよう、getCategoryList全体ではなくDBにアクセスする部分だけをトランザクションにする。
+   *
+   * @param userId ログインユーザーのID
+   * @return 辞書順のカスタムカテゴリ
+   */
+  private List<Category> loadCustomCategories(String userId) {
+    return readOnly(userId,
+        () -> categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(userId));
+  }
 
-      // 日本語の辞書順でソートするためのCollatorを準備
-      Collator collator = Collator.getInstance(ULocale.JAPANESE);
+  /**
+   * 読み取り専用のトランザクションでDBから読む レプリカを使う設定の場合はレプリカから読む
+   *
+   * @param userId ログインユーザーのID
+   * @param query  リポジトリから読む処理
+   * @return 読み込んだ結果
+   */
+  private <T> T readOnly(String userId, Supplier<T> query) {
+    TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    return readOnlyTransaction.execute(status -> {
+      readYourWritesGuard.routeReads(userId);
+      return query.get();
+    });
+  }
 
-      // ソートしてレスポンスに変換する
-      return categories.stream()
-          .sorted(Comparator.comparing(Category::getName, collator))
-          .map(category -> new CategoryResponse(category.getId(), category.getName()))
-          .collect(Collectors.toList());
+  /**
+   * カテゴリごとのアイテムの集計を取得 getCategorySummary
+   * <p>
+   * 表示するカテゴリ(デフォルトカテゴリとカスタムカテゴリ)ごとに、アイテムの件数・在庫数の合計・金額の合計を1回のクエリで集計する。
+   *
+   * @param userId ログインユーザーのID
+   * @return カテゴリごとの集計結果（辞書順）
+   */
+  public List<CategorySummaryResponse> getCategorySummary(String userId) {
+    try {
+      return readOnly(userId, () -> categoryRepository.summarizeUserCategories(userId, SYSTEM_USER_ID))
+          .stream()
+          .map(CategorySummaryResponse::new)
+          .toList();
 
     } catch (DataAccessException e) {
       throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
@@ -99,6 +204,15 @@ public class CategoryService {
     }
   }
 
+  /**
+   * カテゴリ一覧の現在のETagを取得 getCategoryListETag
+   * <p>
+   * メモリ上のバージョンから組み立てるため、DBにはアクセスしない。
+   */
+  public String getCategoryListETag(String userId) {
+    return categoryListVersions.currentETag(userId);
+  }
+
   /**
    * カスタムカテゴリを1件更新 updateCategory
    */
@@ -109,26 +223,26 @@ public class CategoryService {
       String userId
   ) {
     try {
-      List<Category> categories = categoryRepository.findUserCategories(userId, SYSTEM_USER_ID);
-
       // 重複チェック
-      validateCategoryName(request.getName(), categoryId, categories);
+      validateCategoryName(request.getName(), categoryId, userId);
 
       // 更新対象の検索
-      Category categoryToUpdate = categories.stream()
-          .filter(category -> category.getId().equals(categoryId))
-          .findFirst()
-          .orElseThrow(() -> new IllegalStateException(MSG_NOT_FOUND_UPDATE));
+      Category categoryToUpdate = categoryRepository.findByIdAndDeletedFalse(categoryId)
+          .orElseThrow(
+              () -> new BusinessException(ErrorCode.NOT_FOUND_ERROR, MSG_NOT_FOUND_UPDATE));
 
       // 権限チェック
       if (!userId.equals(categoryToUpdate.getUserId())) {
-        throw new IllegalStateException(MSG_FORBIDDEN_UPDATE);
+        throw new BusinessException(ErrorCode.DEFAULT_CATEGORY_IMMUTABLE, MSG_FORBIDDEN_UPDATE);
       }
 
       categoryToUpdate.setName(request.getName());
-      return categoryRepository.save(categoryToUpdate);
+      Category savedCategory = categoryRepository.save(categoryToUpdate);
+      invalidateCategoryList(userId);
+      indexCategories(userId, List.of(savedCategory));
+      return savedCategory;
 
-    } catch (IllegalStateException e) {
+    } catch (BusinessException e) {
       throw e;
     } catch (DataAccessException e) {
       throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
@@ -139,24 +253,300 @@ public class CategoryService {
     }
   }
 
+  /**
+   * カスタムカテゴリを1件削除(論理削除) deleteCategory
+   * <p>
+   * アイテムの有無は、itemsテーブルを検索せずにカテゴリのアイテム数のカウンターで判定する。 アイテムの登録時はカウンターと同時にバージョンも進めるため、
+   * 判定した後にアイテムが登録された場合は、削除の保存がバージョンの不一致(楽観ロック)で失敗する。
+   */
+  @Transactional
+  public void deleteCategory(Integer categoryId, String userId) {
+    try {
+      // 削除対象の検索
+      Category categoryToDelete = categoryRepository.findByIdAndDeletedFalse(categoryId)
+          .orElseThrow(
+              () -> new BusinessException(ErrorCode.NOT_FOUND_ERROR, MSG_NOT_FOUND_UPDATE));
+
+      // 権限チェック
+      if (!userId.equals(categoryToDelete.getUserId())) {
+        throw new BusinessException(ErrorCode.DEFAULT_CATEGORY_IMMUTABLE, MSG_FORBIDDEN_UPDATE);
+      }
+
+      // アイテムの有無のチェック
+      if (categoryToDelete.getItemCount() > 0) {
+        throw new BusinessException(ErrorCode.CATEGORY_NOT_EMPTY, MSG_NOT_EMPTY_DELETE);
+      }
+
+      categoryToDelete.setDeleted(true);
+      // バージョンの確認をここで行い、競合した場合のエラーを返せるようにする
+      categoryRepository.saveAndFlush(categoryToDelete);
+      categoryQuotaService.release(userId);
+      invalidateCategoryList(userId);
+      searchIndex.update(userId, index -> index.remove(SearchDocument.Type.CATEGORY, categoryId));
+
+    } catch (BusinessException e) {
+      throw e;
+    } catch (OptimisticLockingFailureException e) {
+      throw new BusinessException(ErrorCode.CATEGORY_CONFLICT, MSG_CONFLICT_DELETE, e);
+    } catch (DataAccessException e) {
+      throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
+    } catch (Exception e) {
+      throw new RuntimeException(MSG_UNEXPECTED_ERROR, e);
+    }
+  }
+
+  /**
+   * カスタムカテゴリを一括登録 createCategories
+   * <p>
+   * 既存カテゴリを1回だけ読み込み、その内容に対してリクエスト全体を検証したうえで、 有効なカテゴリを1つのトランザクションでまとめて登録する。
+   * 検証に失敗したカテゴリは登録せず、リクエスト内の位置とエラー内容を結果として返す。
+   */
+  @Transactional
+  public CategoryBatchResponse createCategories(
+      CategoryBatchCreateRequest request,
+      String userId
+  ) {
+    try {
+      List<CategoryCreateRequest> items = request.getCategories();
+      CategoryBatchResult[] results = new CategoryBatchResult[items.size()];
+      Set<String> takenNames = loadTakenNames(
+          categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(userId));
+
+      // 名前の検証と重複チェック（リクエスト内の重複も含む）
+      List<Integer> acceptedIndexes = new ArrayList<>();
+      for (int i = 0; i < items.size(); i++) {
+        CategoryBatchResult nameError = validateBatchItem(i, items.get(i));
+        if (nameError != null) {
+          results[i] = nameError;
+        } else if (!takenNames.add(CategoryNames.normalize(items.get(i).getName()))) {
+          results[i] = CategoryBatchResult.failure(i, CODE_DUPLICATE, MSG_DUPLICATE_CREATE);
+        } else {
+          acceptedIndexes.add(i);
+        }
+      }
+
+      // 上限チェック 確保できた件数を超えた分は上限エラーとする
+      int granted = acceptedIndexes.isEmpty()
+          ? 0 : categoryQuotaService.acquireUpTo(userId, acceptedIndexes.size());
+      List<Category> newCategories = new ArrayList<>(granted);
+      for (int k = 0; k < acceptedIndexes.size(); k++) {
+        int i = acceptedIndexes.get(k);
+        if (k < granted) {
+          newCategories.add(new Category(userId, items.get(i).getName(), false));
+        } else {
+          results[i] = CategoryBatchResult.failure(i, CODE_LIMIT, MSG_LIMIT_CREATE);
+        }
+      }
+
+      // IDはシーケンスから払い出されるため、INSERTはJDBCバッチでまとめて実行される
+      List<Category> savedCategories = categoryRepository.saveAll(newCategories);
+      for (int k = 0; k < savedCategories.size(); k++) {
+        int i = acceptedIndexes.get(k);
+        results[i] = CategoryBatchResult.success(i, new CategoryResponse(savedCategories.get(k)));
+      }
+
+      if (!savedCategories.isEmpty()) {
+        invalidateCategoryList(userId);
+        indexCategories(userId, savedCategories);
+      }
+      return new CategoryBatchResponse(Arrays.asList(results));
+
+    } catch (DataAccessException e) {
+      throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
+    } catch (Exception e) {
+      throw new RuntimeException(MSG_UNEXPECTED_ERROR, e);
+    }
+  }
+
+  /**
+   * カスタムカテゴリを一括更新 updateCategories
+   * <p>
+   * 既存カテゴリを1回だけ読み込み、リクエストの先頭から順に検証して名前を変更する。 変更はトランザクションのコミット時にJDBCバッチでまとめて反映される。
+   * 検証に失敗したカテゴリは更新せず、リクエスト内の位置とエラー内容を結果として返す。
+   */
+  @Transactional
+  public CategoryBatchResponse updateCategories(
+      CategoryBatchUpdateRequest request,
+      String userId
+  ) {
+    try {
+      List<CategoryBatchUpdateItem> items = request.getCategories();
+      List<CategoryBatchResult> results = new ArrayList<>(items.size());
+      List<Category> customCategories =
+          categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(userId);
+      Set<String> takenNames = loadTakenNames(customCategories);
+      Map<Integer, Category> customCategoriesById = new HashMap<>();
+      customCategories.forEach(category -> customCategoriesById.put(category.getId(), category));
+      Set<Integer> systemCategoryIds = new HashSet<>();
+      systemCategorySnapshot.getCategories().forEach(category -> systemCategoryIds.add(category.id()));
+
+      // 自分のカテゴリでもデフォルトカテゴリでもないIDは、まとめて1回で所有者を確認する
+      Set<Integer> otherUsersCategoryIds = new HashSet<>();
+      List<Integer> unknownIds = items.stream()
+          .filter(Objects::nonNull)
+          .map(CategoryBatchUpdateItem::getId)
+          .filter(id -> id != null && !customCategoriesById.containsKey(id)
+              && !systemCategoryIds.contains(id))
+          .distinct()
+          .toList();
+      if (!unknownIds.isEmpty()) {
+        categoryRepository.findAllById(unknownIds).stream()
+            .filter(category -> !Boolean.TRUE.equals(category.getDeleted()))
+            .forEach(category -> otherUsersCategoryIds.add(category.getId()));
+      }
+
+      List<Category> updatedCategories = new ArrayList<>();
+      for (int i = 0; i < items.size(); i++) {
+        CategoryBatchUpdateItem item = items.get(i);
+        CategoryBatchResult nameError = validateBatchItem(i, item);
+        if (nameError != null) {
+          results.add(nameError);
+          continue;
+        }
+
+        Category categoryToUpdate = customCategoriesById.get(item.getId());
+        if (categoryToUpdate == null) {
+          // 権限チェック
+          if (systemCategoryIds.contains(item.getId())
+              || otherUsersCategoryIds.contains(item.getId())) {
+            results.add(CategoryBatchResult.failure(i, CODE_FORBIDDEN,
+                MSG_FORBIDDEN_UPDATE));
+          } else {
+            results.add(CategoryBatchResult.failure(i, CODE_NOT_FOUND,
+                MSG_NOT_FOUND_UPDATE));
+          }
+          continue;
+        }
+
+        // 重複チェック 自身の現在の名前とは重複とみなさない
+        String currentName = categoryToUpdate.getNormalizedName();
+        String newName = CategoryNames.normalize(item.getName());
+        if (!newName.equals(currentName) && takenNames.contains(newName)) {
+          results.add(CategoryBatchResult.failure(i, CODE_DUPLICATE,
+              MSG_DUPLICATE_CREATE));
+          continue;
+        }
+
+        takenNames.remove(currentName);
+        takenNames.add(newName);
+        categoryToUpdate.setName(item.getName());
+        updatedCategories.add(categoryToUpdate);
+        results.add(CategoryBatchResult.success(i, new CategoryResponse(categoryToUpdate)));
+      }
+
+      if (!updatedCategories.isEmpty()) {
+        invalidateCategoryList(userId);
+        indexCategories(userId, updatedCategories);
+      }
+      return new CategoryBatchResponse(results);
+
+    } catch (DataAccessException e) {
+      throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
+    } catch (Exception e) {
+      throw new RuntimeException(MSG_UNEXPECTED_ERROR, e);
+    }
+  }
+
+  /**
+   * デフォルトカテゴリとカスタムカテゴリの正規化済みの名前を集める 一括処理の重複チェックに使用
+   *
+   * @param customCategories ログインユーザーのカスタムカテゴリ
+   * @return 使用済みの名前(正規化済み)
+   */
+  private Set<String> loadTakenNames(List<Category> customCategories) {
+    Set<String> takenNames = new HashSet<>();
+    systemCategorySnapshot.getCategories()
+        .forEach(category -> takenNames.add(CategoryNames.normalize(category.name())));
+    customCategories.forEach(category -> takenNames.add(category.getNormalizedName()));
+    return takenNames;
+  }
+
+  /**
+   * 一括処理の1件分について、リクエストDTOの入力チェックを行う
+   *
+   * @param index   リクエスト内の位置
+   * @param request 検証するリクエストDTO。配列の要素がnullの場合はnull
+   * @return 入力エラーがある場合はエラー結果、ない場合はnull
+   */
+  private CategoryBatchResult validateBatchItem(int index, Object request) {
+    if (request == null) {
+      return CategoryBatchResult.failure(index, CODE_VALIDATION_ERROR, MSG_BATCH_ITEM_REQUIRED);
+    }
+    Set<ConstraintViolation<Object>> violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    // 複数の違反がある場合は、文字数超過より未入力を優先して返す
+    ConstraintViolation<Object> violation = violations.stream()
+        .filter(v -> !(v.getConstraintDescriptor().getAnnotation() instanceof Size))
+        .findFirst()
+        .orElse(violations.iterator().next());
+    String code;
+    if (!"name".equals(violation.getPropertyPath().toString())) {
+      code = CODE_VALIDATION_ERROR;
+    } else if (violation.getConstraintDescriptor().getAnnotation() instanceof Size) {
+      code = CODE_NAME_TOO_LONG;
+    } else {
+      code = CODE_NAME_REQUIRED;
+    }
+    return CategoryBatchResult.failure(index, code, violation.getMessage());
+  }
+
+  /**
+   * カテゴリ一覧のキャッシュを破棄し、バージョンを進める
+   * <p>
+   * キャッシュはトランザクション内で即時に破棄したうえで、コミット後にも再度破棄する。 コミット前に別リクエストが古い一覧を読み込んでキャッシュしても、書き込んだユーザーには残らない。
+   * バージョンはコミット後に進める。コミット前に進めると、古い一覧に新しいETagが付いてしまうため。 あわせて、直後の一覧の取得をプライマリから読むよう書き込みを記録する。
+   *
+   * @param userId 対象のユーザーID
+   */
+  private void invalidateCategoryList(String userId) {
+    categoryListCache.evict(userId);
+    readYourWritesGuard.recordWrite(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          categoryListCache.evict(userId);
+          categoryListVersions.bump(userId);
+        }
+      });
+    } else {
+      categoryListVersions.bump(userId);
+    }
+  }
+
+  /**
+   * 登録・更新したカテゴリを検索の索引に反映する 反映はコミット後に行われる
+   *
+   * @param userId     対象のユーザーID
+   * @param categories 登録・更新したカテゴリ
+   */
+  private void indexCategories(String userId, List<Category> categories) {
+    // コミットまでにエンティティが変更されても影響しないよう、この時点の名前で作成する
+    List<SearchDocument> documents = categories.stream().map(SearchDocument::category).toList();
+    searchIndex.update(userId, index -> documents.forEach(index::upsert));
+  }
+
   /**
    * カテゴリ名の重複をチェックする共通メソッド
+   * <p>
+   * 全角・半角などの表記揺れを吸収するため、正規化した名前で比較する。
    *
    * @param newName             新しいカテゴリ名
    * @param categoryIdToExclude 重複チェックから除外するカテゴリID (更新時に使用)
-   * @param categories          チェック対象のカテゴリリスト
+   * @param userId              ログインユーザーのID
    */
   private void validateCategoryName(
       String newName,
       Integer categoryIdToExclude,
-      List<Category> categories
+      String userId
   ) {
-    boolean isDuplicate = categories.stream()
-        .filter(category -> !category.getId().equals(categoryIdToExclude))
-        .anyMatch(category -> category.getName().equals(newName));
+    boolean isDuplicate = categoryRepository.existsDuplicateName(
+        userId, SYSTEM_USER_ID, CategoryNames.normalize(newName), categoryIdToExclude);
 
     if (isDuplicate) {
-      throw new IllegalStateException(MSG_DUPLICATE_CREATE);
+      throw new BusinessException(ErrorCode.CATEGORY_NAME_DUPLICATE, MSG_DUPLICATE_CREATE);
     }
   }
 }
@@ -0,0 +1,107 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSVを1レコードずつ読み込むリーダー(RFC 4180)
+ * <p>
+ * ファイル全体を読み込まず、呼び出しのたびに次のレコードだけを読み進める。 ダブルクォートで囲まれた項目内のカンマ・改行・エスケープされたダブルクォート("")に対応する。
+ */
+final class CsvRecordReader {
+
+  private final Reader reader;
+  private int lineNumber = 1;
+  private int recordLineNumber;
+  private int pending = -2;
+
+  /**
+   * @param reader 読み込むCSV。バッファリングは呼び出し元で行うこと
+   */
+  CsvRecordReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * 次のレコードを読み込む
+   *
+   * @return 項目のリスト。ファイルの終わりに達した場合はnull
+   * @throws IOException       読み込みに失敗した場合
+   * @throws BusinessException ダブルクォートが閉じられないままファイルが終わった場合
+   */
+  List<String> next() throws IOException {
+    int c = read();
+    if (c == -1) {
+      return null;
+    }
+    recordLineNumber = lineNumber;
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+
+    while (true) {
+      if (quoted) {
+        if (c == -1) {
+          throw new BusinessException(ErrorCode.INVALID_CSV,
+              recordLineNumber + "行目のダブルクォートが閉じられていません");
+        }
+        if (c == '"') {
+          int following = read();
+          if (following == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            c = following;
+            continue;
+          }
+        } else {
+          if (c == '\n') {
+            lineNumber++;
+          }
+          field.append((char) c);
+        }
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\r' || c == '\n' || c == -1) {
+        if (c == '\r') {
+          int following = read();
+          if (following != '\n') {
+            pending = following;
+          }
+        }
+        if (c != -1) {
+          lineNumber++;
+        }
+        fields.add(field.toString());
+        return fields;
+      } else {
+        field.append((char) c);
+      }
+      c = read();
+    }
+  }
+
+  /**
+   * 直前に {@link #next()} で読み込んだレコードが始まる行番号(1始まり)
+   */
+  int getRecordLineNumber() {
+    return recordLineNumber;
+  }
+
+  private int read() throws IOException {
+    if (pending != -2) {
+      int c = pending;
+      pending = -2;
+      return c;
+    }
+    return reader.read();
+  }
+}
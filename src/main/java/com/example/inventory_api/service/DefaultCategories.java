@@ -0,0 +1,43 @@
+package com.example.inventory_api.service;
+
+import org.springframework.core.io.Resource;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 起動時に登録するシステムのデフォルトカテゴリの一覧と、そのバージョン
+ *
+ * @param version 一覧のバージョン。内容を変更した場合は上げる
+ * @param names   デフォルトカテゴリの名前
+ */
+public record DefaultCategories(int version, List<String> names) {
+
+  // デフォルトカテゴリの一覧を定義したリソース
+  public static final String RESOURCE_LOCATION = "classpath:seed/default-categories.yml";
+
+  public DefaultCategories {
+    names = List.copyOf(names);
+  }
+
+  /**
+   * YAMLのリソース(version, names)から読み込む
+   *
+   * @param resource 読み込むリソース
+   * @return デフォルトカテゴリの一覧
+   */
+  public static DefaultCategories load(Resource resource) {
+    try (InputStream in = resource.getInputStream()) {
+      Map<String, Object> yaml = new Yaml().load(in);
+      @SuppressWarnings("unchecked")
+      List<String> names = (List<String>) yaml.get("names");
+      return new DefaultCategories((Integer) yaml.get("version"), names);
+    } catch (IOException e) {
+      throw new UncheckedIOException("デフォルトカテゴリの一覧を読み込めません: " + resource, e);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.model.SeedVersion;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.SeedVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * システムのデフォルトカテゴリを登録するサービス
+ * <p>
+ * 登録済みのバージョンを記録しておき、一覧のバージョンと一致する場合は何もしない(起動時のDBアクセスは1回)。 一致しない場合は、登録済みの名前を1回で読み込み、
+ * 未登録のカテゴリだけをJDBCバッチでまとめて登録する。
+ */
+@Service
+@RequiredArgsConstructor
+public class DefaultCategorySeeder {
+
+  // seed_versionsに記録する初期データの種類
+  static final String SEED_NAME = "default-categories";
+
+  // システムユーザー（仮）
+  private static final String SYSTEM_USER_ID = "system";
+
+  private final CategoryRepository categoryRepository;
+  private final SeedVersionRepository seedVersionRepository;
+
+  /**
+   * デフォルトカテゴリを登録する
+   *
+   * @param defaults 登録するデフォルトカテゴリの一覧
+   * @return カテゴリを登録した、またはバージョンを更新した場合はtrue。登録済みのバージョンと一致した場合はfalse
+   */
+  @Transactional
+  public boolean seed(DefaultCategories defaults) {
+    // 同時に起動した他のインスタンスとは、バージョンの行ロックで順番に登録する
+    SeedVersion seedVersion = seedVersionRepository.findForUpdate(SEED_NAME)
+        .orElseGet(() -> new SeedVersion(SEED_NAME, 0));
+    if (seedVersion.getVersion() == defaults.version()) {
+      return false;
+    }
+
+    Set<String> registeredNames = new HashSet<>();
+    categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(SYSTEM_USER_ID)
+        .forEach(category -> registeredNames.add(category.getName()));
+    List<Category> newCategories = defaults.names().stream()
+        .filter(registeredNames::add)
+        .map(name -> new Category(SYSTEM_USER_ID, name, false))
+        .toList();
+    // IDはシーケンスから払い出されるため、INSERTはJDBCバッチでまとめて実行される
+    categoryRepository.saveAll(newCategories);
+
+    seedVersion.setVersion(defaults.version());
+    seedVersionRepository.save(seedVersion);
+    return true;
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * アイテム一覧のページング位置 前ページの最後のアイテムの(更新日時, ID)を表す
+ * <p>
+ * クライアントには中身を意識させないよう、URLセーフなBase64文字列として受け渡す。
+ */
+record ItemCursor(LocalDateTime updatedAt, Integer id) {
+
+  private static final String MSG_INVALID_CURSOR = "カーソルの形式が正しくありません";
+  private static final String SEPARATOR = "|";
+
+  /**
+   * カーソル文字列に変換する
+   */
+  String encode() {
+    String raw = updatedAt + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * カーソル文字列を復元する
+   *
+   * @param cursor {@link #encode()} で作成したカーソル文字列
+   * @return ページング位置
+   * @throws BusinessException カーソルの形式が正しくない場合
+   */
+  static ItemCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = raw.lastIndexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new BusinessException(ErrorCode.INVALID_CURSOR, MSG_INVALID_CURSOR);
+      }
+      return new ItemCursor(
+          LocalDateTime.parse(raw.substring(0, separatorIndex)),
+          Integer.valueOf(raw.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new BusinessException(ErrorCode.INVALID_CURSOR, MSG_INVALID_CURSOR, e);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+
+import java.util.Locale;
+
+/**
+ * アイテムのエクスポート形式
+ */
+public enum ItemExportFormat {
+
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv;charset=UTF-8", "csv");
+
+  private static final String MSG_INVALID_FORMAT = "エクスポート形式はndjsonまたはcsvを指定してください";
+
+  private final String contentType;
+  private final String extension;
+
+  ItemExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getFileName() {
+    return "items." + extension;
+  }
+
+  /**
+   * クエリパラメータの値から形式を判定する
+   *
+   * @param value クエリパラメータの値(大文字・小文字は区別しない)。nullの場合はNDJSON
+   * @return エクスポート形式
+   * @throws BusinessException 対応していない形式の場合(INVALID_EXPORT_FORMAT)
+   */
+  public static ItemExportFormat from(String value) {
+    if (value == null) {
+      return NDJSON;
+    }
+    try {
+      return valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new BusinessException(ErrorCode.INVALID_EXPORT_FORMAT, MSG_INVALID_FORMAT, e);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.domain.model.Item;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * ユーザーの全アイテムをNDJSONまたはCSVで書き出すサービス
+ * <p>
+ * アイテムをまとめて読み込まず、DBから1件ずつ読みながらレスポンスに書き出す。 書き出したアイテムは永続化コンテキストから切り離すため、件数に関係なくヒープの使用量は一定になる。
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemExportService {
+
+  private final ItemRepository itemRepository;
+  private final EntityManager entityManager;
+  private final ReadYourWritesGuard readYourWritesGuard;
+  private final JsonFactory jsonFactory = new JsonFactory();
+
+  // CSVのヘッダー行
+  private static final String CSV_HEADER = "id,categoryId,name,quantity,price,place,updatedAt";
+
+  /**
+   * ユーザーの全アイテムを書き出す export
+   * <p>
+   * ストリームを読み終えるまでDB接続を保持するため、読み取り専用のトランザクションで実行する。 レプリカを使う設定の場合はレプリカから読む。
+   *
+   * @param userId ユーザーID
+   * @param format エクスポート形式
+   * @param out    書き出し先（レスポンスボディ）
+   * @return 書き出した件数
+   */
+  @Transactional(readOnly = true)
+  public long export(String userId, ItemExportFormat format, OutputStream out) throws IOException {
+    readYourWritesGuard.routeReads(userId);
+    try (Stream<Item> items = itemRepository.streamByUserId(userId)) {
+      return switch (format) {
+        case NDJSON -> writeNdjson(items.iterator(), out);
+        case CSV -> writeCsv(items.iterator(), out);
+      };
+    }
+  }
+
+  private long writeNdjson(Iterator<Item> items, OutputStream out) throws IOException {
+    long count = 0;
+    // 1行ごとに1つのJSONを書き出す。ストリームのcloseはレスポンス側に任せる
+    try (JsonGenerator json = jsonFactory.createGenerator(out, JsonEncoding.UTF8)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      json.setRootValueSeparator(null);
+      while (items.hasNext()) {
+        Item item = items.next();
+        json.writeStartObject();
+        json.writeNumberField("id", item.getId());
+        writeNumberField(json, "categoryId", item.getCategoryId());
+        json.writeStringField("name", item.getName());
+        writeNumberField(json, "quantity", item.getQuantity());
+        writeNumberField(json, "price", item.getPrice());
+        json.writeStringField("place", item.getPlace());
+        json.writeStringField("updatedAt",
+            item.getUpdatedAt() == null ? null : item.getUpdatedAt().toString());
+        json.writeEndObject();
+        json.writeRaw('\n');
+        entityManager.detach(item);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private long writeCsv(Iterator<Item> items, OutputStream out) throws IOException {
+    long count = 0;
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    writer.write(CSV_HEADER);
+    writer.write("\r\n");
+    while (items.hasNext()) {
+      Item item = items.next();
+      writer.write(String.valueOf(item.getId()));
+      writer.write(',');
+      writer.write(csvValue(item.getCategoryId()));
+      writer.write(',');
+      writer.write(csvValue(item.getName()));
+      writer.write(',');
+      writer.write(csvValue(item.getQuantity()));
+      writer.write(',');
+      writer.write(csvValue(item.getPrice()));
+      writer.write(',');
+      writer.write(csvValue(item.getPlace()));
+      writer.write(',');
+      writer.write(csvValue(item.getUpdatedAt()));
+      writer.write("\r\n");
+      entityManager.detach(item);
+      count++;
+    }
+    writer.flush();
+    return count;
+  }
+
+  private static void writeNumberField(JsonGenerator json, String name, Integer value)
+      throws IOException {
+    if (value == null) {
+      json.writeNullField(name);
+    } else {
+      json.writeNumberField(name, value);
+    }
+  }
+
+  /**
+   * CSVの1項目分の文字列に変換する カンマ・ダブルクォート・改行を含む場合はダブルクォートで囲む(RFC 4180)
+   */
+  private static String csvValue(Object value) {
+    if (value == null) {
+      return "";
+    }
+    String text = value.toString();
+    if (text.indexOf(',') < 0 && text.indexOf('"') < 0
+        && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+      return text;
+    }
+    return '"' + text.replace("\"", "\"\"") + '"';
+  }
+}
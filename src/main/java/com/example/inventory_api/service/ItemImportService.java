@@ -0,0 +1,289 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.controller.dto.ItemImportError;
+import com.example.inventory_api.controller.dto.ItemImportResponse;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.model.Item;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.example.inventory_api.domain.support.CategoryNames;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * CSVからアイテムを一括登録するサービス
+ * <p>
+ * CSVは1行ずつ読み込み、カテゴリと登録済みのアイテム名は最初に1回だけ読み込んで照合する。 登録は一定件数ごとにflushしてJDBCバッチでまとめて実行し、
+ * 永続化コンテキストをclearしてメモリ使用量を抑える。
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemImportService {
+
+  private final ItemRepository itemRepository;
+  private final CategoryRepository categoryRepository;
+  private final EntityManager entityManager;
+  private final ReadYourWritesGuard readYourWritesGuard;
+  private final SearchIndex searchIndex;
+
+  // flushとclearを行う件数（hibernate.jdbc.batch_sizeの倍数にする）
+  static final int FLUSH_SIZE = 1000;
+  // レスポンスに含めるエラー行の上限
+  static final int MAX_REPORTED_ERRORS = 1000;
+
+  private static final int MAX_NAME_LENGTH = 50;
+  private static final String SYSTEM_USER_ID = "system";
+
+  // CSVの列名
+  private static final String COLUMN_CATEGORY = "category";
+  private static final String COLUMN_NAME = "name";
+  private static final String COLUMN_QUANTITY = "quantity";
+  private static final String COLUMN_PRICE = "price";
+  private static final String COLUMN_PLACE = "place";
+  private static final String COLUMN_THRESHOLD = "threshold";
+
+  // エラーメッセージを定数化
+  private static final String MSG_INVALID_HEADER = "1行目にcategory列とname列を含むヘッダー行が必要です";
+  private static final String MSG_READ_ERROR = "CSVの読み込みに失敗しました";
+  private static final String MSG_FIELDS_REQUIRED = "アイテム名とカテゴリは必須です";
+  private static final String MSG_NAME_TOO_LONG = "アイテム名は50文字以内で入力してください";
+  private static final String MSG_INVALID_QUANTITY = "数量は0以上の整数で入力してください";
+  private static final String MSG_INVALID_PRICE = "購入価格は0以上の整数で入力してください";
+  private static final String MSG_INVALID_THRESHOLD = "しきい値は0以上の整数で入力してください";
+  private static final String MSG_CATEGORY_NOT_FOUND = "指定されたカテゴリが見つかりません";
+  private static final String MSG_DUPLICATE = "そのアイテム名は既に登録されています";
+  private static final String MSG_COLUMN_COUNT = "列の数がヘッダー行と一致しません";
+
+  /**
+   * CSVからアイテムを一括登録 importItems
+   * <p>
+   * 不正な行は登録せずに読み飛ばし、行番号とエラー内容をレスポンスで返す。
+   *
+   * @param csv    CSV(UTF-8、1行目はヘッダー行)
+   * @param userId ログインユーザーのID
+   * @return インポート結果
+   */
+  @Transactional
+  public ItemImportResponse importItems(InputStream csv, String userId) {
+    CsvRecordReader reader = new CsvRecordReader(
+        new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+    try {
+      CsvHeader header = readHeader(reader.next());
+
+      // カテゴリとアイテム名は最初に1回だけ読み込む
+      Map<String, Integer> categoryIds = new HashMap<>();
+      for (Category category : categoryRepository.findUserCategories(userId, SYSTEM_USER_ID)) {
+        categoryIds.put(CategoryNames.normalize(category.getName()), category.getId());
+      }
+      Map<Integer, Set<String>> itemNames = new HashMap<>();
+      itemRepository.findItemNamesByUserId(userId).forEach(itemName -> itemNames
+          .computeIfAbsent(itemName.getCategoryId(), id -> new HashSet<>())
+          .add(itemName.getName()));
+
+      // カテゴリごとの登録件数。最後にカテゴリのアイテム数に加算する
+      Map<Integer, Integer> acceptedByCategory = new TreeMap<>();
+      // 検索の索引に反映するアイテム。FLUSH_SIZEを超えた場合は溜めずに、索引を作り直す
+      List<SearchDocument> searchDocuments = new ArrayList<>();
+      int accepted = 0;
+      int rejected = 0;
+      List<ItemImportError> errors = new ArrayList<>();
+      List<String> fields;
+      while ((fields = reader.next()) != null) {
+        int line = reader.getRecordLineNumber();
+        // 空行は読み飛ばす
+        if (fields.size() == 1 && fields.get(0).isBlank()) {
+          continue;
+        }
+
+        ItemImportError error = null;
+        Item item = null;
+        try {
+          item = toItem(fields, header, line, categoryIds, userId);
+          if (!itemNames.computeIfAbsent(item.getCategoryId(), id -> new HashSet<>())
+              .add(item.getName())) {
+            error = new ItemImportError(line, "ITEM_NAME_DUPLICATE", MSG_DUPLICATE);
+          }
+        } catch (RowException e) {
+          error = e.error;
+        }
+
+        if (error != null) {
+          rejected++;
+          if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+          }
+          continue;
+        }
+
+        entityManager.persist(item);
+        acceptedByCategory.merge(item.getCategoryId(), 1, Integer::sum);
+        accepted++;
+        if (accepted <= FLUSH_SIZE) {
+          searchDocuments.add(
+              SearchDocument.item(item.getId(), item.getCategoryId(), item.getName()));
+        } else {
+          searchDocuments.clear();
+        }
+        // 一定件数ごとにINSERTを実行し、登録済みのエンティティを永続化コンテキストから外す
+        if (accepted % FLUSH_SIZE == 0) {
+          entityManager.flush();
+          entityManager.clear();
+        }
+      }
+      entityManager.flush();
+      entityManager.clear();
+      addItemCounts(acceptedByCategory);
+      if (accepted > 0) {
+        readYourWritesGuard.recordWrite(userId);
+      }
+      if (accepted > FLUSH_SIZE) {
+        searchIndex.evict(userId);
+      } else if (accepted > 0) {
+        searchIndex.update(userId, index -> searchDocuments.forEach(index::upsert));
+      }
+
+      return new ItemImportResponse(accepted, rejected, errors);
+
+    } catch (IOException e) {
+      throw new RuntimeException(MSG_READ_ERROR, e);
+    }
+  }
+
+  /**
+   * 登録したアイテムの件数を、カテゴリのアイテム数に加算する
+   * <p>
+   * 同じカテゴリに同時にインポートした場合にデッドロックしないよう、カテゴリIDの順に更新する。 読み込んだ後でカテゴリが削除されていた場合は、インポート全体を取り消す。
+   *
+   * @param acceptedByCategory カテゴリIDの順に並んだ、カテゴリごとの登録件数
+   */
+  private void addItemCounts(Map<Integer, Integer> acceptedByCategory) {
+    acceptedByCategory.forEach((categoryId, count) -> {
+      if (categoryRepository.addItemCount(categoryId, count) == 0) {
+        throw new BusinessException(ErrorCode.CATEGORY_NOT_FOUND, MSG_CATEGORY_NOT_FOUND);
+      }
+    });
+  }
+
+  /**
+   * ヘッダー行から列名と列番号の対応を作成する
+   */
+  private CsvHeader readHeader(List<String> header) {
+    if (header == null) {
+      throw new BusinessException(ErrorCode.INVALID_CSV, MSG_INVALID_HEADER);
+    }
+    Map<String, Integer> columns = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      // Excelで保存したCSVの先頭に付くBOMは取り除く
+      String column = header.get(i).replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT);
+      columns.putIfAbsent(column, i);
+    }
+    if (!columns.containsKey(COLUMN_CATEGORY) || !columns.containsKey(COLUMN_NAME)) {
+      throw new BusinessException(ErrorCode.INVALID_CSV, MSG_INVALID_HEADER);
+    }
+    return new CsvHeader(columns, header.size());
+  }
+
+  /**
+   * 1行分の項目を検証してアイテムに変換する
+   */
+  private Item toItem(List<String> fields, CsvHeader header, int line,
+      Map<String, Integer> categoryIds, String userId) {
+    if (fields.size() != header.size()) {
+      throw new RowException(line, "INVALID_CSV_ROW", MSG_COLUMN_COUNT);
+    }
+    String categoryName = field(fields, header, COLUMN_CATEGORY);
+    String name = field(fields, header, COLUMN_NAME);
+    if (categoryName == null || name == null) {
+      throw new RowException(line, "ITEM_FIELDS_REQUIRED", MSG_FIELDS_REQUIRED);
+    }
+    if (name.length() > MAX_NAME_LENGTH) {
+      throw new RowException(line, "ITEM_NAME_TOO_LONG", MSG_NAME_TOO_LONG);
+    }
+    Integer categoryId = categoryIds.get(CategoryNames.normalize(categoryName));
+    if (categoryId == null) {
+      throw new RowException(line, "CATEGORY_NOT_FOUND", MSG_CATEGORY_NOT_FOUND);
+    }
+
+    Item item = new Item();
+    item.setUserId(userId);
+    item.setCategoryId(categoryId);
+    item.setName(name);
+    item.setQuantity(nonNegative(field(fields, header, COLUMN_QUANTITY), 0,
+        line, "INVALID_ITEM_QUANTITY", MSG_INVALID_QUANTITY));
+    item.setPrice(nonNegative(field(fields, header, COLUMN_PRICE), null,
+        line, "INVALID_ITEM_PRICE", MSG_INVALID_PRICE));
+    item.setPlace(field(fields, header, COLUMN_PLACE));
+    item.setThreshold(nonNegative(field(fields, header, COLUMN_THRESHOLD), null,
+        line, "INVALID_ITEM_THRESHOLD", MSG_INVALID_THRESHOLD));
+    item.setDeleted(false);
+    return item;
+  }
+
+  // 列の値を前後の空白を除いて取得する ヘッダー行にない列、空の値はnull
+  private static String field(List<String> fields, CsvHeader header, String column) {
+    Integer index = header.columns().get(column);
+    if (index == null) {
+      return null;
+    }
+    String value = fields.get(index).strip();
+    return value.isEmpty() ? null : value;
+  }
+
+  private static Integer nonNegative(String value, Integer defaultValue, int line, String code,
+      String message) {
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      int number = Integer.parseInt(value);
+      if (number < 0) {
+        throw new RowException(line, code, message);
+      }
+      return number;
+    } catch (NumberFormatException e) {
+      throw new RowException(line, code, message);
+    }
+  }
+
+  /**
+   * ヘッダー行の内容
+   *
+   * @param columns 列名(小文字)と列番号の対応
+   * @param size    列の数
+   */
+  private record CsvHeader(Map<String, Integer> columns, int size) {
+
+  }
+
+  /**
+   * 1行分の検証エラー 行の読み飛ばしに使うため、スタックトレースは作成しない
+   */
+  private static class RowException extends RuntimeException {
+
+    private final transient ItemImportError error;
+
+    RowException(int line, String code, String message) {
+      super(message, null, false, false);
+      this.error = new ItemImportError(line, code, message);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.controller.dto.ItemResponse;
+
+import java.util.List;
+
+/**
+ * アイテム一覧の1ページ分
+ *
+ * @param items      アイテムのリスト
+ * @param nextCursor 次ページを取得するためのカーソル。最終ページの場合はnull
+ */
+public record ItemPage(List<ItemResponse> items, String nextCursor) {
+
+}
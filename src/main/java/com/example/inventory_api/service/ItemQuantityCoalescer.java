@@ -0,0 +1,214 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 同じアイテムへの在庫数の増減を短い時間まとめて、1回のUPDATEでDBに反映するクラス
+ * <p>
+ * +1/-1のタップが続いた場合、最初の増減から一定時間(coalesce-window)に受け付けた増減を合算して書き込む。 書き込みは最初の増減を受け付けたリクエストのスレッドが
+ * 待ち時間の後に行い、後から来たリクエストはその結果を待つ。
+ * <p>
+ * 結果は、受け付けた順に1件ずつ反映した場合と同じにする。 まとめて書き込むのは途中で在庫数が0未満にならない場合だけで、 在庫数0で -1, +1 と続いた場合は
+ * 合計が0でも -1 を失敗とする。 途中で0未満になる場合は、受け付けた順に1件ずつ書き込み、0未満になる増減だけを失敗とする。
+ * 各リクエストには、そのリクエストの増減までを反映した時点の在庫数を返す。
+ */
+@Component
+public class ItemQuantityCoalescer {
+
+  private static final String MSG_NOT_FOUND = "該当のアイテムが見つかりません";
+  private static final String MSG_NEGATIVE_QUANTITY = "在庫数を0未満にすることはできません";
+
+  private final ItemRepository itemRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final long windowMillis;
+
+  // 書き込み待ちの増減 キーはユーザーIDとアイテムID
+  private final ConcurrentHashMap<Key, Pending> pendings = new ConcurrentHashMap<>();
+
+  // DBへの書き込み回数（まとめた結果を確認するため）
+  private final LongAdder writes = new LongAdder();
+
+  @Autowired
+  public ItemQuantityCoalescer(
+      ItemRepository itemRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.item.quantity.coalesce-window}") Duration window
+  ) {
+    this.itemRepository = itemRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.windowMillis = window.toMillis();
+  }
+
+  /**
+   * 在庫数の増減を受け付ける
+   *
+   * @param userId ユーザーID
+   * @param itemId アイテムID
+   * @param delta  増減する数
+   * @return DBに反映した後の在庫数。アイテムが存在しない場合や在庫数が0未満になる場合は BusinessExceptionで失敗する
+   */
+  public CompletableFuture<Integer> adjust(String userId, Integer itemId, int delta) {
+    Key key = new Key(userId, itemId);
+    Request request = new Request(delta, new CompletableFuture<>());
+    if (windowMillis <= 0) {
+      flush(key, List.of(request));
+      return request.result();
+    }
+
+    while (true) {
+      Pending created = new Pending();
+      Pending pending = pendings.putIfAbsent(key, created);
+      if (pending == null) {
+        // 最初の増減を受け付けたスレッドが、待ち時間の後にまとめて書き込む
+        created.add(request);
+        awaitWindow();
+        flush(key, created);
+        return request.result();
+      }
+      // 書き込みが始まったPendingには追加せず、新しいPendingを作り直す
+      if (pending.add(request)) {
+        return request.result();
+      }
+    }
+  }
+
+  /**
+   * これまでにDBへ書き込んだ回数
+   */
+  public long getWriteCount() {
+    return writes.sum();
+  }
+
+  /**
+   * 終了時に書き込み待ちの増減を反映する
+   */
+  @PreDestroy
+  public void shutdown() {
+    pendings.forEach(this::flush);
+  }
+
+  private void awaitWindow() {
+    try {
+      Thread.sleep(windowMillis);
+    } catch (InterruptedException e) {
+      // 割り込まれた場合は待たずに書き込む
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void flush(Key key, Pending pending) {
+    pendings.remove(key, pending);
+    flush(key, pending.close());
+  }
+
+  private void flush(Key key, List<Request> requests) {
+    if (requests.isEmpty()) {
+      return;
+    }
+    try {
+      // 受け付けた順の途中の合計と、その最小値
+      int[] runningTotals = new int[requests.size()];
+      int total = 0;
+      int lowest = 0;
+      for (int i = 0; i < requests.size(); i++) {
+        total += requests.get(i).delta();
+        runningTotals[i] = total;
+        lowest = Math.min(lowest, total);
+      }
+      Integer quantity = write(key, total, lowest);
+      if (quantity != null) {
+        int before = quantity - total;
+        for (int i = 0; i < requests.size(); i++) {
+          requests.get(i).result().complete(before + runningTotals[i]);
+        }
+        return;
+      }
+      if (requests.size() == 1) {
+        requests.get(0).result().completeExceptionally(failure(key));
+        return;
+      }
+      // 途中で0未満になる場合は、受け付けた順に1件ずつ反映する
+      for (Request request : requests) {
+        Integer result = write(key, request.delta(), Math.min(0, request.delta()));
+        if (result != null) {
+          request.result().complete(result);
+        } else {
+          request.result().completeExceptionally(failure(key));
+        }
+      }
+    } catch (RuntimeException e) {
+      requests.forEach(request -> request.result().completeExceptionally(e));
+    }
+  }
+
+  // 増減を1回のUPDATEで反映し、反映後の在庫数を返す 反映できなかった場合はnull
+  private Integer write(Key key, int delta, int lowest) {
+    writes.increment();
+    return transactionTemplate.execute(status -> {
+      LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+      if (itemRepository.adjustQuantity(key.itemId(), key.userId(), delta, lowest, now) == 0) {
+        return null;
+      }
+      return itemRepository.findQuantity(key.itemId(), key.userId()).orElse(null);
+    });
+  }
+
+  // 反映できなかった理由を判定する
+  private BusinessException failure(Key key) {
+    boolean exists = itemRepository.findQuantity(key.itemId(), key.userId()).isPresent();
+    return exists
+        ? new BusinessException(ErrorCode.ITEM_QUANTITY_CONFLICT, MSG_NEGATIVE_QUANTITY)
+        : new BusinessException(ErrorCode.NOT_FOUND_ERROR, MSG_NOT_FOUND);
+  }
+
+  private record Key(String userId, Integer itemId) {
+
+  }
+
+  private record Request(int delta, CompletableFuture<Integer> result) {
+
+  }
+
+  /**
+   * 1つのアイテムについて、書き込み待ちの増減をためておく
+   */
+  private static final class Pending {
+
+    private final List<Request> requests = new ArrayList<>();
+    private boolean closed;
+
+    synchronized boolean add(Request request) {
+      if (closed) {
+        return false;
+      }
+      requests.add(request);
+      return true;
+    }
+
+    // 書き込む増減を返す 終了時の反映と最初のスレッドの両方から呼び出されるため、2回目以降は同じ増減を二重に書き込まないよう空を返す
+    synchronized List<Request> close() {
+      if (closed) {
+        return List.of();
+      }
+      closed = true;
+      return requests;
+    }
+  }
+}
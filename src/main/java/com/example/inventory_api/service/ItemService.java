@@ -0,0 +1,176 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.controller.dto.ItemQuantityResponse;
+import com.example.inventory_api.controller.dto.ItemResponse;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.model.Item;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+@Service
+@RequiredArgsConstructor
+public class ItemService {
+
+  private final ItemRepository itemRepository;
+  private final CategoryRepository categoryRepository;
+  private final ItemQuantityCoalescer itemQuantityCoalescer;
+  private final ReadYourWritesGuard readYourWritesGuard;
+
+  // 1ページの件数
+  private static final int DEFAULT_PAGE_SIZE = 50;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  // 在庫が少ないアイテムの取得件数
+  private static final int DEFAULT_LOW_STOCK_SIZE = 100;
+  private static final int MAX_LOW_STOCK_SIZE = 500;
+
+  private static final String SYSTEM_USER_ID = "system";
+
+  // エラーメッセージを定数化
+  private static final String MSG_CATEGORY_NOT_FOUND = "指定されたカテゴリが見つかりません";
+  private static final String MSG_NOT_FOUND_ITEM = "該当のアイテムが見つかりません";
+  private static final String MSG_DB_ACCESS_ERROR = "データベースへのアクセスに失敗しました";
+  private static final String MSG_UNEXPECTED_ERROR = "予期せぬエラーが発生しました";
+
+  /**
+   * カテゴリ内のアイテム一覧を取得 getItemList
+   * <p>
+   * 更新日時の降順に、カーソルの位置から1ページ分を取得する。 次ページの有無を判定するため、1件多く取得する。
+   *
+   * @param categoryId カテゴリID
+   * @param cursor     前ページのレスポンスで返したカーソル。先頭ページの場合はnull
+   * @param limit      1ページの件数。nullの場合は既定の件数
+   * @param userId     ログインユーザーのID
+   * @return アイテム一覧の1ページ分
+   */
+  @Transactional(readOnly = true)
+  public ItemPage getItemList(Integer categoryId, String cursor, Integer limit, String userId) {
+    // カーソルの形式チェック（DBにアクセスする前に行う）
+    ItemCursor position = cursor == null || cursor.isEmpty() ? null : ItemCursor.decode(cursor);
+    int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+    try {
+      readYourWritesGuard.routeReads(userId);
+      // アクセスチェック 自分のカテゴリかデフォルトカテゴリのみ参照できる
+      Category category = categoryRepository.findByIdAndDeletedFalse(categoryId)
+          .filter(c -> userId.equals(c.getUserId()) || SYSTEM_USER_ID.equals(c.getUserId()))
+          .orElseThrow(
+              () -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND, MSG_CATEGORY_NOT_FOUND));
+
+      List<Item> items = position == null
+          ? itemRepository.findFirstPage(userId, category.getId(), Limit.of(pageSize + 1))
+          : itemRepository.findNextPage(userId, category.getId(), position.updatedAt(),
+              position.id(), Limit.of(pageSize + 1));
+
+      String nextCursor = null;
+      if (items.size() > pageSize) {
+        items = items.subList(0, pageSize);
+        Item last = items.get(pageSize - 1);
+        nextCursor = new ItemCursor(last.getUpdatedAt(), last.getId()).encode();
+      }
+      return new ItemPage(items.stream().map(ItemResponse::new).toList(), nextCursor);
+
+    } catch (BusinessException e) {
+      throw e;
+    } catch (DataAccessException e) {
+      throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
+    } catch (Exception e) {
+      throw new RuntimeException(MSG_UNEXPECTED_ERROR, e);
+    }
+  }
+
+  /**
+   * 在庫が少ないアイテムの一覧を取得 getLowStockItems
+   * <p>
+   * 在庫数がしきい値以下のアイテムを、しきい値に対して不足している順に取得する。 しきい値を設定していないアイテムは対象外。
+   *
+   * @param limit  取得件数。nullの場合は既定の件数
+   * @param userId ログインユーザーのID
+   * @return アイテムのリスト
+   */
+  @Transactional(readOnly = true)
+  public List<ItemResponse> getLowStockItems(Integer limit, String userId) {
+    int size = limit == null ? DEFAULT_LOW_STOCK_SIZE : Math.clamp(limit, 1, MAX_LOW_STOCK_SIZE);
+    try {
+      readYourWritesGuard.routeReads(userId);
+      return itemRepository.findLowStock(userId, Limit.of(size)).stream()
+          .map(ItemResponse::new)
+          .toList();
+
+    } catch (DataAccessException e) {
+      throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
+    } catch (Exception e) {
+      throw new RuntimeException(MSG_UNEXPECTED_ERROR, e);
+    }
+  }
+
+  /**
+   * アイテムのしきい値を更新 updateThreshold
+   *
+   * @param itemId    アイテムID
+   * @param threshold しきい値。nullの場合はしきい値を解除する
+   * @param userId    ログインユーザーのID
+   * @return 更新後のアイテム
+   */
+  @Transactional
+  public ItemResponse updateThreshold(Integer itemId, Integer threshold, String userId) {
+    try {
+      LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+      if (itemRepository.updateThreshold(itemId, userId, threshold, now) == 0) {
+        throw new BusinessException(ErrorCode.NOT_FOUND_ERROR, MSG_NOT_FOUND_ITEM);
+      }
+      readYourWritesGuard.recordWrite(userId);
+      Item updatedItem = itemRepository.findByIdAndUserIdAndDeletedFalse(itemId, userId)
+          .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_ERROR, MSG_NOT_FOUND_ITEM));
+      return new ItemResponse(updatedItem);
+
+    } catch (BusinessException e) {
+      throw e;
+    } catch (DataAccessException e) {
+      throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
+    } catch (Exception e) {
+      throw new RuntimeException(MSG_UNEXPECTED_ERROR, e);
+    }
+  }
+
+  /**
+   * アイテムの在庫数を増減 adjustQuantity
+   * <p>
+   * エンティティを読み込んで保存するのではなく、条件付きのUPDATEで増減する。 同じアイテムへの短時間の増減はまとめて1回で書き込む。
+   *
+   * @param itemId アイテムID
+   * @param delta  増減する数
+   * @param userId ログインユーザーのID
+   * @return 増減を反映した後の在庫数
+   */
+  public ItemQuantityResponse adjustQuantity(Integer itemId, int delta, String userId) {
+    try {
+      Integer quantity = itemQuantityCoalescer.adjust(userId, itemId, delta).join();
+      // 書き込みはコミット済みのため、この時点で記録する
+      readYourWritesGuard.recordWrite(userId);
+      return new ItemQuantityResponse(itemId, quantity);
+
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof BusinessException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof DataAccessException) {
+        throw new RuntimeException(MSG_DB_ACCESS_ERROR, e.getCause());
+      }
+      throw new RuntimeException(MSG_UNEXPECTED_ERROR, e.getCause());
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.support.SearchTexts;
+
+/**
+ * 検索の索引({@link UserSearchIndex})に登録するアイテム・カテゴリ1件分
+ *
+ * @param type       アイテムかカテゴリか
+ * @param id         アイテムID・カテゴリID
+ * @param categoryId アイテムのカテゴリID。カテゴリの場合はnull
+ * @param name       表示用の名前
+ * @param text       検索用に正規化した名前
+ */
+public record SearchDocument(Type type, Integer id, Integer categoryId, String name, String text) {
+
+  /**
+   * アイテムの検索データを作成する
+   */
+  public static SearchDocument item(Integer id, Integer categoryId, String name) {
+    return new SearchDocument(Type.ITEM, id, categoryId, name, SearchTexts.normalize(name));
+  }
+
+  /**
+   * カテゴリの検索データを作成する
+   */
+  public static SearchDocument category(Category category) {
+    return new SearchDocument(Type.CATEGORY, category.getId(), null, category.getName(),
+        SearchTexts.normalize(category.getName()));
+  }
+
+  public enum Type {
+    CATEGORY,
+    ITEM
+  }
+}
@@ -0,0 +1,213 @@
+package com.example.inventory_api.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * ユーザーごとの検索の索引({@link UserSearchIndex})を保持する
+ * <p>
+ * 索引は初回の検索時にDBから作成し、以降のアイテム・カテゴリの登録・変更は {@link #update(String, Consumer)} で1件ずつ反映する。
+ * 件数上限を超えた場合は最も長く参照されていない索引から破棄(LRU)し、一定時間参照されていない索引も破棄する。 破棄した索引は次の検索時に作り直す。
+ */
+@Component
+public class SearchIndex {
+
+  private final int maxUsers;
+  private final long idleTtlNanos;
+  private final LongSupplier nanoTime;
+
+  // accessOrder=trueで参照順に並べ、先頭を最も長く参照されていない索引として扱う
+  private final LinkedHashMap<String, Entry> entries;
+
+  // 索引を作成中のユーザーと、作成ごとに振る番号。作成中にそのユーザーの変更があった場合、変更を含まない索引を登録しないために使う
+  // 他のユーザーの変更では取り除かないため、変更の多いユーザーがいても他のユーザーの索引は登録できる
+  private final LinkedHashMap<String, Long> loading;
+  private final AtomicLong loadSequence = new AtomicLong();
+
+  @Autowired
+  public SearchIndex(
+      @Value("${app.search-index.max-users}") int maxUsers,
+      @Value("${app.search-index.idle-ttl}") Duration idleTtl
+  ) {
+    this(maxUsers, idleTtl, System::nanoTime);
+  }
+
+  SearchIndex(int maxUsers, Duration idleTtl, LongSupplier nanoTime) {
+    this.maxUsers = maxUsers;
+    this.idleTtlNanos = idleTtl.toNanos();
+    this.nanoTime = nanoTime;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > SearchIndex.this.maxUsers;
+      }
+    };
+    // 作成中に例外が発生した番号が残り続けないよう、索引と同じ件数で打ち切る
+    this.loading = new LinkedHashMap<>() {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+        return size() > SearchIndex.this.maxUsers;
+      }
+    };
+  }
+
+  /**
+   * 指定ユーザーの索引を取得する
+   *
+   * @param userId ユーザーID
+   * @return 作成済みの索引。未作成または破棄済みの場合は空
+   */
+  public synchronized Optional<UserSearchIndex> get(String userId) {
+    long now = nanoTime.getAsLong();
+    evictIdle(now);
+    Entry entry = entries.get(userId);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    entry.lastAccess = now;
+    return Optional.of(entry.index);
+  }
+
+  /**
+   * DBから索引を作成する前に呼び出し、作成の番号を取得する
+   *
+   * @param userId ユーザーID
+   * @return {@link #put(String, UserSearchIndex, long)} に渡す番号
+   */
+  public synchronized long startLoading(String userId) {
+    long loadId = loadSequence.incrementAndGet();
+    loading.put(userId, loadId);
+    return loadId;
+  }
+
+  /**
+   * 作成した索引を登録する 作成中にそのユーザーの変更が行われていた場合は登録しない
+   * <p>
+   * 同じユーザーの索引を同時に作成した場合は、最後に作成を始めた索引だけを登録する。 登録済みの索引には変更が反映されている場合があるため、置き換えない。
+   *
+   * @param userId ユーザーID
+   * @param index  作成した索引
+   * @param loadId 作成開始時に {@link #startLoading(String)} で取得した番号
+   * @return 検索に使う索引(登録済みの索引がある場合はその索引)
+   */
+  public synchronized UserSearchIndex put(String userId, UserSearchIndex index, long loadId) {
+    long now = nanoTime.getAsLong();
+    evictIdle(now);
+    Entry existing = entries.get(userId);
+    if (existing != null) {
+      existing.lastAccess = now;
+      return existing.index;
+    }
+    if (loading.remove(userId, loadId)) {
+      entries.put(userId, new Entry(index, now));
+    }
+    return index;
+  }
+
+  /**
+   * 指定ユーザーの索引に変更を反映する アイテム・カテゴリの登録・変更・削除時に呼び出す
+   * <p>
+   * ロールバックした変更が索引に残らないよう、トランザクション内で呼び出した場合はコミット後に反映する。 索引が未作成の場合は、次の検索時にDBから作成するため何もしない。
+   *
+   * @param userId ユーザーID
+   * @param change 索引への変更
+   */
+  public void update(String userId, Consumer<UserSearchIndex> change) {
+    afterCommit(() -> apply(userId, change));
+  }
+
+  /**
+   * 指定ユーザーの索引を破棄する 1件ずつ反映するより作り直した方が早い、大量の変更を行った場合に呼び出す
+   * <p>
+   * コミット前に破棄すると、コミット前の内容で索引が作り直されるため、トランザクション内で呼び出した場合はコミット後に破棄する。
+   *
+   * @param userId ユーザーID
+   */
+  public void evict(String userId) {
+    afterCommit(() -> {
+      synchronized (this) {
+        loading.remove(userId);
+        entries.remove(userId);
+      }
+    });
+  }
+
+  /**
+   * 全ユーザーの索引を破棄する デフォルトカテゴリの変更時に呼び出す
+   */
+  public synchronized void clear() {
+    loading.clear();
+    entries.clear();
+  }
+
+  /**
+   * 保持している索引の数
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private void apply(String userId, Consumer<UserSearchIndex> change) {
+    UserSearchIndex index;
+    synchronized (this) {
+      Entry entry = entries.get(userId);
+      if (entry == null) {
+        // 作成中の索引にはこの変更が含まれていない可能性があるため、登録させない
+        loading.remove(userId);
+        return;
+      }
+      // 参照順の末尾に移動するため、参照時刻も合わせて更新する
+      entry.lastAccess = nanoTime.getAsLong();
+      index = entry.index;
+    }
+    // 索引ごとにロックするため、他のユーザーの検索を待たせない
+    change.accept(index);
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+
+  // 参照順の先頭から、一定時間参照されていない索引を破棄する
+  private void evictIdle(long now) {
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      if (now - iterator.next().lastAccess <= idleTtlNanos) {
+        return;
+      }
+      iterator.remove();
+    }
+  }
+
+  private static final class Entry {
+
+    private final UserSearchIndex index;
+    private long lastAccess;
+
+    private Entry(UserSearchIndex index, long lastAccess) {
+      this.index = index;
+      this.lastAccess = lastAccess;
+    }
+  }
+}
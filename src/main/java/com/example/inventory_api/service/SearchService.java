@@ -0,0 +1,104 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.controller.dto.SearchResultResponse;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.example.inventory_api.domain.support.SearchTexts;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * アイテム名・カテゴリ名の検索を行うサービス
+ * <p>
+ * DBを LIKE '%検索語%' で走査せず、ユーザーごとにメモリ上に作成したN-gram索引({@link SearchIndex})から検索する。
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+  private final SearchIndex searchIndex;
+  private final ItemRepository itemRepository;
+  private final CategoryRepository categoryRepository;
+  private final ReadYourWritesGuard readYourWritesGuard;
+  private final PlatformTransactionManager transactionManager;
+
+  // 取得件数
+  private static final int DEFAULT_LIMIT = 20;
+  private static final int MAX_LIMIT = 100;
+
+  // 検索語の最大文字数（アイテム名・カテゴリ名の最大文字数と同じ）
+  private static final int MAX_QUERY_LENGTH = 50;
+
+  private static final String SYSTEM_USER_ID = "system";
+
+  // エラーメッセージを定数化
+  private static final String MSG_INVALID_QUERY = "検索語は1文字以上50文字以内で入力してください";
+  private static final String MSG_DB_ACCESS_ERROR = "データベースへのアクセスに失敗しました";
+  private static final String MSG_UNEXPECTED_ERROR = "予期せぬエラーが発生しました";
+
+  /**
+   * アイテム名・カテゴリ名を検索 search
+   * <p>
+   * 名前に検索語を含むアイテム・カテゴリ(デフォルトカテゴリを含む)を、完全一致・前方一致・部分一致の順に返す。
+   * 検索語・名前はどちらも正規化して比較するため、全角・半角、大文字・小文字、ひらがな・カタカナの違いは区別しない。
+   *
+   * @param query  検索語
+   * @param limit  取得件数。nullの場合は既定の件数
+   * @param userId ログインユーザーのID
+   * @return 一致度の高い順の検索結果
+   */
+  public List<SearchResultResponse> search(String query, Integer limit, String userId) {
+    // 検索語のチェック（索引を作成する前に行う）
+    String normalized = SearchTexts.normalize(query);
+    if (normalized.isEmpty()
+        || normalized.codePointCount(0, normalized.length()) > MAX_QUERY_LENGTH) {
+      throw new BusinessException(ErrorCode.INVALID_SEARCH_QUERY, MSG_INVALID_QUERY);
+    }
+    int size = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+
+    try {
+      UserSearchIndex index = searchIndex.get(userId).orElseGet(() -> loadIndex(userId));
+      return index.search(normalized, size).stream()
+          .map(SearchResultResponse::new)
+          .toList();
+
+    } catch (DataAccessException e) {
+      throw new RuntimeException(MSG_DB_ACCESS_ERROR, e);
+    } catch (Exception e) {
+      throw new RuntimeException(MSG_UNEXPECTED_ERROR, e);
+    }
+  }
+
+  /**
+   * ユーザーのアイテムとカテゴリ(デフォルトカテゴリを含む)から索引を作成して登録する
+   * <p>
+   * 索引があるユーザーの検索ではDBにアクセスしないよう、作成する部分だけを読み取り専用のトランザクションにする。
+   *
+   * @param userId ログインユーザーのID
+   * @return 作成した索引
+   */
+  private UserSearchIndex loadIndex(String userId) {
+    long loadId = searchIndex.startLoading(userId);
+    TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    List<SearchDocument> documents = readOnlyTransaction.execute(status -> {
+      readYourWritesGuard.routeReads(userId);
+      List<SearchDocument> loaded = new ArrayList<>();
+      categoryRepository.findUserCategories(userId, SYSTEM_USER_ID)
+          .forEach(category -> loaded.add(SearchDocument.category(category)));
+      itemRepository.findItemNamesWithIdByUserId(userId).forEach(item -> loaded.add(
+          SearchDocument.item(item.getId(), item.getCategoryId(), item.getName())));
+      return loaded;
+    });
+    return searchIndex.put(userId, new UserSearchIndex(documents), loadId);
+  }
+}
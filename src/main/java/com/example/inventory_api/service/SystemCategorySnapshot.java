@@ -0,0 +1,86 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * システムのデフォルトカテゴリを辞書順に並べた、変更不可のスナップショット
+ * <p>
+ * デフォルトカテゴリは起動時に登録された後は変更されないため、初回参照時に一度だけDBから読み込んで保持する。 デフォルトカテゴリを変更した場合は {@link #refresh()} を呼び出すこと。
+ * <p>
+ * 全ユーザーの一覧で同じ内容になるため、レスポンスのJSONの要素も読み込み時に一度だけシリアライズして保持する。
+ */
+@Component
+@RequiredArgsConstructor
+public class SystemCategorySnapshot {
+
+  private final CategoryRepository categoryRepository;
+  private final CategoryListCache categoryListCache;
+  private final CategoryListVersions categoryListVersions;
+  private final CategoryJsonWriter categoryJsonWriter;
+  private final SearchIndex searchIndex;
+
+  // システムユーザー（仮）
+  private static final String SYSTEM_USER_ID = "system";
+
+  private volatile List<SystemCategory> categories;
+
+  /**
+   * 辞書順に並んだデフォルトカテゴリの一覧を取得する 未読み込みの場合はDBから読み込む
+   *
+   * @return 変更不可のデフォルトカテゴリ一覧
+   */
+  public List<SystemCategory> getCategories() {
+    List<SystemCategory> current = categories;
+    if (current == null) {
+      synchronized (this) {
+        current = categories;
+        if (current == null) {
+          current = load();
+          categories = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * デフォルトカテゴリを読み込み直す デフォルトカテゴリの登録・変更後に呼び出す
+   * <p>
+   * 古いスナップショットから組み立てた一覧が残らないよう、カテゴリ一覧のキャッシュも破棄し、全ユーザーのバージョンを進める。
+   * デフォルトカテゴリを含めて作成した検索の索引も破棄する。
+   */
+  public synchronized void refresh() {
+    categories = load();
+    categoryListCache.clear();
+    categoryListVersions.bumpAll();
+    searchIndex.clear();
+  }
+
+  private List<SystemCategory> load() {
+    return categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(SYSTEM_USER_ID)
+        .stream()
+        .map(category -> new SystemCategory(category,
+            categoryJsonWriter.element(category.getId(), category.getName())))
+        .toList();
+  }
+
+  /**
+   * デフォルトカテゴリ1件分の読み取り専用データ
+   *
+   * @param id      カテゴリID
+   * @param name    カテゴリ名
+   * @param sortKey 辞書順ソート用のキー
+   * @param json    一覧のレスポンスに含めるJSONの要素
+   */
+  public record SystemCategory(Integer id, String name, byte[] sortKey, byte[] json) {
+
+    SystemCategory(Category category, byte[] json) {
+      this(category.getId(), category.getName(), category.getSortKey().clone(), json);
+    }
+  }
+}
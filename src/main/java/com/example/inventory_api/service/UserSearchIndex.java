@@ -0,0 +1,189 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.support.SearchTexts;
+import com.example.inventory_api.service.SearchDocument.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 1ユーザー分のアイテム名・カテゴリ名のN-gram索引
+ * <p>
+ * アイテム・カテゴリに登録順の番号を振り、正規化した名前のN-gramごとに、そのN-gramを含むものの番号を昇順の配列で保持する。
+ * 検索語のN-gramのうち、該当件数が最も少ない配列だけを候補とし、名前に検索語が含まれるものに絞り込む。
+ * 件数が多いユーザーでも、全件を走査せずに候補の件数に比例したコストで検索できる。
+ * <p>
+ * アイテム・カテゴリの登録・変更・削除は {@link #upsert(SearchDocument)}, {@link #remove(Type, Integer)} で1件ずつ反映する。
+ * 削除した番号は再利用せず、削除済みの番号が半数を超えたら番号を振り直す。
+ */
+public class UserSearchIndex {
+
+  // 一致の種類(完全一致・前方一致・部分一致)、一致した位置、名前の長さをまとめた順位、カテゴリ・アイテムの順、IDの順で並べる
+  private static final Comparator<Match> RANKING = Comparator
+      .comparingInt(Match::rank)
+      .thenComparing(match -> match.document().type())
+      .thenComparing(match -> match.document().id());
+
+  // 番号ごとのアイテム・カテゴリ。削除済みの番号はnull
+  private final List<SearchDocument> documents = new ArrayList<>();
+  private final Map<Key, Integer> numbers = new HashMap<>();
+  private final Map<String, Posting> postings = new HashMap<>();
+
+  public UserSearchIndex(Collection<SearchDocument> documents) {
+    documents.forEach(this::upsert);
+  }
+
+  /**
+   * アイテム・カテゴリを登録する 同じ種類・IDのものが登録済みの場合は置き換える
+   *
+   * @param document 登録するアイテム・カテゴリ
+   */
+  public synchronized void upsert(SearchDocument document) {
+    remove(document.type(), document.id());
+    int number = documents.size();
+    documents.add(document);
+    numbers.put(new Key(document.type(), document.id()), number);
+    for (String gram : SearchTexts.indexGrams(document.text())) {
+      postings.computeIfAbsent(gram, g -> new Posting()).add(number);
+    }
+  }
+
+  /**
+   * アイテム・カテゴリを索引から取り除く 登録されていない場合は何もしない
+   *
+   * @param type 種類
+   * @param id   アイテムID・カテゴリID
+   */
+  public synchronized void remove(Type type, Integer id) {
+    Integer number = numbers.remove(new Key(type, id));
+    if (number == null) {
+      return;
+    }
+    SearchDocument removed = documents.set(number, null);
+    for (String gram : SearchTexts.indexGrams(removed.text())) {
+      Posting posting = postings.get(gram);
+      posting.remove(number);
+      if (posting.size == 0) {
+        postings.remove(gram);
+      }
+    }
+    if (documents.size() > 2 * numbers.size() + 64) {
+      renumber();
+    }
+  }
+
+  /**
+   * 名前に検索語を含むアイテム・カテゴリを、一致度の高い順に取得する
+   *
+   * @param query {@link SearchTexts#normalize(String)} で正規化した検索語
+   * @param limit 取得件数
+   * @return 一致度の高い順のアイテム・カテゴリ
+   */
+  public synchronized List<SearchDocument> search(String query, int limit) {
+    Posting candidates = null;
+    for (String gram : SearchTexts.queryGrams(query)) {
+      Posting posting = postings.get(gram);
+      if (posting == null) {
+        return List.of();
+      }
+      if (candidates == null || posting.size < candidates.size) {
+        candidates = posting;
+      }
+    }
+    if (candidates == null) {
+      return List.of();
+    }
+
+    // 一致したものを全件並べ替えず、上位limit件だけを残す(先頭が最も順位の低いもの)
+    PriorityQueue<Match> top = new PriorityQueue<>(limit, RANKING.reversed());
+    for (int i = 0; i < candidates.size; i++) {
+      SearchDocument document = documents.get(candidates.numbers[i]);
+      int position = document.text().indexOf(query);
+      if (position < 0) {
+        continue;
+      }
+      int rank = rankOf(document.text(), query, position);
+      // 上位limit件に入らないものは、順位だけで判定して読み飛ばす
+      if (top.size() == limit && rank > top.peek().rank()) {
+        continue;
+      }
+      Match match = new Match(document, rank);
+      if (top.size() < limit) {
+        top.add(match);
+      } else if (RANKING.compare(match, top.peek()) < 0) {
+        top.poll();
+        top.add(match);
+      }
+    }
+    Match[] ranked = top.toArray(new Match[0]);
+    Arrays.sort(ranked, RANKING);
+    return Arrays.stream(ranked).map(Match::document).toList();
+  }
+
+  /**
+   * 登録されているアイテム・カテゴリの件数
+   */
+  public synchronized int size() {
+    return numbers.size();
+  }
+
+  // 削除済みの番号を詰めて、登録中のものだけで作り直す
+  private void renumber() {
+    List<SearchDocument> live = documents.stream().filter(document -> document != null).toList();
+    documents.clear();
+    numbers.clear();
+    postings.clear();
+    live.forEach(this::upsert);
+  }
+
+  /**
+   * 一致の種類・一致した位置・名前の長さを、小さいほど上位になる1つの値にまとめる
+   * <p>
+   * 一致の種類は 0: 完全一致、1: 前方一致、2: 部分一致。 位置と長さは名前の最大文字数(50文字)を十分に超える1023で打ち切る。
+   */
+  private static int rankOf(String text, String query, int position) {
+    int kind = position > 0 ? 2 : text.length() == query.length() ? 0 : 1;
+    return kind << 20 | Math.min(position, 1023) << 10 | Math.min(text.length(), 1023);
+  }
+
+  /**
+   * N-gramを含むアイテム・カテゴリの番号の昇順の配列
+   * <p>
+   * 新しく登録したものは常に最大の番号になるため、登録は末尾への追加になる。
+   */
+  private static final class Posting {
+
+    private int[] numbers = new int[4];
+    private int size;
+
+    private void add(int number) {
+      if (size == numbers.length) {
+        numbers = Arrays.copyOf(numbers, size * 2);
+      }
+      numbers[size++] = number;
+    }
+
+    private void remove(int number) {
+      int index = Arrays.binarySearch(numbers, 0, size, number);
+      if (index < 0) {
+        return;
+      }
+      System.arraycopy(numbers, index + 1, numbers, index, size - index - 1);
+      size--;
+    }
+  }
+
+  private record Key(Type type, Integer id) {
+
+  }
+
+  private record Match(SearchDocument document, int rank) {
+
+  }
+}
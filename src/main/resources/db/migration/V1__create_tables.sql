@@ -0,0 +1,60 @@
+-- カテゴリ・アイテム・カテゴリ登録数カウンターのテーブルを作成する
+-- インデックスは各リポジトリのクエリに合わせて作成する(RepositoryQueryPlanTestで使用を確認している)
+
+-- IDENTITYではHibernateがINSERTをバッチ化できないため、まとめて払い出せるシーケンスを使う(エンティティのallocationSizeと合わせる)
+CREATE SEQUENCE categories_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE items_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE categories (
+    id              INTEGER NOT NULL,
+    user_id         VARCHAR(255),
+    name            VARCHAR(255),
+    deleted         BOOLEAN,
+    -- 辞書順ソート用のキー(ICUのCollationKey)
+    sort_key        VARBINARY(1024),
+    -- 重複チェック用に正規化(NFKC)したカテゴリ名
+    normalized_name VARCHAR(255),
+    CONSTRAINT pk_categories PRIMARY KEY (id)
+);
+
+-- 一覧取得(findUserCategories, findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc)をインデックス順に読む。件数取得にも使う
+CREATE INDEX idx_categories_user_id_deleted_sort_key ON categories (user_id, deleted, sort_key);
+-- カテゴリ名の重複チェック(existsDuplicateName)
+CREATE INDEX idx_categories_user_id_normalized_name ON categories (user_id, normalized_name);
+
+CREATE TABLE category_quotas (
+    user_id    VARCHAR(255) NOT NULL,
+    -- 登録済み(未削除)のカスタムカテゴリ数
+    used_count INTEGER,
+    CONSTRAINT pk_category_quotas PRIMARY KEY (user_id)
+);
+
+CREATE TABLE items (
+    id           INTEGER NOT NULL,
+    category_id  INTEGER,
+    user_id      VARCHAR(255),
+    name         VARCHAR(255),
+    quantity     INTEGER,
+    -- 在庫が少ないと判定するしきい値
+    threshold    INTEGER,
+    -- 在庫数 - しきい値
+    stock_margin INTEGER,
+    price        INTEGER,
+    place        VARCHAR(255),
+    deleted      BOOLEAN,
+    created      TIMESTAMP(6),
+    updated_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_items PRIMARY KEY (id)
+);
+
+-- アイテム一覧のキーセットページング(findFirstPage, findNextPage)
+-- category_idを先頭にして、外部キーの参照チェックにも同じインデックスを使う
+CREATE INDEX idx_items_category_id_user_id_deleted_updated_at_id
+    ON items (category_id, user_id, deleted, updated_at, id);
+-- 在庫が少ないアイテムの検索(findLowStock)
+CREATE INDEX idx_items_user_id_deleted_stock_margin_id ON items (user_id, deleted, stock_margin, id);
+-- ユーザーの全アイテムの読み込み(streamByUserId, findItemNamesByUserId, findItemNamesWithIdByUserId)
+CREATE INDEX idx_items_user_id_deleted_id ON items (user_id, deleted, id);
+
+-- 外部キーはインデックスの作成後に追加する(先に追加すると、参照チェック用のインデックスが別に作られるため)
+ALTER TABLE items ADD CONSTRAINT fk_items_category_id FOREIGN KEY (category_id) REFERENCES categories (id);
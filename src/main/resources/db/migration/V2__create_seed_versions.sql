@@ -0,0 +1,13 @@
+-- 起動時に登録する初期データのバージョンを記録するテーブルを作成する
+-- 記録したバージョンと初期データのリソースのバージョンが一致する場合、起動時の登録処理を行わない
+
+CREATE TABLE seed_versions (
+    -- 初期データの種類
+    name    VARCHAR(255) NOT NULL,
+    -- 登録済みの初期データのバージョン(0は未登録)
+    version INTEGER NOT NULL,
+    CONSTRAINT pk_seed_versions PRIMARY KEY (name)
+);
+
+-- 複数のインスタンスが同時に起動しても一度だけ登録するよう、行ロックの対象となる行をあらかじめ作成しておく
+INSERT INTO seed_versions (name, version) VALUES ('default-categories', 0);
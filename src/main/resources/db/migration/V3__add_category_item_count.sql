@@ -0,0 +1,11 @@
+-- カテゴリの削除時に、アイテムが登録されていないことを1行の確認で判定できるよう、カテゴリにアイテム数のカウンターを追加する
+-- カウンターはアイテムの登録と同じトランザクションで増減し、CategoryItemCountReconcilerで実際の件数と照合する
+
+-- 未削除のアイテムの件数
+ALTER TABLE categories ADD COLUMN item_count INTEGER DEFAULT 0 NOT NULL;
+-- 楽観ロック用のバージョン。アイテム数の増減でも進める
+ALTER TABLE categories ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- 登録済みのアイテムの件数で初期化する
+UPDATE categories c
+SET item_count = (SELECT COUNT(*) FROM items i WHERE i.category_id = c.id AND i.deleted = false);
@@ -0,0 +1,129 @@
+package com.example.inventory_api;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// アプリを別のJVMで繰り返し起動し、プロセスの開始から GET /categories が初めて200を返すまでの時間を計測する
+// 通常のjarでの起動と、AOT・AppCDS・startupプロファイルでの起動を比較する
+// jarとAppCDSのアーカイブが必要なため、通常のテストからは除外し、gradle -Pstartup startupBenchmark で実行する
+@Tag("startup")
+public class StartupBenchmarkTest {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+  @Test
+  void startup_通常の起動と起動時間を優先した起動で比較する() throws Exception {
+    // Arrange
+    String bootJar = System.getProperty("startup.boot-jar");
+    String appJar = System.getProperty("startup.app-jar");
+    String cdsArchive = System.getProperty("startup.cds-archive");
+    assumeTrue(bootJar != null && appJar != null && cdsArchive != null,
+        "startupBenchmarkタスクから実行した場合のみ計測する");
+    int runs = Integer.getInteger("startup.runs", 5);
+
+    // Act
+    long[] baseline = measure(runs, List.of("-jar", bootJar));
+    long[] optimized = measure(runs, List.of(
+        "-XX:SharedArchiveFile=" + cdsArchive,
+        "-Dspring.aot.enabled=true",
+        "-Dspring.profiles.active=startup",
+        "-jar", appJar));
+
+    // Assert
+    print("baseline", baseline);
+    print("startup", optimized);
+    assertThat(baseline).hasSize(runs);
+    assertThat(optimized).hasSize(runs);
+  }
+
+  // 1回ずつ起動・停止し、初回の成功までの時間(ミリ秒)を昇順で返す
+  private long[] measure(int runs, List<String> jvmArgs) throws Exception {
+    long[] millis = new long[runs];
+    for (int i = 0; i < runs; i++) {
+      millis[i] = startOnce(jvmArgs);
+    }
+    Arrays.sort(millis);
+    return millis;
+  }
+
+  private long startOnce(List<String> jvmArgs) throws Exception {
+    int port = freePort();
+    Path log = Files.createTempFile("startup-benchmark", ".log");
+    List<String> command = new ArrayList<>();
+    // テストを実行しているJVMと同じjavaで起動する
+    command.add(ProcessHandle.current().info().command().orElse("java"));
+    command.addAll(jvmArgs);
+    command.add("--server.port=" + port);
+    // 起動ごとに空のDBから始める
+    command.add("--spring.datasource.url=jdbc:h2:mem:startup");
+
+    URI uri = URI.create("http://localhost:" + port + "/categories");
+    HttpRequest request = HttpRequest.newBuilder(uri).GET().timeout(Duration.ofSeconds(5)).build();
+    try (HttpClient client = HttpClient.newHttpClient()) {
+      long start = System.nanoTime();
+      Process process = new ProcessBuilder(command)
+          .redirectErrorStream(true)
+          .redirectOutput(log.toFile())
+          .start();
+      try {
+        while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+          if (!process.isAlive()) {
+            fail("起動に失敗しました: " + log);
+          }
+          if (isOk(client, request)) {
+            long elapsed = System.nanoTime() - start;
+            Files.delete(log);
+            return TimeUnit.NANOSECONDS.toMillis(elapsed);
+          }
+          Thread.sleep(POLL_INTERVAL);
+        }
+        return fail("起動が" + STARTUP_TIMEOUT.toSeconds() + "秒以内に完了しませんでした: " + log);
+      } finally {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+          process.destroyForcibly().waitFor();
+        }
+      }
+    }
+  }
+
+  private boolean isOk(HttpClient client, HttpRequest request) throws InterruptedException {
+    try {
+      return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    } catch (IOException e) {
+      // まだポートを待ち受けていない
+      return false;
+    }
+  }
+
+  private int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private void print(String name, long[] sortedMillis) {
+    System.out.printf("[startup] %-8s runs=%d min=%dms median=%dms max=%dms%n",
+        name, sortedMillis.length, sortedMillis[0], sortedMillis[sortedMillis.length / 2],
+        sortedMillis[sortedMillis.length - 1]);
+  }
+}
@@ -0,0 +1,126 @@
+package com.example.inventory_api.config;
+
+import com.example.inventory_api.InventoryApiApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GET /categories を高い同時実行数で呼び出し、プラットフォームスレッドと仮想スレッドのスループットとp99レイテンシを比較する
+// 実行には時間がかかるため、通常のテストからは除外し、loadTestタスクで実行する
+@Tag("load")
+public class CategoryListLoadTest {
+
+  // 同時に送るリクエストの数（Tomcatの既定の最大スレッド数200を超える値にする）
+  private static final int CONCURRENCY = 400;
+  private static final int REQUESTS_PER_CLIENT = 50;
+  private static final int WARMUP_REQUESTS_PER_CLIENT = 10;
+
+  @Test
+  void getCategoryList_プラットフォームスレッドと仮想スレッドで比較する() throws Exception {
+    // Act
+    LoadResult platform = run("platform", false);
+    LoadResult virtual = run("virtual", true);
+
+    // Assert
+    System.out.printf("[load] %-8s throughput=%.0f req/s p50=%.1fms p99=%.1fms%n",
+        "platform", platform.throughput(), platform.p50Millis(), platform.p99Millis());
+    System.out.printf("[load] %-8s throughput=%.0f req/s p50=%.1fms p99=%.1fms%n",
+        "virtual", virtual.throughput(), virtual.p50Millis(), virtual.p99Millis());
+    assertThat(platform.errors()).isZero();
+    assertThat(virtual.errors()).isZero();
+  }
+
+  private LoadResult run(String name, boolean virtualThreads) throws Exception {
+    SpringApplicationBuilder builder = new SpringApplicationBuilder(InventoryApiApplication.class)
+        .properties(
+            "server.port=0",
+            "spring.datasource.url=jdbc:h2:mem:load-" + name,
+            "spring.jpa.show-sql=false",
+            // キャッシュを無効にし、毎回DBから読み込ませる
+            "app.category-cache.max-size=0");
+    if (virtualThreads) {
+      builder.profiles("virtual-threads");
+    }
+    try (ConfigurableApplicationContext context = builder.run()) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      URI uri = URI.create("http://localhost:" + port + "/categories");
+      try (HttpClient client = HttpClient.newBuilder()
+          .connectTimeout(Duration.ofSeconds(10))
+          .build()) {
+        load(client, uri, WARMUP_REQUESTS_PER_CLIENT);
+        return load(client, uri, REQUESTS_PER_CLIENT);
+      }
+    }
+  }
+
+  private LoadResult load(HttpClient client, URI uri, int requestsPerClient) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+    AtomicInteger errors = new AtomicInteger();
+    List<Future<long[]>> futures = new ArrayList<>();
+    long start = System.nanoTime();
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < CONCURRENCY; i++) {
+        futures.add(clients.submit(() -> {
+          long[] latencies = new long[requestsPerClient];
+          for (int n = 0; n < requestsPerClient; n++) {
+            long sent = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies[n] = System.nanoTime() - sent;
+            if (response.statusCode() != 200) {
+              errors.incrementAndGet();
+            }
+          }
+          return latencies;
+        }));
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+
+    long[] all = new long[CONCURRENCY * requestsPerClient];
+    int offset = 0;
+    for (Future<long[]> future : futures) {
+      long[] latencies = future.get();
+      System.arraycopy(latencies, 0, all, offset, latencies.length);
+      offset += latencies.length;
+    }
+    Arrays.sort(all);
+    return new LoadResult(all, elapsed, errors.get());
+  }
+
+  private record LoadResult(long[] sortedLatencies, long elapsedNanos, int errors) {
+
+    double throughput() {
+      return sortedLatencies.length / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    double p50Millis() {
+      return percentile(0.50);
+    }
+
+    double p99Millis() {
+      return percentile(0.99);
+    }
+
+    private double percentile(double p) {
+      int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+      return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+  }
+}
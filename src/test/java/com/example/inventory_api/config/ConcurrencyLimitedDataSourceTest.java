@@ -0,0 +1,70 @@
+package com.example.inventory_api.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+public class ConcurrencyLimitedDataSourceTest {
+
+  /**
+   * getConnection のテスト
+   */
+  @Test
+  void getConnection_上限まで取得済みの場合_待ち時間の上限を過ぎると失敗する() throws Exception {
+    // Arrange
+    DataSource target = mock(DataSource.class);
+    when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    ConcurrencyLimitedDataSource dataSource =
+        new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+    dataSource.getConnection();
+    dataSource.getConnection();
+
+    // Act & Assert
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+    verify(target, times(2)).getConnection();
+  }
+
+  @Test
+  void getConnection_接続をcloseした場合_取得できる数が戻る() throws Exception {
+    // Arrange
+    DataSource target = mock(DataSource.class);
+    Connection connection = mock(Connection.class);
+    when(target.getConnection()).thenReturn(connection);
+    ConcurrencyLimitedDataSource dataSource =
+        new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+
+    // Act
+    Connection limited = dataSource.getConnection();
+    int duringUse = dataSource.availablePermits();
+    limited.close();
+    // 2回closeしても、許可は1回だけ返す
+    limited.close();
+
+    // Assert
+    assertThat(duringUse).isEqualTo(1);
+    assertThat(dataSource.availablePermits()).isEqualTo(2);
+    verify(connection, times(2)).close();
+    assertThat(limited.unwrap(Connection.class)).isSameAs(connection);
+  }
+
+  @Test
+  void getConnection_接続の取得に失敗した場合_許可を返す() throws Exception {
+    // Arrange
+    DataSource target = mock(DataSource.class);
+    when(target.getConnection()).thenThrow(new SQLTransientConnectionException("接続エラー"));
+    ConcurrencyLimitedDataSource dataSource =
+        new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+    // Act & Assert
+    assertThatThrownBy(dataSource::getConnection).hasMessage("接続エラー");
+    assertThat(dataSource.availablePermits()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,26 @@
+package com.example.inventory_api.config;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * テストのコンテキスト(SessionFactory)ごとに専用のJCacheキャッシュマネージャーを使うRegionFactory
+ * <p>
+ * 標準のJCacheRegionFactoryは、既定のURIのキャッシュマネージャーをJVM全体で共有する。 テストでは複数のコンテキストが別々のDBを使うため、
+ * 他のDBのエンティティがキャッシュから返ったり、1つのコンテキストの終了時に共有のキャッシュマネージャーが閉じられたりする。
+ * そのためテストでのみ(src/test/resources/config/application.yml)このRegionFactoryを使い、URIをSessionFactoryごとに分ける。
+ * Caffeineはこのようなリソースでない URI の場合もapplication.confから設定を読み込む。
+ */
+public class IsolatedJCacheRegionFactory extends JCacheRegionFactory {
+
+  private final URI uri = URI.create("inventory-api:hibernate-" + UUID.randomUUID());
+
+  @Override
+  protected URI getUri(SessionFactoryOptions settings, Map<String, Object> properties) {
+    return uri;
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.inventory_api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Prometheus形式のエンドポイントから、サービス・リポジトリ・Hibernate・Hikari・キャッシュのメトリクスが取得できることを確認する
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsEndpointTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void prometheus_カテゴリ一覧を取得した後_各メトリクスを出力する() throws Exception {
+    // Arrange
+    mockMvc.perform(get("/categories")).andExpect(status().isOk());
+
+    // Act
+    String body = mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+
+    // Assert
+    assertThat(body)
+        .contains("http_server_requests_seconds_bucket")
+        .contains("category_service_seconds_bucket{class=\"com.example.inventory_api.service.CategoryService\"")
+        .contains("spring_data_repository_invocations_seconds_bucket")
+        .contains("hibernate_statements_total")
+        .containsPattern("hibernate_second_level_cache_requests_total\\{[^}]*region=\"categories\"")
+        .contains("hikaricp_connections_active")
+        .contains("cache_gets_total{cache=\"categoryList\"");
+  }
+}
@@ -0,0 +1,139 @@
+package com.example.inventory_api.config;
+
+import com.example.inventory_api.controller.dto.CategoryCreateRequest;
+import com.example.inventory_api.controller.dto.CategoryResponse;
+import com.example.inventory_api.domain.support.CategoryNames;
+import com.example.inventory_api.domain.support.CategorySortKeys;
+import com.example.inventory_api.service.CategoryService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2つのH2データベースをプライマリ・レプリカとして使い、読み取り専用のトランザクションの振り分けを確認する
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary",
+    "app.datasource.replica.enabled=true",
+    "app.datasource.replica.url=jdbc:h2:mem:routing-replica",
+    "app.datasource.replica.read-your-writes-window=1s",
+    // キャッシュを無効にして、一覧の取得で毎回DBから読む
+    "app.category-cache.max-size=0"
+})
+public class ReplicaRoutingTest {
+
+  // レプリカにだけ登録しておくカテゴリの名前
+  private static final String REPLICA_ONLY_NAME = "レプリカのみ";
+
+  @Autowired
+  private CategoryService categoryService;
+
+  @Autowired
+  @Qualifier("primaryDataSource")
+  private DataSource primaryDataSource;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private DataSource replicaDataSource;
+
+  private JdbcTemplate primary;
+  private JdbcTemplate replica;
+
+  // レプリカへの反映は行わないため、レプリカには同じスキーマを作成し、目印のカテゴリだけを登録する
+  @BeforeEach
+  void setUp() {
+    Flyway.configure().dataSource(replicaDataSource).load().migrate();
+    primary = new JdbcTemplate(primaryDataSource);
+    replica = new JdbcTemplate(replicaDataSource);
+    replica.update("DELETE FROM categories");
+  }
+
+  @Test
+  void getCategoryList_書き込んでいないユーザーの場合_レプリカから読む() {
+    // Arrange
+    String userId = "reader";
+    insertIntoReplica(1, userId, REPLICA_ONLY_NAME);
+
+    // Act
+    List<CategoryResponse> result = categoryService.getCategoryList(userId);
+
+    // Assert
+    assertThat(result).extracting(CategoryResponse::getName).contains(REPLICA_ONLY_NAME);
+  }
+
+  @Test
+  void createCategory_書き込みはプライマリに反映し_直後の一覧はプライマリから読む() {
+    // Arrange
+    String userId = "writer";
+    insertIntoReplica(1, userId, REPLICA_ONLY_NAME);
+    CategoryCreateRequest request = new CategoryCreateRequest();
+    request.setName("書き込んだカテゴリ");
+
+    // Act
+    categoryService.createCategory(request, userId);
+    List<CategoryResponse> result = categoryService.getCategoryList(userId);
+
+    // Assert
+    assertThat(countCategories(primary, userId)).isEqualTo(1);
+    // レプリカには目印のカテゴリしかない
+    assertThat(countCategories(replica, userId)).isEqualTo(1);
+    assertThat(result).extracting(CategoryResponse::getName)
+        .contains("書き込んだカテゴリ")
+        .doesNotContain(REPLICA_ONLY_NAME);
+  }
+
+  @Test
+  void getCategoryList_書き込みから一定時間が過ぎた場合_レプリカから読む() throws Exception {
+    // Arrange
+    String userId = "past-writer";
+    insertIntoReplica(1, userId, REPLICA_ONLY_NAME);
+    CategoryCreateRequest request = new CategoryCreateRequest();
+    request.setName("書き込んだカテゴリ");
+    categoryService.createCategory(request, userId);
+    Thread.sleep(1_100);
+
+    // Act
+    List<CategoryResponse> result = categoryService.getCategoryList(userId);
+
+    // Assert
+    assertThat(result).extracting(CategoryResponse::getName)
+        .contains(REPLICA_ONLY_NAME)
+        .doesNotContain("書き込んだカテゴリ");
+  }
+
+  @Test
+  void getCategoryList_他のユーザーが書き込んだ直後でも_レプリカから読む() {
+    // Arrange
+    String userId = "other-reader";
+    insertIntoReplica(1, userId, REPLICA_ONLY_NAME);
+    CategoryCreateRequest request = new CategoryCreateRequest();
+    request.setName("書き込んだカテゴリ");
+    categoryService.createCategory(request, "other-writer");
+
+    // Act
+    List<CategoryResponse> result = categoryService.getCategoryList(userId);
+
+    // Assert
+    assertThat(result).extracting(CategoryResponse::getName).contains(REPLICA_ONLY_NAME);
+  }
+
+  private void insertIntoReplica(int id, String userId, String name) {
+    replica.update("""
+            INSERT INTO categories (id, user_id, name, deleted, sort_key, normalized_name)
+            VALUES (?, ?, ?, false, ?, ?)
+            """,
+        id, userId, name, CategorySortKeys.of(name), CategoryNames.normalize(name));
+  }
+
+  private int countCategories(JdbcTemplate jdbcTemplate, String userId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM categories WHERE user_id = ?", Integer.class, userId);
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.inventory_api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// virtual-threadsプロファイルの設定が反映されることを確認する
+@SpringBootTest
+@ActiveProfiles("virtual-threads")
+public class VirtualThreadsProfileTest {
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  @Qualifier("applicationTaskExecutor")
+  private AsyncTaskExecutor applicationTaskExecutor;
+
+  @Test
+  void dataSource_コネクションプールの最大サイズで同時接続数を制限する() {
+    // Assert Hikariの既定の最大サイズは10
+    assertThat(dataSource).isInstanceOf(ConcurrencyLimitedDataSource.class);
+    assertThat(((ConcurrencyLimitedDataSource) dataSource).availablePermits()).isEqualTo(10);
+  }
+
+  @Test
+  void applicationTaskExecutor_非同期処理を仮想スレッドで実行する() throws Exception {
+    // Act
+    boolean virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+
+    // Assert
+    assertThat(virtual).isTrue();
+  }
+}
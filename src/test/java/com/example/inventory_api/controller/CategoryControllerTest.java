@@ -1,31 +1,51 @@
 package com.example.inventory_api.controller;
 
 import com.example.inventory_api.controller.advice.CustomExceptionHandler;
+import com.example.inventory_api.controller.dto.CategoryBatchCreateRequest;
+import com.example.inventory_api.controller.dto.CategoryBatchResponse;
+import com.example.inventory_api.controller.dto.CategoryBatchResult;
+import com.example.inventory_api.controller.dto.CategoryBatchUpdateItem;
+import com.example.inventory_api.controller.dto.CategoryBatchUpdateRequest;
 import com.example.inventory_api.controller.dto.CategoryCreateRequest;
 import com.example.inventory_api.controller.dto.CategoryResponse;
+import com.example.inventory_api.controller.dto.CategorySummaryResponse;
 import com.example.inventory_api.controller.dto.CategoryUpdateRequest;
 import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
 import com.example.inventory_api.service.CategoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest({CategoryController.class, CustomExceptionHandler.class})
+@Import(SimpleMeterRegistry.class)
 public class CategoryControllerTest {
 
   @Autowired
@@ -34,6 +54,9 @@ public class CategoryControllerTest {
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private MeterRegistry meterRegistry;
+
   @MockBean
   private CategoryService categoryService;
 
@@ -101,7 +124,7 @@ public class CategoryControllerTest {
     request.setName("重複カテゴリ");
 
     when(categoryService.createCategory(any(), anyString()))
-        .thenThrow(new IllegalStateException("DUPLICATE:そのカテゴリ名は既に使用されています"));
+        .thenThrow(new BusinessException(ErrorCode.CATEGORY_NAME_DUPLICATE, "そのカテゴリ名は既に使用されています"));
 
     // Act & Assert
     mockmvc.perform(post("/categories")
@@ -111,6 +134,28 @@ public class CategoryControllerTest {
         .andExpect(jsonPath("$.code").value("CATEGORY_NAME_DUPLICATE"));
   }
 
+  @Test
+  void createCategory_カテゴリ名が重複する場合_エラーコードごとの発生件数を記録する() throws Exception {
+    // Arrange
+    CategoryCreateRequest request = new CategoryCreateRequest();
+    request.setName("重複カテゴリ");
+
+    when(categoryService.createCategory(any(), anyString()))
+        .thenThrow(new BusinessException(ErrorCode.CATEGORY_NAME_DUPLICATE, "そのカテゴリ名は既に使用されています"));
+    Counter counter = meterRegistry.counter("api.errors",
+        "code", "CATEGORY_NAME_DUPLICATE", "status", "409");
+    double before = counter.count();
+
+    // Act
+    mockmvc.perform(post("/categories")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isConflict());
+
+    // Assert
+    assertThat(counter.count()).isEqualTo(before + 1);
+  }
+
   @Test
   void createCategory_登録上限に達している場合_400BadRequestを返す() throws Exception {
     // Arrange
@@ -119,7 +164,7 @@ public class CategoryControllerTest {
 
     // Serviceが上限エラーを投げるように設定
     when(categoryService.createCategory(any(), anyString()))
-        .thenThrow(new IllegalStateException("LIMIT:登録できるカテゴリの上限に達しています"));
+        .thenThrow(new BusinessException(ErrorCode.CATEGORY_LIMIT_EXCEEDED, "登録できるカテゴリの上限に達しています"));
 
     // Act & Assert
     mockmvc.perform(post("/categories")
@@ -158,12 +203,13 @@ public class CategoryControllerTest {
         new CategoryResponse(1, "キッチン"),
         new CategoryResponse(2, "リビング")
     );
-    when(categoryService.getCategoryList(anyString()))
-        .thenReturn(categoryList);
+    when(categoryService.getCategoryListJson(anyString()))
+        .thenReturn(objectMapper.writeValueAsBytes(categoryList));
 
     // Act & Assert
     mockmvc.perform(get("/categories"))
         .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$", hasSize(2)))
         .andExpect(jsonPath("$[0].id", is(1)))
         .andExpect(jsonPath("$[0].name", is("キッチン")))
@@ -171,11 +217,52 @@ public class CategoryControllerTest {
         .andExpect(jsonPath("$[1].name", is("リビング")));
   }
 
+  @Test
+  void getCategoryList_正常系_ETagヘッダーを返す() throws Exception {
+    // Arrange
+    when(categoryService.getCategoryListETag(anyString())).thenReturn("v1");
+    when(categoryService.getCategoryListJson(anyString()))
+        .thenReturn(objectMapper.writeValueAsBytes(List.of(new CategoryResponse(1, "キッチン"))));
+
+    // Act & Assert
+    mockmvc.perform(get("/categories"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+        .andExpect(jsonPath("$", hasSize(1)));
+  }
+
+  @Test
+  void getCategoryList_ETagが一致する場合_一覧を取得せずに304NotModifiedを返す() throws Exception {
+    // Arrange
+    when(categoryService.getCategoryListETag(anyString())).thenReturn("v1");
+
+    // Act & Assert
+    mockmvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+        .andExpect(content().string(""));
+    verify(categoryService, never()).getCategoryListJson(anyString());
+  }
+
+  @Test
+  void getCategoryList_ETagが一致しない場合_200OKと最新の一覧を返す() throws Exception {
+    // Arrange
+    when(categoryService.getCategoryListETag(anyString())).thenReturn("v2");
+    when(categoryService.getCategoryListJson(anyString()))
+        .thenReturn(objectMapper.writeValueAsBytes(List.of(new CategoryResponse(1, "キッチン"))));
+
+    // Act & Assert
+    mockmvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"v2\""))
+        .andExpect(jsonPath("$[0].name", is("キッチン")));
+  }
+
   @Test
   void getCategoryList_カテゴリが存在しない場合_200OKと空のリストを返す() throws Exception {
     // Arrange
-    when(categoryService.getCategoryList(anyString()))
-        .thenReturn(Collections.emptyList());
+    when(categoryService.getCategoryListJson(anyString()))
+        .thenReturn(objectMapper.writeValueAsBytes(Collections.emptyList()));
 
     // Act & Assert
     mockmvc.perform(get("/categories"))
@@ -187,7 +274,7 @@ public class CategoryControllerTest {
   void getCategoryList_Service層で予期せぬエラーが発生した場合_500InternalServerErrorを返す()
       throws Exception {
     // Arrange
-    when(categoryService.getCategoryList(anyString()))
+    when(categoryService.getCategoryListJson(anyString()))
         .thenThrow(new RuntimeException("予期せぬエラー"));
 
     // Act & Assert
@@ -197,6 +284,56 @@ public class CategoryControllerTest {
         .andExpect(jsonPath("$.message", is("サーバー内部で予期せぬエラーが発生しました")));
   }
 
+  /**
+   * getCategorySummary のテスト
+   */
+  @Test
+  void getCategorySummary_正常系_200OKとカテゴリごとの集計を返す() throws Exception {
+    // Arrange
+    when(categoryService.getCategorySummary(anyString())).thenReturn(List.of(
+        new CategorySummaryResponse(1, "キッチン", 2, 5, 800),
+        new CategorySummaryResponse(2, "玄関", 0, 0, 0)
+    ));
+
+    // Act & Assert
+    mockmvc.perform(get("/categories/summary"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].id", is(1)))
+        .andExpect(jsonPath("$[0].name", is("キッチン")))
+        .andExpect(jsonPath("$[0].itemCount", is(2)))
+        .andExpect(jsonPath("$[0].totalQuantity", is(5)))
+        .andExpect(jsonPath("$[0].totalValue", is(800)))
+        .andExpect(jsonPath("$[1].itemCount", is(0)));
+  }
+
+  @Test
+  void getCategorySummary_Service層で予期せぬエラーが発生した場合_500InternalServerErrorを返す()
+      throws Exception {
+    // Arrange
+    when(categoryService.getCategorySummary(anyString()))
+        .thenThrow(new RuntimeException("予期せぬエラー"));
+
+    // Act & Assert
+    mockmvc.perform(get("/categories/summary"))
+        .andExpect(status().isInternalServerError())
+        .andExpect(jsonPath("$.code", is("INTERNAL_SERVER_ERROR")));
+  }
+
+  @Test
+  void getCategoryList_Service層でIllegalStateExceptionが発生した場合_500InternalServerErrorを返す()
+      throws Exception {
+    // Arrange 内部の状態の不整合はクライアントの誤りではないため、400にしない
+    when(categoryService.getCategoryListETag(anyString())).thenReturn("\"1\"");
+    when(categoryService.getCategoryListJson(anyString()))
+        .thenThrow(new IllegalStateException("カテゴリをJSONに変換できません: 1"));
+
+    // Act & Assert
+    mockmvc.perform(get("/categories"))
+        .andExpect(status().isInternalServerError())
+        .andExpect(jsonPath("$.code", is("INTERNAL_SERVER_ERROR")));
+  }
+
   /**
    * updateCategory のテスト
    */
@@ -260,7 +397,7 @@ public class CategoryControllerTest {
     request.setName("更新カテゴリ");
 
     when(categoryService.updateCategory(anyInt(), any(), anyString()))
-        .thenThrow(new IllegalStateException("NOT_FOUND:該当のカテゴリが見つかりません"));
+        .thenThrow(new BusinessException(ErrorCode.NOT_FOUND_ERROR, "該当のカテゴリが見つかりません"));
 
     // Act & Assert
     mockmvc.perform(patch("/categories/999") // 存在しないID
@@ -278,7 +415,7 @@ public class CategoryControllerTest {
     request.setName("更新カテゴリ");
 
     when(categoryService.updateCategory(anyInt(), any(), anyString()))
-        .thenThrow(new IllegalStateException("FORBIDDEN:このカテゴリを操作する権限がありません"));
+        .thenThrow(new BusinessException(ErrorCode.DEFAULT_CATEGORY_IMMUTABLE, "このカテゴリを操作する権限がありません"));
 
     // Act & Assert
     mockmvc.perform(patch("/categories/1") // デフォルトカテゴリのIDを想定
@@ -295,7 +432,7 @@ public class CategoryControllerTest {
     request.setName("重複カテゴリ");
 
     when(categoryService.updateCategory(anyInt(), any(), anyString()))
-        .thenThrow(new IllegalStateException("DUPLICATE:そのカテゴリ名は既に使用されています"));
+        .thenThrow(new BusinessException(ErrorCode.CATEGORY_NAME_DUPLICATE, "そのカテゴリ名は既に使用されています"));
 
     // Act & Assert
     mockmvc.perform(patch("/categories/2")
@@ -322,4 +459,112 @@ public class CategoryControllerTest {
         .andExpect(status().isInternalServerError())
         .andExpect(jsonPath("$.code").value("INTERNAL_SERVER_ERROR"));
   }
+
+  /**
+   * deleteCategory のテスト
+   */
+  @Test
+  void deleteCategory_正常系_204NoContentを返す() throws Exception {
+    // Act & Assert
+    mockmvc.perform(delete("/categories/1"))
+        .andExpect(status().isNoContent())
+        .andExpect(content().string(""));
+    verify(categoryService).deleteCategory(1, "user1");
+  }
+
+  @Test
+  void deleteCategory_アイテムが登録されている場合_409Conflictを返す() throws Exception {
+    // Arrange
+    doThrow(new BusinessException(ErrorCode.CATEGORY_NOT_EMPTY,
+        "アイテムが1件以上登録されているカテゴリは削除できません"))
+        .when(categoryService).deleteCategory(1, "user1");
+
+    // Act & Assert
+    mockmvc.perform(delete("/categories/1"))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.code", is("CATEGORY_NOT_EMPTY")));
+  }
+
+  @Test
+  void deleteCategory_他の操作と競合した場合_409Conflictを返す() throws Exception {
+    // Arrange
+    doThrow(new BusinessException(ErrorCode.CATEGORY_CONFLICT,
+        "カテゴリが他の操作で更新されました。もう一度お試しください"))
+        .when(categoryService).deleteCategory(1, "user1");
+
+    // Act & Assert
+    mockmvc.perform(delete("/categories/1"))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.code", is("CATEGORY_CONFLICT")));
+  }
+
+  /**
+   * createCategories のテスト
+   */
+  @Test
+  void createCategories_正常系_200OKとカテゴリごとの結果を返す() throws Exception {
+    // Arrange
+    CategoryCreateRequest item = new CategoryCreateRequest();
+    item.setName("文房具");
+    CategoryBatchCreateRequest request = new CategoryBatchCreateRequest();
+    request.setCategories(List.of(item, item));
+
+    CategoryResponse created = new CategoryResponse(new Category(10, "user1", "文房具", false));
+    when(categoryService.createCategories(any(), anyString()))
+        .thenReturn(new CategoryBatchResponse(List.of(
+            CategoryBatchResult.success(0, created),
+            CategoryBatchResult.failure(1, "CATEGORY_NAME_DUPLICATE", "そのカテゴリ名は既に使用されています"))));
+
+    // Act & Assert
+    mockmvc.perform(post("/categories/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeeded").value(1))
+        .andExpect(jsonPath("$.failed").value(1))
+        .andExpect(jsonPath("$.results[0].category.id").value(10))
+        .andExpect(jsonPath("$.results[0].error").doesNotExist())
+        .andExpect(jsonPath("$.results[1].index").value(1))
+        .andExpect(jsonPath("$.results[1].error.code").value("CATEGORY_NAME_DUPLICATE"));
+  }
+
+  @Test
+  void createCategories_カテゴリが指定されていない場合_400BadRequestを返す() throws Exception {
+    // Arrange
+    CategoryBatchCreateRequest request = new CategoryBatchCreateRequest();
+    request.setCategories(Collections.emptyList());
+
+    // Act & Assert
+    mockmvc.perform(post("/categories/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    verify(categoryService, never()).createCategories(any(), anyString());
+  }
+
+  /**
+   * updateCategories のテスト
+   */
+  @Test
+  void updateCategories_正常系_200OKとカテゴリごとの結果を返す() throws Exception {
+    // Arrange
+    CategoryBatchUpdateItem item = new CategoryBatchUpdateItem();
+    item.setId(10);
+    item.setName("生活用品");
+    CategoryBatchUpdateRequest request = new CategoryBatchUpdateRequest();
+    request.setCategories(List.of(item));
+
+    CategoryResponse updated = new CategoryResponse(new Category(10, "user1", "生活用品", false));
+    when(categoryService.updateCategories(any(), anyString()))
+        .thenReturn(new CategoryBatchResponse(List.of(CategoryBatchResult.success(0, updated))));
+
+    // Act & Assert
+    mockmvc.perform(patch("/categories/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeeded").value(1))
+        .andExpect(jsonPath("$.results[0].category.name").value("生活用品"));
+  }
 }
@@ -0,0 +1,57 @@
+package com.example.inventory_api.controller;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.service.CategoryListCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// GET /categories がCategoryListCacheにヒットしない場合も、2回目以降はHibernateのクエリキャッシュから読み、SQLを発行しないことを確認する
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:category-list-query-cache")
+@AutoConfigureMockMvc
+public class CategoryListQueryCacheTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private CategoryListCache categoryListCache;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void getCategoryList_一覧のキャッシュを無効にした場合_SQLを発行せずに取得する() throws Exception {
+    // Arrange
+    categoryRepository.save(new Category("user1", "クエリキャッシュ", false));
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    categoryListCache.clear();
+    mockMvc.perform(get("/categories")).andExpect(status().isOk());
+    categoryListCache.clear();
+    statistics.clear();
+
+    // Act
+    mockMvc.perform(get("/categories"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[?(@.name == 'クエリキャッシュ')]").exists());
+
+    // Assert
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    assertThat(statistics.getQueryRegionStatistics(CategoryRepository.USER_CATEGORIES_CACHE_REGION)
+        .getHitCount()).isEqualTo(1);
+  }
+}
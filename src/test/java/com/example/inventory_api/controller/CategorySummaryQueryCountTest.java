@@ -0,0 +1,77 @@
+package com.example.inventory_api.controller;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.model.Item;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// GET /categories/summary がカテゴリの数によらず1回のSQLで集計することを確認する(N+1になっていないこと)
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:category-summary")
+@AutoConfigureMockMvc
+public class CategorySummaryQueryCountTest {
+
+  private static final int CATEGORIES = 20;
+  private static final int ITEMS_PER_CATEGORY = 3;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private ItemRepository itemRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void getCategorySummary_カテゴリが複数ある場合_SQLを1回だけ発行する() throws Exception {
+    // Arrange
+    String userId = "user1";
+    List<Item> items = new ArrayList<>();
+    for (int c = 0; c < CATEGORIES; c++) {
+      Category category = categoryRepository.save(new Category(userId, "集計カテゴリ" + c, false));
+      for (int i = 0; i < ITEMS_PER_CATEGORY; i++) {
+        Item item = new Item();
+        item.setUserId(userId);
+        item.setCategoryId(category.getId());
+        item.setName("アイテム" + i);
+        item.setQuantity(2);
+        item.setPrice(100);
+        item.setDeleted(false);
+        items.add(item);
+      }
+    }
+    itemRepository.saveAll(items);
+    int visibleCategories = categoryRepository.findUserCategories(userId, "system").size();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // Act
+    mockMvc.perform(get("/categories/summary"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(visibleCategories)))
+        .andExpect(jsonPath("$[?(@.name == '集計カテゴリ0')].totalValue").value(600));
+
+    // Assert
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+}
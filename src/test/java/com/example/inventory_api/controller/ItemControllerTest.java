@@ -0,0 +1,282 @@
+package com.example.inventory_api.controller;
+
+import com.example.inventory_api.controller.advice.CustomExceptionHandler;
+import com.example.inventory_api.controller.dto.ItemImportError;
+import com.example.inventory_api.controller.dto.ItemImportResponse;
+import com.example.inventory_api.controller.dto.ItemQuantityResponse;
+import com.example.inventory_api.controller.dto.ItemResponse;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import com.example.inventory_api.service.ItemExportFormat;
+import com.example.inventory_api.service.ItemExportService;
+import com.example.inventory_api.service.ItemImportService;
+import com.example.inventory_api.service.ItemPage;
+import com.example.inventory_api.service.ItemService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest({ItemController.class, CustomExceptionHandler.class})
+@Import(SimpleMeterRegistry.class)
+public class ItemControllerTest {
+
+  @Autowired
+  private MockMvc mockmvc;
+
+  @MockBean
+  private ItemService itemService;
+
+  @MockBean
+  private ItemExportService itemExportService;
+
+  @MockBean
+  private ItemImportService itemImportService;
+
+  /**
+   * getItemList のテスト
+   */
+  @Test
+  void getItemList_次ページがある場合_200OKとカーソルヘッダーを返す() throws Exception {
+    // Arrange
+    when(itemService.getItemList(eq(1), isNull(), eq(2), anyString()))
+        .thenReturn(new ItemPage(List.of(
+            new ItemResponse(102, 1, "ティッシュペーパー", 5, null),
+            new ItemResponse(101, 1, "トイレットペーパー", 12, null)), "next-cursor"));
+
+    // Act & Assert
+    mockmvc.perform(get("/items").param("categoryId", "1").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("X-Next-Cursor", "next-cursor"))
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].id").value(102))
+        .andExpect(jsonPath("$[0].name").value("ティッシュペーパー"));
+  }
+
+  @Test
+  void getItemList_最終ページの場合_カーソルヘッダーを返さない() throws Exception {
+    // Arrange
+    when(itemService.getItemList(eq(1), eq("cursor"), isNull(), anyString()))
+        .thenReturn(new ItemPage(List.of(), null));
+
+    // Act & Assert
+    mockmvc.perform(get("/items").param("categoryId", "1").param("cursor", "cursor"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist("X-Next-Cursor"))
+        .andExpect(jsonPath("$", hasSize(0)));
+  }
+
+  @Test
+  void getItemList_カテゴリIDが指定されていない場合_400BadRequestを返す() throws Exception {
+    // Act & Assert
+    mockmvc.perform(get("/items"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+  }
+
+  @Test
+  void getItemList_カテゴリが見つからない場合_404NotFoundを返す() throws Exception {
+    // Arrange
+    when(itemService.getItemList(anyInt(), any(), any(), anyString()))
+        .thenThrow(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND, "指定されたカテゴリが見つかりません"));
+
+    // Act & Assert
+    mockmvc.perform(get("/items").param("categoryId", "999"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.code").value("CATEGORY_NOT_FOUND"))
+        .andExpect(jsonPath("$.message").value("指定されたカテゴリが見つかりません"));
+  }
+
+  @Test
+  void getItemList_カーソルの形式が正しくない場合_400BadRequestを返す() throws Exception {
+    // Arrange
+    when(itemService.getItemList(anyInt(), any(), any(), anyString()))
+        .thenThrow(new BusinessException(ErrorCode.INVALID_CURSOR, "カーソルの形式が正しくありません"));
+
+    // Act & Assert
+    mockmvc.perform(get("/items").param("categoryId", "1").param("cursor", "xxx"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+  }
+
+  /**
+   * exportItems のテスト
+   */
+  @Test
+  void exportItems_CSV形式の場合_添付ファイルとしてストリームで返す() throws Exception {
+    // Arrange
+    when(itemExportService.export(eq("user1"), eq(ItemExportFormat.CSV), any()))
+        .thenAnswer(invocation -> {
+          OutputStream out = invocation.getArgument(2);
+          out.write("id,categoryId,name\r\n".getBytes(StandardCharsets.UTF_8));
+          return 0L;
+        });
+
+    // Act
+    MvcResult result = mockmvc.perform(get("/items/export").param("format", "csv"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // Assert
+    mockmvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("text/csv;charset=UTF-8"))
+        .andExpect(header().string("Content-Disposition", "attachment; filename=\"items.csv\""))
+        .andExpect(content().string("id,categoryId,name\r\n"));
+  }
+
+  @Test
+  void exportItems_対応していない形式の場合_400BadRequestを返す() throws Exception {
+    // Act & Assert
+    mockmvc.perform(get("/items/export").param("format", "xml"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_EXPORT_FORMAT"));
+    verifyNoInteractions(itemExportService);
+  }
+
+  /**
+   * importItems のテスト
+   */
+  @Test
+  void importItems_正常系_200OKとインポート結果を返す() throws Exception {
+    // Arrange
+    when(itemImportService.importItems(any(), eq("user1")))
+        .thenReturn(new ItemImportResponse(1, 1, List.of(
+            new ItemImportError(3, "CATEGORY_NOT_FOUND", "指定されたカテゴリが見つかりません"))));
+
+    // Act & Assert
+    mockmvc.perform(post("/items/import")
+            .contentType("text/csv")
+            .content("category,name\n日用品,洗剤\n不明,お米\n".getBytes(StandardCharsets.UTF_8)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accepted").value(1))
+        .andExpect(jsonPath("$.rejected").value(1))
+        .andExpect(jsonPath("$.errors[0].line").value(3))
+        .andExpect(jsonPath("$.errors[0].code").value("CATEGORY_NOT_FOUND"));
+  }
+
+  @Test
+  void importItems_ヘッダー行が不正な場合_400BadRequestを返す() throws Exception {
+    // Arrange
+    when(itemImportService.importItems(any(), anyString()))
+        .thenThrow(new BusinessException(ErrorCode.INVALID_CSV, "1行目にcategory列とname列を含むヘッダー行が必要です"));
+
+    // Act & Assert
+    mockmvc.perform(post("/items/import")
+            .contentType("text/csv")
+            .content("foo,bar\n"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_CSV"));
+  }
+
+  /**
+   * adjustQuantity のテスト
+   */
+  @Test
+  void adjustQuantity_正常系_200OKと反映後の在庫数を返す() throws Exception {
+    // Arrange
+    when(itemService.adjustQuantity(101, -1, "user1")).thenReturn(new ItemQuantityResponse(101, 4));
+
+    // Act & Assert
+    mockmvc.perform(post("/items/101/quantity:adjust")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"delta\": -1}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(101))
+        .andExpect(jsonPath("$.quantity").value(4));
+  }
+
+  @Test
+  void adjustQuantity_在庫数が0未満になる場合_409Conflictを返す() throws Exception {
+    // Arrange
+    when(itemService.adjustQuantity(anyInt(), anyInt(), anyString()))
+        .thenThrow(new BusinessException(ErrorCode.ITEM_QUANTITY_CONFLICT, "在庫数を0未満にすることはできません"));
+
+    // Act & Assert
+    mockmvc.perform(post("/items/101/quantity:adjust")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"delta\": -1}"))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.code").value("ITEM_QUANTITY_CONFLICT"));
+  }
+
+  @Test
+  void adjustQuantity_増減する数が指定されていない場合_400BadRequestを返す() throws Exception {
+    // Act & Assert
+    mockmvc.perform(post("/items/101/quantity:adjust")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
+        .andExpect(jsonPath("$.message").value("増減する数は必須です"));
+    verifyNoInteractions(itemService);
+  }
+
+  /**
+   * getLowStockItems のテスト
+   */
+  @Test
+  void getLowStockItems_正常系_200OKと在庫が少ないアイテムを返す() throws Exception {
+    // Arrange
+    when(itemService.getLowStockItems(isNull(), anyString()))
+        .thenReturn(List.of(new ItemResponse(101, 1, "トイレットペーパー", 1, 2)));
+
+    // Act & Assert
+    mockmvc.perform(get("/items/low-stock"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].quantity").value(1))
+        .andExpect(jsonPath("$[0].threshold").value(2));
+  }
+
+  /**
+   * updateThreshold のテスト
+   */
+  @Test
+  void updateThreshold_正常系_200OKと更新後のアイテムを返す() throws Exception {
+    // Arrange
+    when(itemService.updateThreshold(101, 3, "user1"))
+        .thenReturn(new ItemResponse(101, 1, "トイレットペーパー", 5, 3));
+
+    // Act & Assert
+    mockmvc.perform(patch("/items/101/threshold")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"threshold\": 3}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.threshold").value(3));
+  }
+
+  @Test
+  void updateThreshold_しきい値が負の数の場合_400BadRequestを返す() throws Exception {
+    // Act & Assert
+    mockmvc.perform(patch("/items/101/threshold")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"threshold\": -1}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    verifyNoInteractions(itemService);
+  }
+}
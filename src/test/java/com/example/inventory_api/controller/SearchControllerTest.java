@@ -0,0 +1,83 @@
+package com.example.inventory_api.controller;
+
+import com.example.inventory_api.controller.advice.CustomExceptionHandler;
+import com.example.inventory_api.controller.dto.SearchResultResponse;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import com.example.inventory_api.service.SearchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest({SearchController.class, CustomExceptionHandler.class})
+@Import(SimpleMeterRegistry.class)
+public class SearchControllerTest {
+
+  @Autowired
+  private MockMvc mockmvc;
+
+  @MockBean
+  private SearchService searchService;
+
+  /**
+   * search のテスト
+   */
+  @Test
+  void search_正常系_200OKと一致度の高い順の検索結果を返す() throws Exception {
+    // Arrange
+    when(searchService.search("トイレ", 5, "user1")).thenReturn(List.of(
+        new SearchResultResponse("CATEGORY", 1, null, "トイレ"),
+        new SearchResultResponse("ITEM", 10, 1, "トイレットペーパー")));
+
+    // Act & Assert
+    mockmvc.perform(get("/search").param("q", "トイレ").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].type", is("CATEGORY")))
+        .andExpect(jsonPath("$[0].categoryId", nullValue()))
+        .andExpect(jsonPath("$[1].type", is("ITEM")))
+        .andExpect(jsonPath("$[1].id", is(10)))
+        .andExpect(jsonPath("$[1].categoryId", is(1)))
+        .andExpect(jsonPath("$[1].name", is("トイレットペーパー")));
+    verify(searchService).search("トイレ", 5, "user1");
+  }
+
+  @Test
+  void search_検索語を指定しない場合_400BadRequestを返す() throws Exception {
+    // Act & Assert
+    mockmvc.perform(get("/search"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code", is("BAD_REQUEST")));
+    verifyNoInteractions(searchService);
+  }
+
+  @Test
+  void search_検索語が不正な場合_400BadRequestを返す() throws Exception {
+    // Arrange
+    when(searchService.search(anyString(), any(), anyString()))
+        .thenThrow(new BusinessException(ErrorCode.INVALID_SEARCH_QUERY,
+            "検索語は1文字以上50文字以内で入力してください"));
+
+    // Act & Assert
+    mockmvc.perform(get("/search").param("q", " "))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code", is("INVALID_SEARCH_QUERY")));
+  }
+}
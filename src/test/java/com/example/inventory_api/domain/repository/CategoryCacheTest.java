@@ -0,0 +1,138 @@
+package com.example.inventory_api.domain.repository;
+
+import com.example.inventory_api.domain.model.Category;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Categoryの2次キャッシュと、カテゴリ一覧の取得(findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc)のクエリキャッシュを確認する
+// キャッシュにはコミットした内容だけが載るため、テスト全体をトランザクションで囲まず、リポジトリの呼び出しごとにコミットする
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategoryCacheTest {
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Statistics statistics;
+
+  // テスト用のユーザーID
+  private final String testUserId = "user1";
+  private final String systemUserId = "system";
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    categoryRepository.saveAll(List.of(
+        new Category(testUserId, "日用品", false),
+        new Category(testUserId, "食品", false),
+        new Category(systemUserId, "キッチン", false)));
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    categoryRepository.deleteAll();
+  }
+
+  @Test
+  void findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc_2回目以降の取得ではSQLを発行しない() {
+    // Arrange
+    List<Category> first = categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+    long statementsAfterFirst = statistics.getPrepareStatementCount();
+
+    // Act
+    List<Category> second = categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+    List<Category> third = categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+
+    // Assert
+    assertThat(statementsAfterFirst).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirst);
+    assertThat(second).extracting(Category::getName).containsExactlyElementsOf(
+        first.stream().map(Category::getName).toList());
+    assertThat(third).hasSize(2);
+    assertThat(statistics.getQueryRegionStatistics(CategoryRepository.USER_CATEGORIES_CACHE_REGION)
+        .getHitCount()).isEqualTo(2);
+  }
+
+  @Test
+  void findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc_カテゴリを保存した場合_キャッシュした結果を使わずに再検索する() {
+    // Arrange
+    categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+    Category category = categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId).stream()
+        .filter(c -> c.getName().equals("食品"))
+        .findFirst()
+        .orElseThrow();
+
+    // Act 名前の変更・追加・論理削除を保存する
+    category.setName("あいうえお");
+    categoryRepository.save(category);
+    categoryRepository.save(new Category(testUserId, "文房具", false));
+    Category deleted = categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId).stream()
+        .filter(c -> c.getName().equals("日用品"))
+        .findFirst()
+        .orElseThrow();
+    deleted.setDeleted(true);
+    categoryRepository.save(deleted);
+    List<Category> result = categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+
+    // Assert
+    assertThat(result).extracting(Category::getName)
+        .containsExactly("あいうえお", "文房具");
+  }
+
+  @Test
+  void addItemCount_アイテム数を増減した場合_キャッシュしたカテゴリと一覧を使わずに再検索する() {
+    // Arrange
+    Category category = categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId).get(0);
+    categoryRepository.findById(category.getId());
+    statistics.clear();
+
+    // Act 一括UPDATEはエンティティを経由しないため、Hibernateはキャッシュを無効にする
+    transactionTemplate.executeWithoutResult(status -> categoryRepository.addItemCount(category.getId(), 1));
+    Category found = categoryRepository.findById(category.getId()).orElseThrow();
+    List<Category> result = categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+
+    // Assert
+    assertThat(found.getItemCount()).isEqualTo(1);
+    assertThat(found.getVersion()).isEqualTo(category.getVersion() + 1);
+    assertThat(result).hasSize(2);
+    assertThat(statistics.getDomainDataRegionStatistics(Category.CACHE_REGION).getHitCount()).isZero();
+    assertThat(statistics.getQueryRegionStatistics(CategoryRepository.USER_CATEGORIES_CACHE_REGION)
+        .getHitCount()).isZero();
+  }
+
+  @Test
+  void findById_保存したカテゴリは2次キャッシュから取得する() {
+    // Arrange
+    Category saved = categoryRepository.save(new Category(testUserId, "文房具", false));
+    statistics.clear();
+
+    // Act
+    Category result = categoryRepository.findById(saved.getId()).orElseThrow();
+
+    // Assert
+    assertThat(result.getName()).isEqualTo("文房具");
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    assertThat(statistics.getDomainDataRegionStatistics(Category.CACHE_REGION).getHitCount())
+        .isEqualTo(1);
+  }
+}
@@ -1,81 +1,89 @@
 package com.example.inventory_api.domain.repository;
 
 import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.model.Item;
+import com.example.inventory_api.domain.support.CategoryNames;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class CategoryRepositoryTest {
 
   @Autowired
   private CategoryRepository categoryRepository;
 
+  @Autowired
+  private ItemRepository itemRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
   // テスト用のユーザーID
   private final String testUserId = "user1";
   private final String anotherUserId = "user2";
   private final String systemUserId = "system";
 
   /**
-   * findByNameAndUserIdAndDeletedFalse のテスト
+   * findUserCategories のテスト
    */
   @Test
-  void findByNameAndUserIdAndDeletedFalse_未削除のカテゴリが存在する場合_そのカテゴリを返す() {
+  void findUserCategories_カスタムカテゴリとデフォルトカテゴリを併せて取得する() {
     // Arrange
-    Category testCategory = new Category();
-    testCategory.setName("テストカテゴリ");
-    testCategory.setUserId(testUserId);
-    testCategory.setDeleted(false);  // 削除されていない
-    categoryRepository.save(testCategory);
+    categoryRepository.save(new Category(testUserId, "カスタムカテゴリ", false));
+    categoryRepository.save(new Category(systemUserId, "デフォルトカテゴリ", false));
+    categoryRepository.save(new Category(testUserId, "削除済みカテゴリ", true));
+    categoryRepository.save(new Category(anotherUserId, "他のユーザーのカテゴリ", false));
 
     // Act
-    List<Category> result = categoryRepository.findByNameAndUserIdAndDeletedFalse("テストカテゴリ",
-        testUserId);
+    List<Category> result = categoryRepository.findUserCategories(testUserId, systemUserId);
 
-    // Assert
-    assertThat(result).hasSize(1);
-    assertThat(result.get(0).getName()).isEqualTo("テストカテゴリ");
+    // Assert ここではソートは求めない
+    assertThat(result).hasSize(2);
+    assertThat(result).extracting(Category::getName)
+        .containsExactlyInAnyOrder("カスタムカテゴリ", "デフォルトカテゴリ");
   }
 
   @Test
-  void findByNameAndUserIdAndDeletedFalse_削除済みのカテゴリしか存在しない場合_空のリストを返す() {
+  void findUserCategories_ソートキーにより辞書順で取得する() {
     // Arrange
-    Category deletedCategory = new Category();
-    deletedCategory.setName("テストカテゴリ");
-    deletedCategory.setUserId(testUserId);
-    deletedCategory.setDeleted(true); // 削除済み
-    categoryRepository.save(deletedCategory);
+    categoryRepository.save(new Category(testUserId, "玄関", false));
+    categoryRepository.save(new Category(systemUserId, "リビング・ダイニング", false));
+    categoryRepository.save(new Category(testUserId, "寝室", false));
+    categoryRepository.save(new Category(systemUserId, "BathRoom", false));
+    categoryRepository.save(new Category(testUserId, "といれ", false));
 
     // Act
-    List<Category> result = categoryRepository.findByNameAndUserIdAndDeletedFalse("テストカテゴリ",
-        testUserId);
+    List<Category> result = categoryRepository.findUserCategories(testUserId, systemUserId);
 
     // Assert
-    assertThat(result).isEmpty();
+    assertThat(result).extracting(Category::getName)
+        .containsExactly("BathRoom", "といれ", "リビング・ダイニング", "玄関", "寝室");
   }
 
-  /**
-   * findUserCategories のテスト
-   */
   @Test
-  void findUserCategories_カスタムカテゴリとデフォルトカテゴリを併せて取得する() {
+  void findUserCategories_名前を変更した場合_変更後の名前の順序で取得する() {
     // Arrange
-    categoryRepository.save(new Category(testUserId, "カスタムカテゴリ", false));
-    categoryRepository.save(new Category(systemUserId, "デフォルトカテゴリ", false));
-    categoryRepository.save(new Category(testUserId, "削除済みカテゴリ", true));
-    categoryRepository.save(new Category(anotherUserId, "他のユーザーのカテゴリ", false));
+    categoryRepository.save(new Category(testUserId, "あ", false));
+    Category renamed = categoryRepository.save(new Category(testUserId, "い", false));
+    renamed.setName("ア"); // 「あ」より後ろに並ぶ
+    categoryRepository.saveAndFlush(renamed);
+    categoryRepository.save(new Category(testUserId, "う", false));
 
     // Act
     List<Category> result = categoryRepository.findUserCategories(testUserId, systemUserId);
 
-    // Assert ここではソートは求めない
-    assertThat(result).hasSize(2);
-    assertThat(result).extracting(Category::getName)
-        .containsExactlyInAnyOrder("カスタムカテゴリ", "デフォルトカテゴリ");
+    // Assert
+    assertThat(result).extracting(Category::getName).containsExactly("あ", "ア", "う");
   }
 
   @Test
@@ -90,4 +98,258 @@ public class CategoryRepositoryTest {
     // Assert  nullではなく、要素数0のリストを確認
     assertThat(result).isNotNull().isEmpty();
   }
+
+  /**
+   * summarizeUserCategories のテスト
+   */
+  @Test
+  void summarizeUserCategories_表示するカテゴリごとにアイテムの件数と合計を辞書順で集計する() {
+    // Arrange
+    Category custom = categoryRepository.save(new Category(testUserId, "寝室", false));
+    Category system = categoryRepository.save(new Category(systemUserId, "キッチン", false));
+    Category empty = categoryRepository.save(new Category(testUserId, "玄関", false));
+    categoryRepository.save(new Category(testUserId, "削除済みカテゴリ", true));
+    categoryRepository.save(new Category(anotherUserId, "他のユーザーのカテゴリ", false));
+    saveItem(testUserId, custom.getId(), 3, 100, false);
+    saveItem(testUserId, custom.getId(), 2, 250, false);
+    saveItem(testUserId, custom.getId(), 9, 1000, true); // 削除済みのアイテムは集計しない
+    saveItem(testUserId, system.getId(), 4, null, false); // 価格が未設定の場合は金額に含めない
+    saveItem(anotherUserId, system.getId(), 7, 500, false); // 他のユーザーのアイテムは集計しない
+
+    // Act
+    List<CategoryRepository.CategorySummary> result =
+        categoryRepository.summarizeUserCategories(testUserId, systemUserId);
+
+    // Assert
+    assertThat(result).extracting(CategoryRepository.CategorySummary::getCategoryName)
+        .containsExactly("キッチン", "玄関", "寝室");
+    assertThat(result).extracting(
+            CategoryRepository.CategorySummary::getCategoryId,
+            CategoryRepository.CategorySummary::getItemCount,
+            CategoryRepository.CategorySummary::getTotalQuantity,
+            CategoryRepository.CategorySummary::getTotalValue)
+        .containsExactly(
+            tuple(system.getId(), 1L, 4L, 0L),
+            tuple(empty.getId(), 0L, 0L, 0L),
+            tuple(custom.getId(), 2L, 5L, 800L));
+  }
+
+  @Test
+  void summarizeUserCategories_金額の合計がintの範囲を超える場合_桁あふれせずに集計する() {
+    // Arrange
+    Category category = categoryRepository.save(new Category(testUserId, "倉庫", false));
+    saveItem(testUserId, category.getId(), 100_000, 100_000, false);
+
+    // Act
+    List<CategoryRepository.CategorySummary> result =
+        categoryRepository.summarizeUserCategories(testUserId, systemUserId);
+
+    // Assert
+    assertThat(result).singleElement()
+        .extracting(CategoryRepository.CategorySummary::getTotalValue)
+        .isEqualTo(10_000_000_000L);
+  }
+
+  /**
+   * addItemCount のテスト
+   */
+  @Test
+  void addItemCount_未削除のカテゴリの場合_アイテム数を増やしバージョンを進める() {
+    // Arrange
+    Category category = categoryRepository.saveAndFlush(new Category(testUserId, "倉庫", false));
+    Long version = category.getVersion();
+    entityManager.clear();
+
+    // Act
+    int updated = categoryRepository.addItemCount(category.getId(), 3);
+    entityManager.clear();
+
+    // Assert
+    Category result = categoryRepository.findById(category.getId()).orElseThrow();
+    assertThat(updated).isEqualTo(1);
+    assertThat(result.getItemCount()).isEqualTo(3);
+    assertThat(result.getVersion()).isEqualTo(version + 1);
+  }
+
+  @Test
+  void addItemCount_削除済みのカテゴリの場合_更新せずに0を返す() {
+    // Arrange
+    Category category = categoryRepository.saveAndFlush(new Category(testUserId, "倉庫", true));
+    entityManager.clear();
+
+    // Act
+    int updated = categoryRepository.addItemCount(category.getId(), 3);
+    entityManager.clear();
+
+    // Assert
+    assertThat(updated).isZero();
+    assertThat(categoryRepository.findById(category.getId()).orElseThrow().getItemCount()).isZero();
+  }
+
+  /**
+   * findItemCountMismatches / correctItemCount のテスト
+   */
+  @Test
+  void findItemCountMismatches_カウンターと未削除アイテムの件数が異なるカテゴリだけを返す() {
+    // Arrange アイテムをリポジトリから直接登録し、カウンターを増やさない
+    Category matched = categoryRepository.save(new Category(testUserId, "キッチン", false));
+    Category mismatched = categoryRepository.save(new Category(testUserId, "玄関", false));
+    saveItem(testUserId, mismatched.getId(), 1, null, false);
+    saveItem(testUserId, mismatched.getId(), 1, null, false);
+    saveItem(testUserId, mismatched.getId(), 1, null, true); // 削除済みのアイテムは数えない
+    saveItem(testUserId, matched.getId(), 1, null, true);
+    entityManager.flush();
+
+    // Act
+    List<CategoryRepository.ItemCountMismatch> result = categoryRepository.findItemCountMismatches();
+
+    // Assert
+    assertThat(result).extracting(
+            CategoryRepository.ItemCountMismatch::getCategoryId,
+            CategoryRepository.ItemCountMismatch::getRecordedCount,
+            CategoryRepository.ItemCountMismatch::getActualCount)
+        .containsExactly(tuple(mismatched.getId(), 0, 2L));
+  }
+
+  @Test
+  void correctItemCount_照合後にカウンターが変わっていた場合_修正しない() {
+    // Arrange
+    Category category = categoryRepository.saveAndFlush(new Category(testUserId, "倉庫", false));
+    entityManager.clear();
+    categoryRepository.addItemCount(category.getId(), 1);
+
+    // Act 照合時のカウンターの値(0)で修正しようとする
+    int stale = categoryRepository.correctItemCount(category.getId(), 0, 5);
+    int current = categoryRepository.correctItemCount(category.getId(), 1, 5);
+    entityManager.clear();
+
+    // Assert
+    assertThat(stale).isZero();
+    assertThat(current).isEqualTo(1);
+    assertThat(categoryRepository.findById(category.getId()).orElseThrow().getItemCount())
+        .isEqualTo(5);
+  }
+
+  /**
+   * findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc のテスト
+   */
+  @Test
+  void findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc_指定ユーザーの未削除カテゴリのみを辞書順で取得する() {
+    // Arrange
+    categoryRepository.save(new Category(testUserId, "玄関", false));
+    categoryRepository.save(new Category(testUserId, "といれ", false));
+    categoryRepository.save(new Category(testUserId, "削除済みカテゴリ", true));
+    categoryRepository.save(new Category(systemUserId, "キッチン", false));
+    categoryRepository.save(new Category(anotherUserId, "他のユーザーのカテゴリ", false));
+
+    // Act
+    List<Category> result =
+        categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+
+    // Assert
+    assertThat(result).extracting(Category::getName).containsExactly("といれ", "玄関");
+  }
+
+  /**
+   * existsDuplicateName のテスト
+   */
+  @Test
+  void existsDuplicateName_正規化後の名前が一致するカテゴリがある場合_trueを返す() {
+    // Arrange 半角カナ・全角英字で登録
+    categoryRepository.save(new Category(testUserId, "ﾄｲﾚ", false));
+    categoryRepository.save(new Category(systemUserId, "ＫＩＴＣＨＥＮ", false));
+
+    // Act & Assert
+    assertThat(categoryRepository.existsDuplicateName(testUserId, systemUserId,
+        CategoryNames.normalize("トイレ"), null)).isTrue();
+    assertThat(categoryRepository.existsDuplicateName(testUserId, systemUserId,
+        CategoryNames.normalize("KITCHEN"), null)).isTrue();
+  }
+
+  @Test
+  void existsDuplicateName_除外IDや削除済み_他ユーザーのカテゴリのみ一致する場合_falseを返す() {
+    // Arrange
+    Category own = categoryRepository.save(new Category(testUserId, "トイレ", false));
+    categoryRepository.save(new Category(testUserId, "玄関", true));
+    categoryRepository.save(new Category(anotherUserId, "寝室", false));
+
+    // Act & Assert
+    assertThat(categoryRepository.existsDuplicateName(testUserId, systemUserId,
+        "トイレ", own.getId())).isFalse();
+    assertThat(categoryRepository.existsDuplicateName(testUserId, systemUserId,
+        "玄関", null)).isFalse();
+    assertThat(categoryRepository.existsDuplicateName(testUserId, systemUserId,
+        "寝室", null)).isFalse();
+  }
+
+  /**
+   * countByUserIdAndDeletedFalse のテスト
+   */
+  @Test
+  void countByUserIdAndDeletedFalse_指定ユーザーの未削除カテゴリ数を返す() {
+    // Arrange
+    categoryRepository.save(new Category(testUserId, "カテゴリ1", false));
+    categoryRepository.save(new Category(testUserId, "カテゴリ2", false));
+    categoryRepository.save(new Category(testUserId, "削除済みカテゴリ", true));
+    categoryRepository.save(new Category(systemUserId, "デフォルトカテゴリ", false));
+
+    // Act & Assert
+    assertThat(categoryRepository.countByUserIdAndDeletedFalse(testUserId)).isEqualTo(2);
+  }
+
+  /**
+   * saveAll のテスト（一括登録・更新）
+   */
+  @Test
+  void saveAll_複数のカテゴリを登録する場合_INSERTをJDBCバッチでまとめて実行する() {
+    // Arrange
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    List<Category> categories = IntStream.range(0, 50)
+        .mapToObj(i -> new Category(testUserId, "一括カテゴリ" + i, false))
+        .toList();
+    entityManager.flush();
+    statistics.clear();
+
+    // Act
+    categoryRepository.saveAll(categories);
+    entityManager.flush();
+
+    // Assert
+    // バッチ化されない場合はINSERTごとにステートメントが準備される(50件)
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(50);
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void saveAll_複数のカテゴリ名を変更する場合_UPDATEをJDBCバッチでまとめて実行する() {
+    // Arrange
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    List<Category> categories = categoryRepository.saveAll(IntStream.range(0, 50)
+        .mapToObj(i -> new Category(testUserId, "一括カテゴリ" + i, false))
+        .toList());
+    entityManager.flush();
+    statistics.clear();
+
+    // Act
+    categories.forEach(category -> category.setName(category.getName() + "_変更"));
+    entityManager.flush();
+
+    // Assert
+    assertThat(statistics.getEntityUpdateCount()).isEqualTo(50);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  private void saveItem(String userId, Integer categoryId, int quantity, Integer price,
+      boolean deleted) {
+    Item item = new Item();
+    item.setUserId(userId);
+    item.setCategoryId(categoryId);
+    item.setName("アイテム");
+    item.setQuantity(quantity);
+    item.setPrice(price);
+    item.setDeleted(deleted);
+    itemRepository.save(item);
+  }
 }
@@ -0,0 +1,259 @@
+package com.example.inventory_api.domain.repository;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.model.Item;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class ItemRepositoryTest {
+
+  @Autowired
+  private ItemRepository itemRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  // テスト用のユーザーID・カテゴリID
+  private final String testUserId = "user1";
+  private final String anotherUserId = "user2";
+  private Integer testCategoryId;
+  private Integer anotherCategoryId;
+
+  // items.category_id には外部キーがあるため、参照先のカテゴリを先に登録する
+  @BeforeEach
+  void setUp() {
+    testCategoryId = categoryRepository.save(new Category(testUserId, "カテゴリ1", false)).getId();
+    anotherCategoryId = categoryRepository.save(new Category(testUserId, "カテゴリ2", false)).getId();
+  }
+
+  /**
+   * findFirstPage / findNextPage のテスト
+   */
+  @Test
+  void findFirstPage_更新日時の新しい順に指定件数を取得する() {
+    // Arrange
+    List<Item> items = IntStream.range(0, 5)
+        .mapToObj(i -> saveItem(testUserId, testCategoryId, "アイテム" + i, false))
+        .toList();
+    // 最初に登録したアイテムを更新して、最も新しくする
+    items.get(0).setQuantity(10);
+    itemRepository.saveAndFlush(items.get(0));
+
+    // Act
+    List<Item> result = itemRepository.findFirstPage(testUserId, testCategoryId, Limit.of(3));
+
+    // Assert
+    assertThat(result).hasSize(3);
+    assertThat(result.get(0).getName()).isEqualTo("アイテム0");
+    assertThat(result).isSortedAccordingTo(
+        Comparator.comparing(Item::getUpdatedAt).thenComparing(Item::getId).reversed());
+  }
+
+  @Test
+  void findFirstPage_他のユーザー_他のカテゴリ_削除済みのアイテムは取得しない() {
+    // Arrange
+    saveItem(testUserId, testCategoryId, "対象", false);
+    saveItem(testUserId, testCategoryId, "削除済み", true);
+    saveItem(testUserId, anotherCategoryId, "別カテゴリ", false);
+    saveItem(anotherUserId, testCategoryId, "別ユーザー", false);
+
+    // Act
+    List<Item> result = itemRepository.findFirstPage(testUserId, testCategoryId, Limit.of(10));
+
+    // Assert
+    assertThat(result).extracting(Item::getName).containsExactly("対象");
+  }
+
+  @Test
+  void findNextPage_カーソルを順にたどった場合_全件を重複なく順番どおりに取得する() {
+    // Arrange 更新日時が同じアイテムを含める
+    IntStream.range(0, 7)
+        .forEach(i -> saveItem(testUserId, testCategoryId, "アイテム" + i, false));
+    LocalDateTime sameTime = LocalDateTime.of(2025, 1, 1, 12, 0);
+    entityManager.createQuery("UPDATE Item i SET i.updatedAt = :updatedAt WHERE i.name IN :names")
+        .setParameter("updatedAt", sameTime)
+        .setParameter("names", List.of("アイテム2", "アイテム3", "アイテム4"))
+        .executeUpdate();
+    entityManager.clear();
+
+    // Act 2件ずつ最終ページまで取得
+    List<Item> collected = new ArrayList<>();
+    List<Item> page = itemRepository.findFirstPage(testUserId, testCategoryId, Limit.of(2));
+    while (!page.isEmpty()) {
+      collected.addAll(page);
+      Item last = page.get(page.size() - 1);
+      page = itemRepository.findNextPage(testUserId, testCategoryId, last.getUpdatedAt(),
+          last.getId(), Limit.of(2));
+    }
+
+    // Assert
+    assertThat(collected).hasSize(7);
+    assertThat(collected).extracting(Item::getId).doesNotHaveDuplicates();
+    assertThat(collected).isSortedAccordingTo(
+        Comparator.comparing(Item::getUpdatedAt).thenComparing(Item::getId).reversed());
+  }
+
+  @Test
+  void findNextPage_複合インデックスを使って検索する() {
+    // Act
+    String plan = (String) entityManager.createNativeQuery("""
+            EXPLAIN SELECT id FROM items
+            WHERE user_id = 'user1' AND category_id = 1 AND deleted = false
+              AND (updated_at < TIMESTAMP '2025-01-01 00:00:00'
+                OR (updated_at = TIMESTAMP '2025-01-01 00:00:00' AND id < 100))
+            ORDER BY updated_at DESC, id DESC
+            FETCH FIRST 51 ROWS ONLY
+            """)
+        .getSingleResult();
+
+    // Assert
+    assertThat(plan).containsIgnoringCase("idx_items_category_id_user_id_deleted_updated_at_id");
+  }
+
+  /**
+   * streamByUserId のテスト
+   */
+  @Test
+  void streamByUserId_ユーザーの未削除のアイテムをID順に取得する() {
+    // Arrange
+    Item first = saveItem(testUserId, testCategoryId, "アイテム1", false);
+    saveItem(testUserId, testCategoryId, "削除済み", true);
+    saveItem(anotherUserId, testCategoryId, "別ユーザー", false);
+    Item second = saveItem(testUserId, anotherCategoryId, "アイテム2", false);
+    entityManager.clear();
+
+    // Act
+    List<Integer> result;
+    try (Stream<Item> items = itemRepository.streamByUserId(testUserId)) {
+      result = items.map(Item::getId).toList();
+    }
+
+    // Assert
+    assertThat(result).containsExactly(first.getId(), second.getId());
+  }
+
+  /**
+   * findLowStock / adjustQuantity / updateThreshold のテスト
+   */
+  @Test
+  void findLowStock_在庫数がしきい値以下のアイテムを不足している順に取得する() {
+    // Arrange
+    saveItem(testUserId, testCategoryId, "十分", 5, 2, false);
+    saveItem(testUserId, testCategoryId, "ちょうど", 2, 2, false);
+    saveItem(testUserId, anotherCategoryId, "不足", 0, 3, false);
+    saveItem(testUserId, testCategoryId, "しきい値なし", 0, null, false);
+    saveItem(testUserId, testCategoryId, "削除済み", 0, 3, true);
+    saveItem(anotherUserId, testCategoryId, "別ユーザー", 0, 3, false);
+
+    // Act
+    List<Item> result = itemRepository.findLowStock(testUserId, Limit.of(10));
+
+    // Assert
+    assertThat(result).extracting(Item::getName).containsExactly("不足", "ちょうど");
+  }
+
+  @Test
+  void adjustQuantity_在庫数を増減した場合_在庫が少ないアイテムの判定も更新される() {
+    // Arrange
+    Item item = saveItem(testUserId, testCategoryId, "ティッシュ", 3, 2, false);
+    entityManager.clear();
+
+    // Act
+    int decreased = itemRepository.adjustQuantity(item.getId(), testUserId, -1, -1, LocalDateTime.now());
+    List<Item> afterDecrease = itemRepository.findLowStock(testUserId, Limit.of(10));
+    int rejected = itemRepository.adjustQuantity(item.getId(), testUserId, -3, -3, LocalDateTime.now());
+    itemRepository.adjustQuantity(item.getId(), testUserId, 5, 0, LocalDateTime.now());
+    List<Item> afterIncrease = itemRepository.findLowStock(testUserId, Limit.of(10));
+
+    // Assert
+    assertThat(decreased).isEqualTo(1);
+    assertThat(afterDecrease).extracting(Item::getStockMargin).containsExactly(0);
+    // 0未満になる増減は反映しない
+    assertThat(rejected).isZero();
+    assertThat(afterIncrease).isEmpty();
+    entityManager.clear();
+    assertThat(itemRepository.findById(item.getId()).orElseThrow().getQuantity()).isEqualTo(7);
+  }
+
+  @Test
+  void adjustQuantity_途中の合計が0未満になる場合_合計が0以上でも更新しない() {
+    // Arrange
+    Item item = saveItem(testUserId, testCategoryId, "ティッシュ", 0, null, false);
+    entityManager.clear();
+
+    // Act -1, +1 をまとめて反映(合計は0、途中の最小は-1)
+    int updated = itemRepository.adjustQuantity(item.getId(), testUserId, 0, -1, LocalDateTime.now());
+
+    // Assert
+    assertThat(updated).isZero();
+  }
+
+  @Test
+  void updateThreshold_しきい値を設定_解除した場合_在庫が少ないアイテムの判定も更新される() {
+    // Arrange
+    Item item = saveItem(testUserId, testCategoryId, "ティッシュ", 3, null, false);
+
+    // Act & Assert
+    itemRepository.updateThreshold(item.getId(), testUserId, 5, LocalDateTime.now());
+    assertThat(itemRepository.findLowStock(testUserId, Limit.of(10)))
+        .extracting(Item::getStockMargin).containsExactly(-2);
+
+    itemRepository.updateThreshold(item.getId(), testUserId, null, LocalDateTime.now());
+    assertThat(itemRepository.findLowStock(testUserId, Limit.of(10))).isEmpty();
+    assertThat(itemRepository.findById(item.getId()).orElseThrow().getStockMargin()).isNull();
+  }
+
+  @Test
+  void findLowStock_在庫数としきい値の差のインデックスを使って検索する() {
+    // Act
+    String plan = (String) entityManager.createNativeQuery("""
+            EXPLAIN SELECT id FROM items
+            WHERE user_id = 'user1' AND deleted = false AND stock_margin <= 0
+            ORDER BY stock_margin, id
+            FETCH FIRST 100 ROWS ONLY
+            """)
+        .getSingleResult();
+
+    // Assert
+    assertThat(plan).containsIgnoringCase("idx_items_user_id_deleted_stock_margin_id");
+  }
+
+  private Item saveItem(String userId, Integer categoryId, String name, int quantity,
+      Integer threshold, boolean deleted) {
+    Item item = new Item();
+    item.setUserId(userId);
+    item.setCategoryId(categoryId);
+    item.setName(name);
+    item.setQuantity(quantity);
+    item.setThreshold(threshold);
+    item.setDeleted(deleted);
+    return itemRepository.saveAndFlush(item);
+  }
+
+  private Item saveItem(String userId, Integer categoryId, String name, boolean deleted) {
+    Item item = new Item();
+    item.setUserId(userId);
+    item.setCategoryId(categoryId);
+    item.setName(name);
+    item.setQuantity(1);
+    item.setDeleted(deleted);
+    return itemRepository.saveAndFlush(item);
+  }
+}
@@ -0,0 +1,306 @@
+package com.example.inventory_api.domain.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 各リポジトリのクエリについて、Hibernateが実際に発行したSQLをEXPLAINし、テーブル全体を走査せずにインデックスを使うことを確認する
+// インデックスはFlywayのマイグレーション(db/migration)で作成したもの
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.example.inventory_api.domain.repository.RepositoryQueryPlanTest$SqlCapture")
+public class RepositoryQueryPlanTest {
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private CategoryQuotaRepository categoryQuotaRepository;
+
+  @Autowired
+  private ItemRepository itemRepository;
+
+  @Autowired
+  private SeedVersionRepository seedVersionRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private static final String USER_ID = "user1";
+  private static final String SYSTEM_USER_ID = "system";
+  private static final String PRIMARY_KEY = "PRIMARY_KEY";
+
+  // 実行計画が実際の利用に近くなるよう、複数ユーザー・カテゴリのデータを登録して統計情報を更新しておく
+  private static final int USERS = 20;
+  private static final int CATEGORIES_PER_USER = 10;
+  private static final int ITEMS_PER_CATEGORY = 20;
+
+  @BeforeEach
+  void setUp() {
+    if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class) == 0) {
+      insertTestData();
+    }
+    SqlCapture.STATEMENTS.clear();
+  }
+
+  private void insertTestData() {
+    List<Object[]> categories = new ArrayList<>();
+    List<Object[]> items = new ArrayList<>();
+    int categoryId = 0;
+    int itemId = 0;
+    for (int u = 0; u < USERS; u++) {
+      String userId = u == 0 ? SYSTEM_USER_ID : "user" + u;
+      for (int c = 0; c < CATEGORIES_PER_USER; c++) {
+        categoryId++;
+        String name = "カテゴリ" + c;
+        categories.add(new Object[]{categoryId, userId, name, false, name});
+        for (int i = 0; i < ITEMS_PER_CATEGORY; i++) {
+          itemId++;
+          items.add(new Object[]{itemId, categoryId, userId, "アイテム" + i, i, i - 5, false});
+        }
+      }
+      jdbcTemplate.update("INSERT INTO category_quotas (user_id, used_count) VALUES (?, ?)",
+          userId, CATEGORIES_PER_USER);
+    }
+    jdbcTemplate.batchUpdate("""
+        INSERT INTO categories (id, user_id, name, deleted, normalized_name)
+        VALUES (?, ?, ?, ?, ?)
+        """, categories);
+    jdbcTemplate.batchUpdate("""
+        INSERT INTO items (id, category_id, user_id, name, quantity, stock_margin, deleted, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+        """, items);
+    jdbcTemplate.execute("ANALYZE");
+  }
+
+  /**
+   * CategoryRepository のテスト
+   */
+  @Test
+  void findUserCategories_ソートキーまで含むインデックスを使う() {
+    assertUsesIndex(() -> categoryRepository.findUserCategories(USER_ID, SYSTEM_USER_ID),
+        "idx_categories_user_id_deleted_sort_key");
+  }
+
+  @Test
+  void findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc_ソートキーまで含むインデックスを使う() {
+    assertUsesIndex(() -> categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(USER_ID),
+        "idx_categories_user_id_deleted_sort_key");
+  }
+
+  @Test
+  void existsDuplicateName_正規化名のインデックスを使う() {
+    assertUsesIndex(
+        () -> categoryRepository.existsDuplicateName(USER_ID, SYSTEM_USER_ID, "キッチン", 1),
+        "idx_categories_user_id_normalized_name");
+  }
+
+  @Test
+  void countByUserIdAndDeletedFalse_ユーザーIDと削除フラグのインデックスを使う() {
+    assertUsesIndex(() -> categoryRepository.countByUserIdAndDeletedFalse(USER_ID),
+        "idx_categories_user_id_deleted_sort_key");
+  }
+
+  @Test
+  void summarizeUserCategories_カテゴリとアイテムのインデックスを使う() {
+    assertUsesIndex(() -> categoryRepository.summarizeUserCategories(USER_ID, SYSTEM_USER_ID),
+        "idx_categories_user_id_deleted_sort_key");
+  }
+
+  @Test
+  void findByIdAndDeletedFalse_主キーを使う() {
+    assertUsesIndex(() -> categoryRepository.findByIdAndDeletedFalse(1), PRIMARY_KEY);
+  }
+
+  @Test
+  void addItemCount_主キーを使う() {
+    assertUsesIndex(() -> categoryRepository.addItemCount(1, 1), PRIMARY_KEY);
+  }
+
+  @Test
+  void correctItemCount_主キーを使う() {
+    assertUsesIndex(() -> categoryRepository.correctItemCount(1, 0, 20), PRIMARY_KEY);
+  }
+
+  /**
+   * CategoryQuotaRepository のテスト
+   */
+  @Test
+  void incrementIfBelow_主キーを使う() {
+    assertUsesIndex(() -> categoryQuotaRepository.incrementIfBelow(USER_ID, 50), PRIMARY_KEY);
+  }
+
+  @Test
+  void findForUpdate_主キーを使う() {
+    assertUsesIndex(() -> categoryQuotaRepository.findForUpdate(USER_ID), PRIMARY_KEY);
+  }
+
+  /**
+   * SeedVersionRepository のテスト
+   */
+  @Test
+  void findForUpdate_初期データのバージョンの主キーを使う() {
+    assertUsesIndex(() -> seedVersionRepository.findForUpdate("default-categories"), PRIMARY_KEY);
+  }
+
+  /**
+   * ItemRepository のテスト
+   */
+  @Test
+  void findFirstPage_ページング用のインデックスを使う() {
+    assertUsesIndex(() -> itemRepository.findFirstPage(USER_ID, 1, Limit.of(51)),
+        "idx_items_category_id_user_id_deleted_updated_at_id");
+  }
+
+  @Test
+  void findNextPage_ページング用のインデックスを使う() {
+    assertUsesIndex(
+        () -> itemRepository.findNextPage(USER_ID, 1, LocalDateTime.now(), 100, Limit.of(51)),
+        "idx_items_category_id_user_id_deleted_updated_at_id");
+  }
+
+  @Test
+  void findNextPage_前ページの位置から更新日時の範囲で読み始める() {
+    // ORの条件だけでは、カテゴリの先頭から読んで絞り込むため、ページが深いほど遅くなる
+    assertIndexCondition(
+        () -> itemRepository.findNextPage(USER_ID, 1, LocalDateTime.now(), 100, Limit.of(51)),
+        "idx_items_category_id_user_id_deleted_updated_at_id", "UPDATED_AT <= ?");
+  }
+
+  @Test
+  void streamByUserId_ユーザーIDとID順のインデックスを使う() {
+    assertUsesIndex(() -> {
+      try (Stream<?> items = itemRepository.streamByUserId(USER_ID)) {
+        return items.count();
+      }
+    }, "idx_items_user_id_deleted_id");
+  }
+
+  @Test
+  void findItemNamesByUserId_ユーザーIDと削除フラグのインデックスを使う() {
+    assertUsesIndex(() -> itemRepository.findItemNamesByUserId(USER_ID),
+        "idx_items_user_id_deleted_");
+  }
+
+  @Test
+  void findItemNamesWithIdByUserId_ユーザーIDと削除フラグのインデックスを使う() {
+    assertUsesIndex(() -> itemRepository.findItemNamesWithIdByUserId(USER_ID),
+        "idx_items_user_id_deleted_");
+  }
+
+  @Test
+  void adjustQuantity_主キーを使う() {
+    assertUsesIndex(() -> itemRepository.adjustQuantity(1, USER_ID, 1, 0, LocalDateTime.now()),
+        PRIMARY_KEY, "idx_items_user_id_deleted_id");
+  }
+
+  @Test
+  void updateThreshold_主キーを使う() {
+    assertUsesIndex(() -> itemRepository.updateThreshold(1, USER_ID, 3, LocalDateTime.now()),
+        PRIMARY_KEY, "idx_items_user_id_deleted_id");
+  }
+
+  @Test
+  void findLowStock_在庫数としきい値の差のインデックスを使う() {
+    assertUsesIndex(() -> itemRepository.findLowStock(USER_ID, Limit.of(100)),
+        "idx_items_user_id_deleted_stock_margin_id");
+  }
+
+  @Test
+  void findByIdAndUserIdAndDeletedFalse_主キーを使う() {
+    assertUsesIndex(() -> itemRepository.findByIdAndUserIdAndDeletedFalse(1, USER_ID), PRIMARY_KEY);
+  }
+
+  @Test
+  void findQuantity_主キーを使う() {
+    assertUsesIndex(() -> itemRepository.findQuantity(1, USER_ID), PRIMARY_KEY);
+  }
+
+  /**
+   * クエリを実行し、発行されたSQLの実行計画が指定したインデックスを使い、テーブル全体を走査しないことを確認する
+   *
+   * @param query      リポジトリのクエリを呼び出す処理
+   * @param indexNames 使われるべきインデックス名(前方一致)。複数指定した場合はいずれか
+   */
+  private void assertUsesIndex(QueryCall query, String... indexNames) {
+    // Act
+    query.call();
+    List<String> statements = List.copyOf(SqlCapture.STATEMENTS);
+
+    // Assert
+    assertThat(statements).isNotEmpty();
+    for (String sql : statements) {
+      String plan = explain(sql);
+      assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+      assertThat(indexNames).as(plan)
+          .anyMatch(indexName -> plan.toUpperCase().contains("PUBLIC." + indexName.toUpperCase()));
+    }
+  }
+
+  /**
+   * クエリを実行し、発行されたSQLの実行計画で、指定したインデックスの読み込み範囲に条件が含まれることを確認する
+   * <p>
+   * H2の実行計画では、インデックスの読み込み範囲に使う条件を「/* インデックス名: 条件 *&#47;」の形で出力する。
+   *
+   * @param query     リポジトリのクエリを呼び出す処理
+   * @param indexName 使われるべきインデックス名
+   * @param condition 読み込み範囲に含まれるべき条件
+   */
+  private void assertIndexCondition(QueryCall query, String indexName, String condition) {
+    // Act
+    query.call();
+    List<String> statements = List.copyOf(SqlCapture.STATEMENTS);
+
+    // Assert
+    assertThat(statements).hasSize(1);
+    String plan = explain(statements.get(0));
+    String marker = "/* PUBLIC." + indexName.toUpperCase() + ":";
+    int start = plan.toUpperCase().indexOf(marker);
+    assertThat(start).as(plan).isNotNegative();
+    String indexCondition = plan.substring(start + marker.length(), plan.indexOf("*/", start));
+    assertThat(indexCondition).as(plan).contains(condition);
+  }
+
+  // パラメーターをバインドせずにEXPLAINする(H2はパラメーターが未設定でも実行計画を返す)
+  private String explain(String sql) {
+    return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement statement) -> {
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getString(1);
+      }
+    });
+  }
+
+  @FunctionalInterface
+  private interface QueryCall {
+
+    Object call();
+  }
+
+  /**
+   * Hibernateが発行するSQLを記録する
+   */
+  public static class SqlCapture implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+}
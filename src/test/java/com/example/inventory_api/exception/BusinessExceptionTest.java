@@ -0,0 +1,37 @@
+package com.example.inventory_api.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BusinessExceptionTest {
+
+  /**
+   * コンストラクタ のテスト
+   */
+  @Test
+  void new_業務エラーを生成した場合_スタックトレースを取得しない() {
+    // Act
+    BusinessException e = new BusinessException(ErrorCode.CATEGORY_NAME_DUPLICATE,
+        "そのカテゴリ名は既に使用されています");
+
+    // Assert
+    assertThat(e.getStackTrace()).isEmpty();
+    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CATEGORY_NAME_DUPLICATE);
+    assertThat(e.getMessage()).isEqualTo("そのカテゴリ名は既に使用されています");
+  }
+
+  @Test
+  void new_原因となった例外を指定した場合_原因を保持する() {
+    // Arrange
+    IllegalArgumentException cause = new IllegalArgumentException("不正な値");
+
+    // Act
+    BusinessException e = new BusinessException(ErrorCode.INVALID_CURSOR,
+        "カーソルの形式が正しくありません", cause);
+
+    // Assert
+    assertThat(e.getCause()).isSameAs(cause);
+    assertThat(e.getStackTrace()).isEmpty();
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.CategoryRepository.ItemCountMismatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryItemCountReconcilerTest {
+
+  @InjectMocks // テスト対象のクラス
+  private CategoryItemCountReconciler categoryItemCountReconciler;
+
+  @Mock // モックにするクラス
+  private CategoryRepository categoryRepository;
+
+  /**
+   * reconcile のテスト
+   */
+  @Test
+  void reconcile_一致しないカテゴリがある場合_照合時の値を条件に実際の件数へ修正する() {
+    // Arrange
+    when(categoryRepository.findItemCountMismatches()).thenReturn(List.of(
+        mismatch(1, 3, 2L),
+        mismatch(2, 0, 5L)));
+    when(categoryRepository.correctItemCount(1, 3, 2)).thenReturn(1);
+    // 照合した後でアイテムが登録され、カウンターが変わっていた
+    when(categoryRepository.correctItemCount(2, 0, 5)).thenReturn(0);
+
+    // Act
+    int corrected = categoryItemCountReconciler.reconcile();
+
+    // Assert
+    assertThat(corrected).isEqualTo(1);
+    verify(categoryRepository).correctItemCount(1, 3, 2);
+    verify(categoryRepository).correctItemCount(2, 0, 5);
+  }
+
+  @Test
+  void reconcile_全てのカテゴリが一致する場合_何も修正しない() {
+    // Arrange
+    when(categoryRepository.findItemCountMismatches()).thenReturn(List.of());
+
+    // Act
+    int corrected = categoryItemCountReconciler.reconcile();
+
+    // Assert
+    assertThat(corrected).isZero();
+    verify(categoryRepository, never()).correctItemCount(anyInt(), anyInt(), anyInt());
+  }
+
+  private ItemCountMismatch mismatch(Integer categoryId, Integer recordedCount, Long actualCount) {
+    return new ItemCountMismatch() {
+      @Override
+      public Integer getCategoryId() {
+        return categoryId;
+      }
+
+      @Override
+      public Integer getRecordedCount() {
+        return recordedCount;
+      }
+
+      @Override
+      public Long getActualCount() {
+        return actualCount;
+      }
+    };
+  }
+}
@@ -0,0 +1,106 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.controller.dto.CategoryResponse;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CategoryListCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private final CategoryList categories = new CategoryList(
+      List.of(new CategoryResponse(1, "キッチン")),
+      "[{\"id\":1,\"name\":\"キッチン\"}]".getBytes(StandardCharsets.UTF_8));
+
+  @Test
+  void get_登録済みのユーザーの場合_一覧を返しヒット数を加算する() {
+    // Arrange
+    CategoryListCache cache = new CategoryListCache(10, Duration.ofMinutes(1), now::get);
+    cache.put("user1", categories, cache.startLoading("user1"));
+
+    // Act & Assert
+    assertThat(cache.get("user1")).contains(categories);
+    assertThat(cache.get("user2")).isEmpty();
+    assertThat(cache.getStats().hits()).isEqualTo(1);
+    assertThat(cache.getStats().misses()).isEqualTo(1);
+  }
+
+  @Test
+  void get_TTLを過ぎている場合_エントリを破棄して空を返す() {
+    // Arrange
+    CategoryListCache cache = new CategoryListCache(10, Duration.ofMinutes(1), now::get);
+    cache.put("user1", categories, cache.startLoading("user1"));
+    now.addAndGet(Duration.ofMinutes(2).toNanos());
+
+    // Act & Assert
+    assertThat(cache.get("user1")).isEmpty();
+    assertThat(cache.getStats().evictions()).isEqualTo(1);
+    assertThat(cache.getStats().size()).isZero();
+  }
+
+  @Test
+  void put_上限件数を超える場合_最も参照されていないエントリを破棄する() {
+    // Arrange
+    CategoryListCache cache = new CategoryListCache(2, Duration.ofMinutes(1), now::get);
+    cache.put("user1", categories, cache.startLoading("user1"));
+    cache.put("user2", categories, cache.startLoading("user2"));
+    cache.get("user1"); // user1を参照してuser2を最古にする
+
+    // Act
+    cache.put("user3", categories, cache.startLoading("user3"));
+
+    // Assert
+    assertThat(cache.get("user1")).isPresent();
+    assertThat(cache.get("user2")).isEmpty();
+    assertThat(cache.get("user3")).isPresent();
+    assertThat(cache.getStats().evictions()).isEqualTo(1);
+  }
+
+  @Test
+  void put_読み込み中に無効化された場合_古い一覧を登録しない() {
+    // Arrange
+    CategoryListCache cache = new CategoryListCache(10, Duration.ofMinutes(1), now::get);
+    long loadId = cache.startLoading("user1");
+    cache.evict("user1"); // 読み込み中に書き込みが発生
+
+    // Act
+    cache.put("user1", categories, loadId);
+
+    // Assert
+    assertThat(cache.get("user1")).isEmpty();
+  }
+
+  @Test
+  void put_読み込み中に他のユーザーが無効化された場合_一覧を登録する() {
+    // Arrange
+    CategoryListCache cache = new CategoryListCache(10, Duration.ofMinutes(1), now::get);
+    long loadId = cache.startLoading("user1");
+    cache.evict("user2"); // 他のユーザーの書き込み
+
+    // Act
+    cache.put("user1", categories, loadId);
+
+    // Assert
+    assertThat(cache.get("user1")).contains(categories);
+  }
+
+  @Test
+  void put_読み込み中に全体が無効化された場合_古い一覧を登録しない() {
+    // Arrange
+    CategoryListCache cache = new CategoryListCache(10, Duration.ofMinutes(1), now::get);
+    long loadId = cache.startLoading("user1");
+    cache.clear(); // デフォルトカテゴリの変更
+
+    // Act
+    cache.put("user1", categories, loadId);
+
+    // Assert
+    assertThat(cache.get("user1")).isEmpty();
+  }
+}
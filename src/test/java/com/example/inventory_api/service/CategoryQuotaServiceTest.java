@@ -0,0 +1,170 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.controller.dto.CategoryBatchCreateRequest;
+import com.example.inventory_api.controller.dto.CategoryBatchResponse;
+import com.example.inventory_api.controller.dto.CategoryCreateRequest;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.repository.CategoryQuotaRepository;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 実際のDBを使い、同時リクエストでも登録上限が守られることを確認する
+@SpringBootTest
+public class CategoryQuotaServiceTest {
+
+  @Autowired
+  private CategoryService categoryService;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private CategoryQuotaRepository categoryQuotaRepository;
+
+  private static final int MAX_LIMIT = 50;
+  private static final int THREADS = 16;
+
+  @AfterEach
+  void tearDown() {
+    categoryRepository.deleteAll(categoryRepository.findAll().stream()
+        .filter(category -> !"system".equals(category.getUserId()))
+        .toList());
+    categoryQuotaRepository.deleteAll();
+  }
+
+  @Test
+  void createCategory_同一ユーザーから同時に上限を超える登録をした場合_上限件数までしか登録されない()
+      throws Exception {
+    // Arrange
+    String userId = "concurrentUser";
+    int requests = MAX_LIMIT * 3;
+
+    // Act
+    List<Boolean> results = runConcurrently(requests, i -> createQuietly(userId, "カテゴリ" + i));
+
+    // Assert
+    assertThat(results.stream().filter(created -> created).count()).isEqualTo(MAX_LIMIT);
+    assertThat(categoryRepository.countByUserIdAndDeletedFalse(userId)).isEqualTo(MAX_LIMIT);
+    assertThat(categoryQuotaRepository.findById(userId).orElseThrow().getUsedCount())
+        .isEqualTo(MAX_LIMIT);
+  }
+
+  @Test
+  void createCategory_カウンター作成前の登録済みカテゴリがある場合_その件数から数える() throws Exception {
+    // Arrange カウンター導入前に48件登録済み
+    String userId = "legacyUser";
+    for (int i = 0; i < 48; i++) {
+      categoryRepository.save(new Category(userId, "既存カテゴリ" + i, false));
+    }
+
+    // Act
+    List<Boolean> results = runConcurrently(10, i -> createQuietly(userId, "追加カテゴリ" + i));
+
+    // Assert
+    assertThat(results.stream().filter(created -> created).count()).isEqualTo(2);
+    assertThat(categoryRepository.countByUserIdAndDeletedFalse(userId)).isEqualTo(MAX_LIMIT);
+  }
+
+  @Test
+  void createCategory_複数ユーザーが同時に登録した場合_他のユーザーの上限に影響しない() throws Exception {
+    // Act ユーザーごとに10件ずつ登録
+    List<Boolean> results = runConcurrently(40, i -> createQuietly("user" + (i % 4), "カテゴリ" + i));
+
+    // Assert
+    assertThat(results).containsOnly(true);
+    for (int u = 0; u < 4; u++) {
+      assertThat(categoryRepository.countByUserIdAndDeletedFalse("user" + u)).isEqualTo(10);
+    }
+  }
+
+  @Test
+  void createCategories_一括登録と単体登録が同時に行われた場合_上限件数までしか登録されない()
+      throws Exception {
+    // Arrange
+    String userId = "batchUser";
+
+    // Act 10件ずつの一括登録8回と単体登録20回を同時に実行
+    runConcurrently(28, i -> {
+      if (i >= 8) {
+        return createQuietly(userId, "単体カテゴリ" + i);
+      }
+      CategoryBatchCreateRequest request = new CategoryBatchCreateRequest();
+      request.setCategories(IntStream.range(0, 10).mapToObj(j -> {
+        CategoryCreateRequest item = new CategoryCreateRequest();
+        item.setName("一括カテゴリ" + i + "-" + j);
+        return item;
+      }).toList());
+      CategoryBatchResponse response = categoryService.createCategories(request, userId);
+      assertThat(response.getResults()).allSatisfy(result -> {
+        if (result.getError() != null) {
+          assertThat(result.getError().getCode()).isEqualTo("CATEGORY_LIMIT_EXCEEDED");
+        }
+      });
+      return true;
+    });
+
+    // Assert
+    assertThat(categoryRepository.countByUserIdAndDeletedFalse(userId)).isEqualTo(MAX_LIMIT);
+    assertThat(categoryQuotaRepository.findById(userId).orElseThrow().getUsedCount())
+        .isEqualTo(MAX_LIMIT);
+  }
+
+  private boolean createQuietly(String userId, String name) {
+    CategoryCreateRequest request = new CategoryCreateRequest();
+    request.setName(name);
+    try {
+      categoryService.createCategory(request, userId);
+      return true;
+    } catch (BusinessException e) {
+      assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CATEGORY_LIMIT_EXCEEDED);
+      return false;
+    }
+  }
+
+  private List<Boolean> runConcurrently(int requests, IndexedTask task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Boolean>> futures = new ArrayList<>();
+      for (int i = 0; i < requests; i++) {
+        int index = i;
+        Callable<Boolean> callable = () -> {
+          start.await();
+          return task.run(index);
+        };
+        futures.add(executor.submit(callable));
+      }
+      start.countDown();
+
+      List<Boolean> results = new ArrayList<>();
+      for (Future<Boolean> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @FunctionalInterface
+  private interface IndexedTask {
+
+    boolean run(int index);
+  }
+}
@@ -1,27 +1,48 @@
 package com.example.inventory_api.service;
 
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.controller.dto.CategoryBatchCreateRequest;
+import com.example.inventory_api.controller.dto.CategoryBatchResponse;
+import com.example.inventory_api.controller.dto.CategoryBatchResult;
+import com.example.inventory_api.controller.dto.CategoryBatchUpdateItem;
+import com.example.inventory_api.controller.dto.CategoryBatchUpdateRequest;
 import com.example.inventory_api.controller.dto.CategoryCreateRequest;
 import com.example.inventory_api.controller.dto.CategoryResponse;
+import com.example.inventory_api.controller.dto.CategorySummaryResponse;
 import com.example.inventory_api.controller.dto.CategoryUpdateRequest;
 import com.example.inventory_api.domain.model.Category;
 import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.support.CategorySortKeys;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import com.example.inventory_api.service.SystemCategorySnapshot.SystemCategory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,12 +54,42 @@ public class CategoryServiceTest {
   @Mock // モックにするクラス
   private CategoryRepository categoryRepository;
 
+  @Mock
+  private SystemCategorySnapshot systemCategorySnapshot;
+
+  @Mock
+  private CategoryQuotaService categoryQuotaService;
+
+  @Mock
+  private ReadYourWritesGuard readYourWritesGuard;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private SearchIndex searchIndex;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Spy // 実物のキャッシュを使い、呼び出しを検証する
+  private CategoryListCache categoryListCache = new CategoryListCache(100, Duration.ofMinutes(10));
+
+  @Spy
+  private CategoryListVersions categoryListVersions = new CategoryListVersions();
+
+  @Spy // レスポンスのJSONの組み立てには実物のObjectMapperを使う
+  private CategoryJsonWriter categoryJsonWriter = new CategoryJsonWriter(objectMapper);
+
+  @Spy // 一括処理の入力チェックには実物のValidatorを使う
+  private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
   private final String testUserId = "user1";
   private final String testSystemUserId = "system";
 
   @BeforeEach
   void setUp() {
-    ReflectionTestUtils.setField(categoryService, "maxCustomCategoryLimit", 50);
+    // 上限未達
+    lenient().when(categoryQuotaService.tryAcquire(anyString())).thenReturn(true);
   }
 
   /**
@@ -50,9 +101,9 @@ public class CategoryServiceTest {
     CategoryCreateRequest request = new CategoryCreateRequest();
     request.setName("新しいカテゴリ");
 
-    // 重複なし、上限未達
-    when(categoryRepository.findUserCategories(anyString(), anyString()))
-        .thenReturn(new ArrayList<>());
+    // 重複なし
+    when(categoryRepository.existsDuplicateName(testUserId, testSystemUserId, "新しいカテゴリ", null))
+        .thenReturn(false);
     when(categoryRepository.save(any(Category.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -63,6 +114,9 @@ public class CategoryServiceTest {
     assertThat(result.getName()).isEqualTo("新しいカテゴリ");
     assertThat(result.getUserId()).isEqualTo(testUserId);
     verify(categoryRepository, times(1)).save(any(Category.class));
+    // 一覧を読み込まずに検証できていることを確認
+    verify(categoryRepository, never()).findUserCategories(anyString(), anyString());
+    verify(searchIndex, times(1)).update(eq(testUserId), any());
   }
 
   @Test
@@ -71,73 +125,64 @@ public class CategoryServiceTest {
     CategoryCreateRequest request = new CategoryCreateRequest();
     request.setName("重複カテゴリ"); // 作りたいカテゴリ
 
-    Category existingCategory = new Category(1, testSystemUserId, "重複カテゴリ", false);
-
-    when(categoryRepository.findUserCategories(anyString(), anyString()))
-        .thenReturn(List.of(existingCategory));
+    when(categoryRepository.existsDuplicateName(testUserId, testSystemUserId, "重複カテゴリ", null))
+        .thenReturn(true);
 
     // Act & Assert
-    assertThrows(IllegalStateException.class, () -> {
+    assertThrows(BusinessException.class, () -> {
       categoryService.createCategory(request, testUserId);
     });
     // saveが呼ばれないことを確認
     verify(categoryRepository, never()).save(any(Category.class));
   }
 
+  @Test
+  void createCategory_全角と半角の表記揺れがある場合_正規化した名前で重複チェックする() {
+    // Arrange
+    CategoryCreateRequest request = new CategoryCreateRequest();
+    request.setName("ﾄｲﾚ"); // 半角カナ
+
+    when(categoryRepository.existsDuplicateName(testUserId, testSystemUserId, "トイレ", null))
+        .thenReturn(true);
+
+    // Act & Assert
+    assertThatThrownBy(() -> categoryService.createCategory(request, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NAME_DUPLICATE);
+    verify(categoryRepository, never()).save(any(Category.class));
+  }
+
   @Test
   void createCategory_登録上限に達している場合_CategoryLimitExceededExceptionをスローする() {
     // Arrange
     CategoryCreateRequest request = new CategoryCreateRequest();
     request.setName("51個目のカスタムカテゴリ");
 
-    // 50件登録済みのリストを作成
-    List<Category> fullCategoryList = new ArrayList<>();
-    for (int i = 0; i < 50; i++) {
-      fullCategoryList.add(
-          new Category(i, testUserId, "カテゴリ" + i, false)
-      );
-    }
-
-    // repositoryが50件のリストを返すよう設定
-    when(categoryRepository.findUserCategories(anyString(), anyString()))
-        .thenReturn(fullCategoryList);
+    // 登録枠を確保できない
+    when(categoryQuotaService.tryAcquire(testUserId)).thenReturn(false);
 
     // Act and Assert
-    assertThrows(IllegalStateException.class, () -> {
-      categoryService.createCategory(request, testUserId);
-    });
+    assertThatThrownBy(() -> categoryService.createCategory(request, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_LIMIT_EXCEEDED);
     // saveが呼ばれないことを確認
     verify(categoryRepository, never()).save(any(Category.class));
   }
 
   @Test
-  void createCategory_登録済みカテゴリ数が49件の場合_50件目のカテゴリが作成できる() {
+  void createCategory_カテゴリ名が重複する場合_登録枠を確保しない() {
     // Arrange
     CategoryCreateRequest request = new CategoryCreateRequest();
-    request.setName("50個目のカスタムカテゴリ");
-
-    // 50件登録済みのリストを作成
-    List<Category> fullCategoryList = new ArrayList<>();
-    for (int i = 0; i < 49; i++) {
-      fullCategoryList.add(
-          new Category(i, testUserId, "カテゴリ" + i, false)
-      );
-    }
-
-    // repositoryが50件のリストを返すよう設定
-    when(categoryRepository.findUserCategories(anyString(), anyString()))
-        .thenReturn(fullCategoryList);
-    when(categoryRepository.save(any(Category.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    request.setName("重複カテゴリ");
 
-    // Act
-    Category result = categoryService.createCategory(request, testUserId);
+    when(categoryRepository.existsDuplicateName(testUserId, testSystemUserId, "重複カテゴリ", null))
+        .thenReturn(true);
 
-    // Assert
-    // 例外がスローされず、カテゴリが正しく作成されたことを確認
-    assertThat(result.getName()).isEqualTo("50個目のカスタムカテゴリ");
-    // saveが1回呼ばれたことを確認
-    verify(categoryRepository, times(1)).save(any(Category.class));
+    // Act & Assert
+    assertThrows(BusinessException.class, () -> {
+      categoryService.createCategory(request, testUserId);
+    });
+    verify(categoryQuotaService, never()).tryAcquire(anyString());
   }
 
   @Test
@@ -146,10 +191,6 @@ public class CategoryServiceTest {
     CategoryCreateRequest request = new CategoryCreateRequest();
     request.setName("新しいカテゴリ");
 
-    // 重複なし、上限未達
-    when(categoryRepository.findUserCategories(anyString(), anyString()))
-        .thenReturn(new ArrayList<>());
-
     // repository.save()が呼ばれたら、DataAccessExceptionをスローするよう設定
     when(categoryRepository.save(any(Category.class)))
         .thenThrow(new DataAccessResourceFailureException("DB接続エラー"));
@@ -168,7 +209,7 @@ public class CategoryServiceTest {
     request.setName("新しいカテゴリ");
 
     // DB検索時にNullPointerExceptionが発生するよう設定
-    when(categoryRepository.findUserCategories(anyString(), anyString()))
+    when(categoryRepository.existsDuplicateName(anyString(), anyString(), anyString(), any()))
         .thenThrow(new NullPointerException("テスト用のエラー"));
 
     // Act & Assert
@@ -188,7 +229,7 @@ public class CategoryServiceTest {
     request.setName("新しいカテゴリ");
 
     // DB検索時に汎用的な例外が発生するよう設定
-    when(categoryRepository.findUserCategories(anyString(), anyString()))
+    when(categoryRepository.existsDuplicateName(anyString(), anyString(), anyString(), any()))
         .thenThrow(new RuntimeException("テスト用の予期せぬエラー"));
 
     // Act & Assert
@@ -204,45 +245,205 @@ public class CategoryServiceTest {
    * getCategoryList のテスト
    */
   @Test
-  void getCategoryList_リポジトリから取得したカテゴリリストを辞書順で返す() {
-    // Arrange
-    List<Category> unsortedList = Arrays.asList(
-        new Category(1, testUserId, "玄関", false),
-        new Category(2, testUserId, "リビング・ダイニング", false),
-        new Category(3, testUserId, "寝室", false),
-        new Category(4, testUserId, "BathRoom", false),
-        new Category(5, testUserId, "といれ", false)
-    );
+  void getCategoryList_デフォルトカテゴリとカスタムカテゴリを辞書順にマージして返す() {
+    // Arrange それぞれ辞書順に並んだ状態で取得される
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of(
+        systemCategory(4, "BathRoom"),
+        systemCategory(2, "リビング・ダイニング"),
+        systemCategory(3, "寝室")
+    ));
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of(
+            new Category(5, testUserId, "といれ", false),
+            new Category(1, testUserId, "玄関", false)
+        ));
+
+    // Act
+    List<CategoryResponse> result = categoryService.getCategoryList(testUserId);
+
+    // Assert
+    assertThat(result).extracting(CategoryResponse::getId)
+        .containsExactly(4, 5, 2, 1, 3);
+    assertThat(result).extracting(CategoryResponse::getName)
+        .containsExactly("BathRoom", "といれ", "リビング・ダイニング", "玄関", "寝室");
+
+    // デフォルトカテゴリはDBから取得しない
+    verify(categoryRepository, times(1))
+        .findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+    verify(categoryRepository, never()).findUserCategories(anyString(), anyString());
+  }
 
-    when(categoryRepository.findUserCategories(testUserId, testSystemUserId)).
-        thenReturn(unsortedList);
+  @Test
+  void getCategoryList_同名のカテゴリがある場合_ID順に並べる() {
+    // Arrange
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of(systemCategory(2, "玄関")));
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of(new Category(1, testUserId, "玄関", false)));
 
     // Act
     List<CategoryResponse> result = categoryService.getCategoryList(testUserId);
 
     // Assert
-    assertThat(result).hasSize(5);
+    assertThat(result).extracting(CategoryResponse::getId).containsExactly(1, 2);
+  }
 
-    assertThat(result.get(0).getName()).isEqualTo("BathRoom");
-    assertThat(result.get(1).getName()).isEqualTo("といれ");
-    assertThat(result.get(2).getName()).isEqualTo("リビング・ダイニング");
-    assertThat(result.get(3).getName()).isEqualTo("玄関");
-    assertThat(result.get(4).getName()).isEqualTo("寝室");
+  @Test
+  void getCategoryList_2回目の呼び出しの場合_キャッシュから返しDBを検索しない() {
+    // Arrange
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of(new Category(1, testUserId, "玄関", false)));
 
-    assertThat(result.get(0).getId()).isEqualTo(4);
-    assertThat(result.get(1).getId()).isEqualTo(5);
-    assertThat(result.get(2).getId()).isEqualTo(2);
-    assertThat(result.get(3).getId()).isEqualTo(1);
-    assertThat(result.get(4).getId()).isEqualTo(3);
+    // Act
+    List<CategoryResponse> first = categoryService.getCategoryList(testUserId);
+    List<CategoryResponse> second = categoryService.getCategoryList(testUserId);
 
+    // Assert
+    assertThat(second).isEqualTo(first);
     verify(categoryRepository, times(1))
-        .findUserCategories(testUserId, testSystemUserId);
+        .findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+    assertThat(categoryListCache.getStats().hits()).isEqualTo(1);
+  }
+
+  @Test
+  void getCategoryList_カテゴリ作成後の場合_キャッシュを破棄して再検索する() {
+    // Arrange
+    CategoryCreateRequest request = new CategoryCreateRequest();
+    request.setName("新しいカテゴリ");
+
+    when(categoryRepository.save(any(Category.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    categoryService.getCategoryList(testUserId);
+    categoryService.createCategory(request, testUserId);
+    categoryService.getCategoryList(testUserId);
+
+    // Assert
+    verify(categoryListCache, times(1)).evict(testUserId);
+    verify(categoryRepository, times(2))
+        .findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId);
+  }
+
+  /**
+   * getCategoryListJson のテスト
+   */
+  @Test
+  void getCategoryListJson_一覧をシリアライズした場合と同じJSONを返す() throws Exception {
+    // Arrange
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of(
+        systemCategory(4, "BathRoom"),
+        systemCategory(3, "寝室")
+    ));
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of(new Category(1, testUserId, "玄関\"\\", false)));
+
+    // Act
+    byte[] result = categoryService.getCategoryListJson(testUserId);
+
+    // Assert
+    assertThat(result).isEqualTo(
+        objectMapper.writeValueAsBytes(categoryService.getCategoryList(testUserId)));
+  }
+
+  @Test
+  void getCategoryListJson_2回目の呼び出しの場合_シリアライズ済みのJSONを返す() {
+    // Arrange
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of(systemCategory(2, "寝室")));
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of(new Category(1, testUserId, "玄関", false)));
+
+    // Act
+    byte[] first = categoryService.getCategoryListJson(testUserId);
+    byte[] second = categoryService.getCategoryListJson(testUserId);
+
+    // Assert デフォルトカテゴリはシリアライズせず、カスタムカテゴリも初回の1回だけシリアライズする
+    assertThat(second).isSameAs(first);
+    verify(categoryJsonWriter, times(1)).element(1, "玄関");
+    verify(categoryJsonWriter, times(1)).array(anyList());
+  }
+
+  @Test
+  void getCategoryListJson_カテゴリが存在しない場合_空の配列を返す() {
+    // Act
+    byte[] result = categoryService.getCategoryListJson(testUserId);
+
+    // Assert
+    assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("[]");
+  }
+
+  /**
+   * getCategorySummary のテスト
+   */
+  @Test
+  void getCategorySummary_集計結果をレスポンスに変換して返す() {
+    // Arrange
+    CategoryRepository.CategorySummary summary = mock(CategoryRepository.CategorySummary.class);
+    when(summary.getCategoryId()).thenReturn(1);
+    when(summary.getCategoryName()).thenReturn("キッチン");
+    when(summary.getItemCount()).thenReturn(2L);
+    when(summary.getTotalQuantity()).thenReturn(5L);
+    when(summary.getTotalValue()).thenReturn(800L);
+    when(categoryRepository.summarizeUserCategories(testUserId, testSystemUserId))
+        .thenReturn(List.of(summary));
+
+    // Act
+    List<CategorySummaryResponse> result = categoryService.getCategorySummary(testUserId);
+
+    // Assert
+    assertThat(result).containsExactly(new CategorySummaryResponse(1, "キッチン", 2, 5, 800));
+    verify(readYourWritesGuard).routeReads(testUserId);
+  }
+
+  @Test
+  void getCategorySummary_DB検索時にエラーが発生する場合_RuntimeExceptionをスローする() {
+    // Arrange
+    when(categoryRepository.summarizeUserCategories(anyString(), anyString()))
+        .thenThrow(new DataAccessResourceFailureException("DB接続エラー"));
+
+    // Act & Assert
+    assertThatThrownBy(() -> categoryService.getCategorySummary(testUserId))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("データベースへのアクセスに失敗しました");
+  }
+
+  /**
+   * getCategoryListETag のテスト
+   */
+  @Test
+  void getCategoryListETag_DBにアクセスせずにETagを返す() {
+    // Act
+    String eTag = categoryService.getCategoryListETag(testUserId);
+
+    // Assert
+    assertThat(eTag).isEqualTo(categoryService.getCategoryListETag(testUserId));
+    verifyNoInteractions(categoryRepository);
+  }
+
+  @Test
+  void getCategoryListETag_カテゴリを更新した場合_ETagが変わる() {
+    // Arrange
+    CategoryUpdateRequest request = new CategoryUpdateRequest();
+    request.setName("更新後の名前");
+
+    when(categoryRepository.findByIdAndDeletedFalse(1))
+        .thenReturn(Optional.of(new Category(1, testUserId, "元の名前", false)));
+    when(categoryRepository.save(any(Category.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    String before = categoryService.getCategoryListETag(testUserId);
+    String anotherUserBefore = categoryService.getCategoryListETag("anotherUser");
+
+    // Act
+    categoryService.updateCategory(1, request, testUserId);
+
+    // Assert 他のユーザーのETagは変わらない
+    assertThat(categoryService.getCategoryListETag(testUserId)).isNotEqualTo(before);
+    assertThat(categoryService.getCategoryListETag("anotherUser")).isEqualTo(anotherUserBefore);
   }
 
   @Test
   void getCategoryList_DB検索時にエラーが発生する場合_RuntimeExceptionをスローする() {
     // Arrange
-    when(categoryRepository.findUserCategories(anyString(), anyString()))
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(anyString()))
         .thenThrow(new DataAccessResourceFailureException("DB接続エラー"));
 
     // Act & Assert
@@ -254,7 +455,7 @@ public class CategoryServiceTest {
   @Test
   void getCategoryList_予期せぬExceptionが発生する場合_RuntimeExceptionをスローする() {
     // Arrange
-    when(categoryRepository.findUserCategories(anyString(), anyString()))
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(anyString()))
         .thenThrow(new RuntimeException("予期せぬエラー"));
 
     // Act & Assert
@@ -273,10 +474,10 @@ public class CategoryServiceTest {
     request.setName("更新後の名前");
 
     Category originalCategory = new Category(1, testUserId, "元の名前", false);
-    List<Category> categoryList = List.of(originalCategory);
 
-    when(categoryRepository.findUserCategories(testUserId, testSystemUserId))
-        .thenReturn(categoryList);
+    when(categoryRepository.existsDuplicateName(testUserId, testSystemUserId, "更新後の名前", 1))
+        .thenReturn(false);
+    when(categoryRepository.findByIdAndDeletedFalse(1)).thenReturn(Optional.of(originalCategory));
     when(categoryRepository.save(any(Category.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -294,14 +495,12 @@ public class CategoryServiceTest {
     CategoryUpdateRequest request = new CategoryUpdateRequest();
     request.setName("更新後の名前");
 
-    List<Category> emptyList = new ArrayList<>();
-    when(categoryRepository.findUserCategories(testUserId, testSystemUserId))
-        .thenReturn(emptyList);
+    when(categoryRepository.findByIdAndDeletedFalse(999)).thenReturn(Optional.empty());
 
     // Act & Assert
     assertThatThrownBy(() -> categoryService.updateCategory(999, request, testUserId))
-        .isInstanceOf(IllegalStateException.class)
-        .hasMessageContaining("NOT_FOUND");
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_ERROR);
   }
 
   @Test
@@ -312,15 +511,13 @@ public class CategoryServiceTest {
 
     // testUserIdではないユーザーが所有するカテゴリ
     Category anotherUserCategory = new Category(2, "anotherUser", "他人のカテゴリ", false);
-    List<Category> categoryList = List.of(anotherUserCategory);
 
-    when(categoryRepository.findUserCategories(testUserId, testSystemUserId))
-        .thenReturn(categoryList);
+    when(categoryRepository.findByIdAndDeletedFalse(2)).thenReturn(Optional.of(anotherUserCategory));
 
     // Act & Assert
     assertThatThrownBy(() -> categoryService.updateCategory(2, request, testUserId))
-        .isInstanceOf(IllegalStateException.class)
-        .hasMessageContaining("FORBIDDEN");
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DEFAULT_CATEGORY_IMMUTABLE);
   }
 
   @Test
@@ -330,15 +527,13 @@ public class CategoryServiceTest {
     request.setName("更新後の名前");
 
     Category defaultCategory = new Category(1, testSystemUserId, "デフォルトカテゴリ", false);
-    List<Category> categoryList = new ArrayList<>(List.of(defaultCategory));
 
-    when(categoryRepository.findUserCategories(testUserId, testSystemUserId))
-        .thenReturn(categoryList);
+    when(categoryRepository.findByIdAndDeletedFalse(1)).thenReturn(Optional.of(defaultCategory));
 
     // Act & Assert
     assertThatThrownBy(() -> categoryService.updateCategory(1, request, testUserId))
-        .isInstanceOf(IllegalStateException.class)
-        .hasMessageContaining("FORBIDDEN");
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DEFAULT_CATEGORY_IMMUTABLE);
   }
 
   @Test
@@ -347,17 +542,14 @@ public class CategoryServiceTest {
     CategoryUpdateRequest request = new CategoryUpdateRequest();
     request.setName("既存の名前");
 
-    Category categoryToUpdate = new Category(1, testUserId, "元の名前", false);
-    Category existingCategory = new Category(2, testUserId, "既存の名前", false);
-    List<Category> categoryList = List.of(categoryToUpdate, existingCategory);
-
-    when(categoryRepository.findUserCategories(testUserId, testSystemUserId))
-        .thenReturn(categoryList);
+    when(categoryRepository.existsDuplicateName(testUserId, testSystemUserId, "既存の名前", 1))
+        .thenReturn(true);
 
     // Act & Assert
     assertThatThrownBy(() -> categoryService.updateCategory(1, request, testUserId))
-        .isInstanceOf(IllegalStateException.class)
-        .hasMessageContaining("DUPLICATE");
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NAME_DUPLICATE);
+    verify(categoryRepository, never()).save(any(Category.class));
   }
 
   @Test
@@ -367,10 +559,8 @@ public class CategoryServiceTest {
     request.setName("更新後の名前");
 
     Category originalCategory = new Category(1, testUserId, "元の名前", false);
-    List<Category> categoryList = new ArrayList<>(List.of(originalCategory));
 
-    when(categoryRepository.findUserCategories(testUserId, testSystemUserId))
-        .thenReturn(categoryList);
+    when(categoryRepository.findByIdAndDeletedFalse(1)).thenReturn(Optional.of(originalCategory));
     when(categoryRepository.save(any(Category.class)))
         .thenThrow(new DataAccessResourceFailureException("DB接続エラー"));
 
@@ -387,10 +577,8 @@ public class CategoryServiceTest {
     request.setName("更新後の名前");
 
     Category originalCategory = new Category(1, testUserId, "元の名前", false);
-    List<Category> categoryList = new ArrayList<>(List.of(originalCategory));
 
-    when(categoryRepository.findUserCategories(testUserId, testSystemUserId))
-        .thenReturn(categoryList);
+    when(categoryRepository.findByIdAndDeletedFalse(1)).thenReturn(Optional.of(originalCategory));
     when(categoryRepository.save(any(Category.class)))
         .thenThrow(new NullPointerException("テスト用のエラー"));
 
@@ -408,10 +596,8 @@ public class CategoryServiceTest {
     request.setName("更新後の名前");
 
     Category originalCategory = new Category(1, testUserId, "元の名前", false);
-    List<Category> categoryList = new ArrayList<>(List.of(originalCategory));
 
-    when(categoryRepository.findUserCategories(testUserId, testSystemUserId))
-        .thenReturn(categoryList);
+    when(categoryRepository.findByIdAndDeletedFalse(1)).thenReturn(Optional.of(originalCategory));
     when(categoryRepository.save(any(Category.class)))
         .thenThrow(new RuntimeException("テスト用の予期せぬエラー"));
 
@@ -421,4 +607,322 @@ public class CategoryServiceTest {
         .hasMessage("予期せぬエラーが発生しました");
   }
 
+  /**
+   * deleteCategory のテスト
+   */
+  @Test
+  void deleteCategory_正常系_カテゴリを論理削除して上限の枠を戻す() {
+    // Arrange
+    Category category = new Category(1, testUserId, "日用品", false);
+    when(categoryRepository.findByIdAndDeletedFalse(1)).thenReturn(Optional.of(category));
+
+    // Act
+    categoryService.deleteCategory(1, testUserId);
+
+    // Assert
+    assertThat(category.getDeleted()).isTrue();
+    verify(categoryRepository, times(1)).saveAndFlush(category);
+    verify(categoryQuotaService, times(1)).release(testUserId);
+    verify(categoryListCache, times(1)).evict(testUserId);
+    verify(categoryListVersions, times(1)).bump(testUserId);
+    verify(searchIndex, times(1)).update(eq(testUserId), any());
+  }
+
+  @Test
+  void deleteCategory_削除対象のカテゴリが存在しない場合_CategoryNotFoundExceptionをスローする() {
+    // Arrange
+    when(categoryRepository.findByIdAndDeletedFalse(999)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThatThrownBy(() -> categoryService.deleteCategory(999, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_ERROR);
+    verify(categoryQuotaService, never()).release(anyString());
+  }
+
+  @Test
+  void deleteCategory_デフォルトカテゴリを削除しようとした場合_ForbiddenExceptionをスローする() {
+    // Arrange
+    Category defaultCategory = new Category(1, testSystemUserId, "デフォルトカテゴリ", false);
+    when(categoryRepository.findByIdAndDeletedFalse(1)).thenReturn(Optional.of(defaultCategory));
+
+    // Act & Assert
+    assertThatThrownBy(() -> categoryService.deleteCategory(1, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DEFAULT_CATEGORY_IMMUTABLE);
+    verify(categoryRepository, never()).saveAndFlush(any(Category.class));
+  }
+
+  @Test
+  void deleteCategory_アイテムが登録されている場合_CategoryNotEmptyExceptionをスローする() {
+    // Arrange
+    Category category = new Category(1, testUserId, "日用品", false);
+    // アイテム数はアイテムの登録時にDB側で増やすため、テストでは直接設定する
+    ReflectionTestUtils.setField(category, "itemCount", 3);
+    when(categoryRepository.findByIdAndDeletedFalse(1)).thenReturn(Optional.of(category));
+
+    // Act & Assert
+    assertThatThrownBy(() -> categoryService.deleteCategory(1, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NOT_EMPTY);
+    assertThat(category.getDeleted()).isFalse();
+    verify(categoryRepository, never()).saveAndFlush(any(Category.class));
+    verify(categoryQuotaService, never()).release(anyString());
+  }
+
+  @Test
+  void deleteCategory_保存時に他の操作と競合した場合_CategoryConflictExceptionをスローする() {
+    // Arrange
+    Category category = new Category(1, testUserId, "日用品", false);
+    when(categoryRepository.findByIdAndDeletedFalse(1)).thenReturn(Optional.of(category));
+    when(categoryRepository.saveAndFlush(category))
+        .thenThrow(new ObjectOptimisticLockingFailureException(Category.class, 1));
+
+    // Act & Assert
+    assertThatThrownBy(() -> categoryService.deleteCategory(1, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_CONFLICT);
+    verify(categoryQuotaService, never()).release(anyString());
+  }
+
+  /**
+   * createCategories のテスト
+   */
+  @Test
+  void createCategories_重複する名前が含まれる場合_有効なカテゴリだけをまとめて登録する() {
+    // Arrange
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of(systemCategory(1, "食品")));
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of(new Category(10, testUserId, "日用品", false)));
+    when(categoryQuotaService.acquireUpTo(testUserId, 2)).thenReturn(2);
+    when(categoryRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    CategoryBatchCreateRequest request = batchCreateRequest("文房具", "食品", "ｶﾞｼﾞｪｯﾄ", "日用品");
+
+    // Act
+    CategoryBatchResponse result = categoryService.createCategories(request, testUserId);
+
+    // Assert
+    assertThat(result.getSucceeded()).isEqualTo(2);
+    assertThat(result.getFailed()).isEqualTo(2);
+    assertThat(result.getResults()).extracting(CategoryBatchResult::getIndex)
+        .containsExactly(0, 1, 2, 3);
+    assertThat(result.getResults().get(0).getCategory().getName()).isEqualTo("文房具");
+    assertThat(result.getResults().get(1).getError().getCode()).isEqualTo("CATEGORY_NAME_DUPLICATE");
+    assertThat(result.getResults().get(2).getCategory().getName()).isEqualTo("ｶﾞｼﾞｪｯﾄ");
+    assertThat(result.getResults().get(3).getError().getCode()).isEqualTo("CATEGORY_NAME_DUPLICATE");
+    // 重複チェックはカテゴリごとにDBへ問い合わせない
+    verify(categoryRepository, never()).existsDuplicateName(any(), any(), any(), any());
+    verify(categoryRepository, times(1)).saveAll(anyList());
+  }
+
+  @Test
+  void createCategories_リクエスト内で名前が重複する場合_後のカテゴリを重複エラーにする() {
+    // Arrange
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of());
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of());
+    when(categoryQuotaService.acquireUpTo(testUserId, 1)).thenReturn(1);
+    when(categoryRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // 全角と半角の表記揺れも同じ名前とみなす
+    CategoryBatchCreateRequest request = batchCreateRequest("ABC", "ＡＢＣ");
+
+    // Act
+    CategoryBatchResponse result = categoryService.createCategories(request, testUserId);
+
+    // Assert
+    assertThat(result.getSucceeded()).isEqualTo(1);
+    assertThat(result.getResults().get(1).getError().getCode()).isEqualTo("CATEGORY_NAME_DUPLICATE");
+    assertThat(result.getResults().get(1).getError().getMessage())
+        .isEqualTo("そのカテゴリ名は既に使用されています");
+  }
+
+  @Test
+  void createCategories_登録枠が足りない場合_超えた分を上限エラーにする() {
+    // Arrange
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of());
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of());
+    when(categoryQuotaService.acquireUpTo(testUserId, 3)).thenReturn(1);
+    when(categoryRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    CategoryBatchCreateRequest request = batchCreateRequest("A", "B", "C");
+
+    // Act
+    CategoryBatchResponse result = categoryService.createCategories(request, testUserId);
+
+    // Assert
+    assertThat(result.getSucceeded()).isEqualTo(1);
+    assertThat(result.getResults().get(0).getCategory().getName()).isEqualTo("A");
+    assertThat(result.getResults().get(1).getError().getCode()).isEqualTo("CATEGORY_LIMIT_EXCEEDED");
+    assertThat(result.getResults().get(2).getError().getCode()).isEqualTo("CATEGORY_LIMIT_EXCEEDED");
+  }
+
+  @Test
+  void createCategories_入力エラーがある場合_カテゴリごとにエラーコードを返し枠を確保しない() {
+    // Arrange
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of());
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of());
+    when(categoryRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    CategoryBatchCreateRequest request = batchCreateRequest("　", "a".repeat(51));
+
+    // Act
+    CategoryBatchResponse result = categoryService.createCategories(request, testUserId);
+
+    // Assert
+    assertThat(result.getSucceeded()).isZero();
+    assertThat(result.getResults().get(0).getError().getCode()).isEqualTo("CATEGORY_NAME_REQUIRED");
+    assertThat(result.getResults().get(1).getError().getCode()).isEqualTo("CATEGORY_NAME_TOO_LONG");
+    verify(categoryQuotaService, never()).acquireUpTo(anyString(), anyInt());
+    verify(categoryListVersions, never()).bump(anyString());
+  }
+
+  @Test
+  void createCategories_要素がnullの場合_その位置を入力エラーにして他のカテゴリを登録する() {
+    // Arrange
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of());
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of());
+    when(categoryQuotaService.acquireUpTo(testUserId, 1)).thenReturn(1);
+    when(categoryRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // {"categories":[null, {"name":"文房具"}]}
+    CategoryBatchCreateRequest request = batchCreateRequest("文房具");
+    request.setCategories(Arrays.asList(null, request.getCategories().get(0)));
+
+    // Act
+    CategoryBatchResponse result = categoryService.createCategories(request, testUserId);
+
+    // Assert
+    assertThat(result.getSucceeded()).isEqualTo(1);
+    assertThat(result.getResults().get(0).getError().getCode()).isEqualTo("VALIDATION_ERROR");
+    assertThat(result.getResults().get(1).getCategory().getName()).isEqualTo("文房具");
+  }
+
+  @Test
+  void createCategories_DB保存時にエラーが発生する場合_RuntimeExceptionをスローする() {
+    // Arrange
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of());
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of());
+    when(categoryQuotaService.acquireUpTo(testUserId, 1)).thenReturn(1);
+    when(categoryRepository.saveAll(anyList()))
+        .thenThrow(new DataAccessResourceFailureException("DB接続エラー"));
+
+    // Act & Assert
+    assertThatThrownBy(
+        () -> categoryService.createCategories(batchCreateRequest("A"), testUserId))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("データベースへのアクセスに失敗しました");
+  }
+
+  /**
+   * updateCategories のテスト
+   */
+  @Test
+  void updateCategories_更新できないカテゴリが含まれる場合_カテゴリごとに結果を返す() {
+    // Arrange
+    Category own = new Category(10, testUserId, "日用品", false);
+    Category another = new Category(20, "user2", "他人のカテゴリ", false);
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of(systemCategory(1, "食品")));
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of(own));
+    when(categoryRepository.findAllById(List.of(20, 99))).thenReturn(List.of(another));
+
+    CategoryBatchUpdateRequest request = batchUpdateRequest(
+        updateItem(10, "生活用品"), updateItem(1, "食料"), updateItem(20, "変更"),
+        updateItem(99, "存在しない"), updateItem(null, "ID未指定"));
+
+    // Act
+    CategoryBatchResponse result = categoryService.updateCategories(request, testUserId);
+
+    // Assert
+    assertThat(result.getSucceeded()).isEqualTo(1);
+    assertThat(result.getFailed()).isEqualTo(4);
+    assertThat(result.getResults().get(0).getCategory().getName()).isEqualTo("生活用品");
+    assertThat(own.getName()).isEqualTo("生活用品");
+    assertThat(result.getResults().get(1).getError().getCode()).isEqualTo("DEFAULT_CATEGORY_IMMUTABLE");
+    assertThat(result.getResults().get(2).getError().getCode()).isEqualTo("DEFAULT_CATEGORY_IMMUTABLE");
+    assertThat(result.getResults().get(3).getError().getCode()).isEqualTo("NOT_FOUND_ERROR");
+    assertThat(result.getResults().get(4).getError().getCode()).isEqualTo("VALIDATION_ERROR");
+    assertThat(another.getName()).isEqualTo("他人のカテゴリ");
+    // 変更は管理中のエンティティに反映し、1件ずつsaveしない
+    verify(categoryRepository, never()).save(any(Category.class));
+    verify(categoryListVersions, times(1)).bump(testUserId);
+  }
+
+  @Test
+  void updateCategories_要素がnullの場合_その位置を入力エラーにして他のカテゴリを更新する() {
+    // Arrange
+    Category own = new Category(10, testUserId, "日用品", false);
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of());
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of(own));
+
+    // {"categories":[null, {"id":10,"name":"生活用品"}]}
+    CategoryBatchUpdateRequest request = new CategoryBatchUpdateRequest();
+    request.setCategories(Arrays.asList(null, updateItem(10, "生活用品")));
+
+    // Act
+    CategoryBatchResponse result = categoryService.updateCategories(request, testUserId);
+
+    // Assert
+    assertThat(result.getSucceeded()).isEqualTo(1);
+    assertThat(result.getResults().get(0).getError().getCode()).isEqualTo("VALIDATION_ERROR");
+    assertThat(result.getResults().get(1).getCategory().getName()).isEqualTo("生活用品");
+  }
+
+  @Test
+  void updateCategories_名前が重複する場合_先に処理した変更を踏まえて判定する() {
+    // Arrange
+    Category first = new Category(10, testUserId, "A", false);
+    Category second = new Category(11, testUserId, "B", false);
+    when(systemCategorySnapshot.getCategories()).thenReturn(List.of());
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testUserId))
+        .thenReturn(List.of(first, second));
+
+    // AをCに変更して空いた名前Aに、Bを変更する。自身の名前のままの変更は重複とみなさない
+    CategoryBatchUpdateRequest request = batchUpdateRequest(
+        updateItem(10, "C"), updateItem(11, "A"), updateItem(11, "A"), updateItem(10, "A"));
+
+    // Act
+    CategoryBatchResponse result = categoryService.updateCategories(request, testUserId);
+
+    // Assert
+    assertThat(result.getSucceeded()).isEqualTo(3);
+    assertThat(result.getResults().get(3).getError().getCode()).isEqualTo("CATEGORY_NAME_DUPLICATE");
+    assertThat(first.getName()).isEqualTo("C");
+    assertThat(second.getName()).isEqualTo("A");
+  }
+
+  private CategoryBatchCreateRequest batchCreateRequest(String... names) {
+    CategoryBatchCreateRequest request = new CategoryBatchCreateRequest();
+    request.setCategories(Arrays.stream(names).map(name -> {
+      CategoryCreateRequest item = new CategoryCreateRequest();
+      item.setName(name);
+      return item;
+    }).toList());
+    return request;
+  }
+
+  private CategoryBatchUpdateRequest batchUpdateRequest(CategoryBatchUpdateItem... items) {
+    CategoryBatchUpdateRequest request = new CategoryBatchUpdateRequest();
+    request.setCategories(List.of(items));
+    return request;
+  }
+
+  private CategoryBatchUpdateItem updateItem(Integer id, String name) {
+    CategoryBatchUpdateItem item = new CategoryBatchUpdateItem();
+    item.setId(id);
+    item.setName(name);
+    return item;
+  }
+
+  private SystemCategory systemCategory(Integer id, String name) {
+    return new SystemCategory(id, name, CategorySortKeys.of(name),
+        new CategoryJsonWriter(objectMapper).element(id, name));
+  }
 }
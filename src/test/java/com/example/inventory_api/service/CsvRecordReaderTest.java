@@ -0,0 +1,59 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CsvRecordReaderTest {
+
+  /**
+   * next のテスト
+   */
+  @Test
+  void next_クォートされた項目を含む場合_カンマ_改行_ダブルクォートをそのまま読み込む() throws Exception {
+    // Arrange
+    CsvRecordReader reader = new CsvRecordReader(new StringReader(
+        "a,\"b,c\",\"d\"\"e\"\r\n\"f\ng\",,h\nlast"));
+
+    // Act & Assert
+    assertThat(reader.next()).containsExactly("a", "b,c", "d\"e");
+    assertThat(reader.getRecordLineNumber()).isEqualTo(1);
+    assertThat(reader.next()).containsExactly("f\ng", "", "h");
+    assertThat(reader.getRecordLineNumber()).isEqualTo(2);
+    // 改行で終わらない最終行も読み込む
+    assertThat(reader.next()).containsExactly("last");
+    assertThat(reader.getRecordLineNumber()).isEqualTo(4);
+    assertThat(reader.next()).isNull();
+  }
+
+  @Test
+  void next_空行の場合_空の項目1つのレコードを返す() throws Exception {
+    // Arrange
+    CsvRecordReader reader = new CsvRecordReader(new StringReader("a\r\n\r\nb\r\n"));
+
+    // Act & Assert
+    assertThat(reader.next()).containsExactly("a");
+    assertThat(reader.next()).isEqualTo(List.of(""));
+    assertThat(reader.next()).containsExactly("b");
+    assertThat(reader.getRecordLineNumber()).isEqualTo(3);
+    assertThat(reader.next()).isNull();
+  }
+
+  @Test
+  void next_ダブルクォートが閉じられていない場合_InvalidCsvExceptionをスローする() {
+    // Arrange
+    CsvRecordReader reader = new CsvRecordReader(new StringReader("a,\"b\nc"));
+
+    // Act & Assert
+    assertThatThrownBy(reader::next)
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CSV)
+        .hasMessage("1行目のダブルクォートが閉じられていません");
+  }
+}
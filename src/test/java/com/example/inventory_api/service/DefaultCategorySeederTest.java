@@ -0,0 +1,94 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.model.SeedVersion;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.SeedVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DefaultCategorySeederTest {
+
+  @InjectMocks // テスト対象のクラス
+  private DefaultCategorySeeder defaultCategorySeeder;
+
+  @Mock // モックにするクラス
+  private CategoryRepository categoryRepository;
+
+  @Mock
+  private SeedVersionRepository seedVersionRepository;
+
+  private final String testSystemUserId = "system";
+
+  /**
+   * seed のテスト
+   */
+  @Test
+  void seed_登録済みのバージョンと一致する場合_カテゴリを読み込まずに終了する() {
+    // Arrange
+    when(seedVersionRepository.findForUpdate(DefaultCategorySeeder.SEED_NAME))
+        .thenReturn(Optional.of(new SeedVersion(DefaultCategorySeeder.SEED_NAME, 2)));
+
+    // Act
+    boolean seeded = defaultCategorySeeder.seed(new DefaultCategories(2, List.of("キッチン")));
+
+    // Assert
+    assertThat(seeded).isFalse();
+    verifyNoInteractions(categoryRepository);
+    verify(seedVersionRepository, never()).save(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void seed_バージョンが異なる場合_未登録のカテゴリだけをまとめて登録してバージョンを記録する() {
+    // Arrange
+    SeedVersion seedVersion = new SeedVersion(DefaultCategorySeeder.SEED_NAME, 1);
+    when(seedVersionRepository.findForUpdate(DefaultCategorySeeder.SEED_NAME))
+        .thenReturn(Optional.of(seedVersion));
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(testSystemUserId))
+        .thenReturn(List.of(new Category(1, testSystemUserId, "キッチン", false)));
+
+    // Act
+    boolean seeded = defaultCategorySeeder.seed(
+        new DefaultCategories(2, List.of("キッチン", "寝室", "玄関")));
+
+    // Assert
+    assertThat(seeded).isTrue();
+    ArgumentCaptor<List<Category>> captor = ArgumentCaptor.forClass(List.class);
+    verify(categoryRepository).saveAll(captor.capture());
+    assertThat(captor.getValue()).extracting(Category::getName).containsExactly("寝室", "玄関");
+    assertThat(captor.getValue()).extracting(Category::getUserId).containsOnly(testSystemUserId);
+    assertThat(seedVersion.getVersion()).isEqualTo(2);
+    verify(seedVersionRepository).save(seedVersion);
+  }
+
+  /**
+   * DefaultCategories.load のテスト
+   */
+  @Test
+  void load_デフォルトカテゴリの一覧をバージョン付きで読み込む() {
+    // Act
+    DefaultCategories defaults = DefaultCategories.load(
+        new DefaultResourceLoader().getResource(DefaultCategories.RESOURCE_LOCATION));
+
+    // Assert
+    assertThat(defaults.version()).isPositive();
+    assertThat(defaults.names()).hasSize(10).contains("キッチン", "備蓄・防災").doesNotHaveDuplicates();
+  }
+}
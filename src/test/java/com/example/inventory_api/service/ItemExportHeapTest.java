@@ -0,0 +1,193 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 大量のアイテムをエクスポートしてもヒープの使用量が増えないことを確認する
+ * <p>
+ * ヒープを小さく固定したJVMで実行するため、通常のtestタスクでは実行せず fixedHeapTestタスク(build.gradle)で実行する。
+ * 実際のリポジトリ・EntityManagerを通して読み込むため、アイテムを溜め込む実装や、書き出したアイテムを永続化コンテキストから
+ * 切り離さない実装に変わると、このヒープサイズではOutOfMemoryErrorになる。
+ * <p>
+ * インメモリのH2では100万件のデータ自体が同じヒープに載るため、DBはファイルに置き、H2のページキャッシュも小さくする。
+ * アプリ全体のコンテキストはこのヒープに収まらないため、JPAとエクスポートに必要なBeanだけを読み込む。
+ * <p>
+ * H2の組み込みモードはJDBCのフェッチサイズに関係なく大きな結果をディスクに退避するため、フェッチサイズの指定が外れてもヒープの使用量には表れない。
+ * フェッチサイズを使うDB(PostgreSQL・MySQLなど)で結果をまとめて読み込まないよう、読み込みのSQLに指定されたフェッチサイズも確認する。
+ */
+@Tag("fixed-heap")
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:file:./build/tmp/fixedHeapTest/item-export;CACHE_SIZE=4096",
+    "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ItemExportService.class, ReadYourWritesGuard.class, ItemExportHeapTest.FetchSizeRecorder.class})
+// エクスポートを本番と同じ読み取り専用のトランザクションで実行するため、テストメソッドをトランザクションで囲まない
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ItemExportHeapTest {
+
+  @Autowired
+  private ItemExportService itemExportService;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private static final int ROWS = 1_000_000;
+  private static final int ROWS_PER_INSERT = 100_000;
+  private static final String USER_ID = "exportUser";
+
+  @BeforeEach
+  void setUp() {
+    // 前回の実行で残ったデータを消してから登録する
+    tearDown();
+    Integer categoryId = categoryRepository.save(new Category(USER_ID, "エクスポート", false)).getId();
+    // エンティティを経由せず、DB内で連番から100万件を作成する
+    for (int from = 1; from <= ROWS; from += ROWS_PER_INSERT) {
+      jdbcTemplate.update("""
+          INSERT INTO items (id, category_id, user_id, name, quantity, price, place, deleted, created, updated_at)
+          SELECT X, ?, ?, CONCAT('アイテム', X), MOD(X, 100), MOD(X, 1000), CONCAT('購入場所', X), FALSE,
+            CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+          FROM SYSTEM_RANGE(?, ?)
+          """, categoryId, USER_ID, from, from + ROWS_PER_INSERT - 1);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM items WHERE user_id = ?", USER_ID);
+    jdbcTemplate.update("DELETE FROM categories WHERE user_id = ?", USER_ID);
+  }
+
+  @Test
+  void export_100万件のアイテムを固定サイズのヒープで書き出せる() throws Exception {
+    for (ItemExportFormat format : ItemExportFormat.values()) {
+      CountingOutputStream out = new CountingOutputStream();
+      FetchSizeRecorder.ITEM_QUERY_FETCH_SIZES.clear();
+
+      // Act
+      long count = itemExportService.export(USER_ID, format, out);
+
+      // Assert
+      assertThat(count).isEqualTo(ROWS);
+      // NDJSONは1件1行、CSVはヘッダー行が加わる
+      assertThat(out.lines).isEqualTo(format == ItemExportFormat.CSV ? ROWS + 1 : ROWS);
+      assertThat(FetchSizeRecorder.ITEM_QUERY_FETCH_SIZES).containsExactly(500);
+    }
+  }
+
+  /**
+   * itemsテーブルを読み込むSQLに指定されたフェッチサイズを記録する
+   */
+  @TestConfiguration
+  static class FetchSizeRecorder {
+
+    static final List<Integer> ITEM_QUERY_FETCH_SIZES = new CopyOnWriteArrayList<>();
+
+    @Bean
+    static BeanPostProcessor fetchSizeRecordingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+            return bean;
+          }
+          return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+              return recording(super.getConnection());
+            }
+          };
+        }
+      };
+    }
+
+    private static Connection recording(Connection connection) {
+      return proxy(Connection.class, connection, (method, args, result) -> {
+        if ("prepareStatement".equals(method.getName())
+            && ((String) args[0]).matches("(?is)select .* from items .*")) {
+          return proxy(PreparedStatement.class, result, (statementMethod, statementArgs, statementResult) -> {
+            if ("setFetchSize".equals(statementMethod.getName())) {
+              ITEM_QUERY_FETCH_SIZES.add((Integer) statementArgs[0]);
+            }
+            return statementResult;
+          });
+        }
+        return result;
+      });
+    }
+
+    // 呼び出しを委譲先にそのまま渡し、結果をafterで差し替えられるプロキシ
+    private static <T> T proxy(Class<T> type, Object target, AfterCall after) {
+      InvocationHandler handler = (proxy, method, args) -> {
+        try {
+          return after.apply(method, args, method.invoke(target, args));
+        } catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+      };
+      return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+
+      Object apply(Method method, Object[] args, Object result);
+    }
+  }
+
+  // 書き出した内容を保持せず、行数だけを数える
+  private static class CountingOutputStream extends OutputStream {
+
+    private long lines;
+
+    @Override
+    public void write(int b) {
+      if (b == '\n') {
+        lines++;
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      for (int i = off; i < off + len; i++) {
+        if (b[i] == '\n') {
+          lines++;
+        }
+      }
+    }
+  }
+}
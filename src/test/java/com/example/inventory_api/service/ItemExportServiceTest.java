@@ -0,0 +1,123 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.domain.model.Item;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemExportServiceTest {
+
+  @InjectMocks // テスト対象のクラス
+  private ItemExportService itemExportService;
+
+  @Mock // モックにするクラス
+  private ItemRepository itemRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private ReadYourWritesGuard readYourWritesGuard;
+
+  private final String testUserId = "user1";
+
+  /**
+   * export のテスト
+   */
+  @Test
+  void export_NDJSON形式の場合_1行に1件ずつJSONを書き出す() throws Exception {
+    // Arrange
+    when(itemRepository.streamByUserId(testUserId)).thenReturn(Stream.of(
+        item(1, "ティッシュ", 5, "ABC\"ドラッグ\""),
+        item(2, "洗剤", 0, null)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    long count = itemExportService.export(testUserId, ItemExportFormat.NDJSON, out);
+
+    // Assert
+    assertThat(count).isEqualTo(2);
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+        "{\"id\":1,\"categoryId\":10,\"name\":\"ティッシュ\",\"quantity\":5,\"price\":300,"
+            + "\"place\":\"ABC\\\"ドラッグ\\\"\",\"updatedAt\":\"2025-01-01T12:00\"}\n"
+            + "{\"id\":2,\"categoryId\":10,\"name\":\"洗剤\",\"quantity\":0,\"price\":300,"
+            + "\"place\":null,\"updatedAt\":\"2025-01-01T12:00\"}\n");
+  }
+
+  @Test
+  void export_CSV形式の場合_ヘッダー行と必要に応じてクォートした値を書き出す() throws Exception {
+    // Arrange
+    when(itemRepository.streamByUserId(testUserId)).thenReturn(Stream.of(
+        item(1, "ティッシュ, 箱", 5, "ABC\"ドラッグ\""),
+        item(2, "洗剤", 0, null)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    long count = itemExportService.export(testUserId, ItemExportFormat.CSV, out);
+
+    // Assert
+    assertThat(count).isEqualTo(2);
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+        "id,categoryId,name,quantity,price,place,updatedAt\r\n"
+            + "1,10,\"ティッシュ, 箱\",5,300,\"ABC\"\"ドラッグ\"\"\",2025-01-01T12:00\r\n"
+            + "2,10,洗剤,0,300,,2025-01-01T12:00\r\n");
+  }
+
+  @Test
+  void export_書き出したアイテムは永続化コンテキストから切り離しストリームを閉じる() throws Exception {
+    // Arrange
+    AtomicBoolean closed = new AtomicBoolean();
+    when(itemRepository.streamByUserId(testUserId)).thenReturn(
+        Stream.of(item(1, "A", 1, null), item(2, "B", 1, null), item(3, "C", 1, null))
+            .onClose(() -> closed.set(true)));
+
+    // Act
+    itemExportService.export(testUserId, ItemExportFormat.NDJSON, new ByteArrayOutputStream());
+
+    // Assert
+    verify(entityManager, times(3)).detach(any(Item.class));
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void from_対応していない形式の場合_BusinessExceptionをスローする() {
+    // Act & Assert
+    assertThat(ItemExportFormat.from(null)).isEqualTo(ItemExportFormat.NDJSON);
+    assertThat(ItemExportFormat.from("CSV")).isEqualTo(ItemExportFormat.CSV);
+    assertThatThrownBy(() -> ItemExportFormat.from("xml"))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_EXPORT_FORMAT);
+  }
+
+  private Item item(int id, String name, int quantity, String place) {
+    Item item = new Item();
+    item.setId(id);
+    item.setCategoryId(10);
+    item.setUserId(testUserId);
+    item.setName(name);
+    item.setQuantity(quantity);
+    item.setPrice(300);
+    item.setPlace(place);
+    item.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+    return item;
+  }
+}
@@ -0,0 +1,190 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.controller.dto.ItemImportError;
+import com.example.inventory_api.controller.dto.ItemImportResponse;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.model.Item;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.example.inventory_api.domain.repository.ItemRepository.CategoryItemName;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemImportServiceTest {
+
+  @InjectMocks // テスト対象のクラス
+  private ItemImportService itemImportService;
+
+  @Mock // モックにするクラス
+  private ItemRepository itemRepository;
+
+  @Mock
+  private CategoryRepository categoryRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private ReadYourWritesGuard readYourWritesGuard;
+
+  @Mock
+  private SearchIndex searchIndex;
+
+  private final String testUserId = "user1";
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(categoryRepository.findUserCategories(testUserId, "system")).thenReturn(List.of(
+        new Category(1, "system", "キッチン", false),
+        new Category(10, testUserId, "日用品", false)));
+    lenient().when(itemRepository.findItemNamesByUserId(testUserId))
+        .thenReturn(List.of(itemName(10, "ティッシュ")));
+    lenient().when(categoryRepository.addItemCount(anyInt(), anyInt())).thenReturn(1);
+  }
+
+  /**
+   * importItems のテスト
+   */
+  @Test
+  void importItems_正常な行と不正な行が混在する場合_正常な行だけを登録し不正な行を行番号付きで返す() {
+    // Arrange
+    String csv = """
+        category,name,quantity,price,place
+        日用品,洗剤,2,300,"ABC, ドラッグ"
+        キッチン,,1,,
+        存在しないカテゴリ,お米,1,,
+        キッチン,お米,-1,,
+        日用品,ティッシュ,1,,
+        ｷｯﾁﾝ,お米,,,
+        キッチン,お米,3,,
+        日用品,"改行を
+        含む名前",1,,
+        日用品,列が足りない
+        """;
+
+    // Act
+    ItemImportResponse result = itemImportService.importItems(csv(csv), testUserId);
+
+    // Assert
+    assertThat(result.getAccepted()).isEqualTo(3);
+    assertThat(result.getRejected()).isEqualTo(6);
+    assertThat(result.getErrors()).extracting(ItemImportError::getLine, ItemImportError::getCode)
+        .containsExactly(
+            tuple(3, "ITEM_FIELDS_REQUIRED"),
+            tuple(4, "CATEGORY_NOT_FOUND"),
+            tuple(5, "INVALID_ITEM_QUANTITY"),
+            tuple(6, "ITEM_NAME_DUPLICATE"),
+            tuple(8, "ITEM_NAME_DUPLICATE"),
+            tuple(11, "INVALID_CSV_ROW"));
+
+    ArgumentCaptor<Item> captor = ArgumentCaptor.forClass(Item.class);
+    verify(entityManager, times(3)).persist(captor.capture());
+    List<Item> items = captor.getAllValues();
+    assertThat(items.get(0).getName()).isEqualTo("洗剤");
+    assertThat(items.get(0).getPlace()).isEqualTo("ABC, ドラッグ");
+    assertThat(items.get(0).getPrice()).isEqualTo(300);
+    // 半角カナのカテゴリ名も、正規化してデフォルトカテゴリと照合する
+    assertThat(items.get(1).getCategoryId()).isEqualTo(1);
+    assertThat(items.get(1).getQuantity()).isZero();
+    assertThat(items.get(2).getName()).isEqualTo("改行を\n含む名前");
+    assertThat(items).allSatisfy(item -> {
+      assertThat(item.getUserId()).isEqualTo(testUserId);
+      assertThat(item.getDeleted()).isFalse();
+    });
+    // 登録した件数をカテゴリごとにまとめてアイテム数に加算する
+    verify(categoryRepository).addItemCount(1, 1);
+    verify(categoryRepository).addItemCount(10, 2);
+    // 登録したアイテムを検索の索引に反映する
+    verify(searchIndex).update(eq(testUserId), any());
+  }
+
+  @Test
+  void importItems_件数が多い場合_一定件数ごとにflushとclearを行う() {
+    // Arrange
+    StringBuilder csv = new StringBuilder("name,category\n");
+    for (int i = 0; i < ItemImportService.FLUSH_SIZE * 2 + 1; i++) {
+      csv.append("アイテム").append(i).append(",日用品\n");
+    }
+
+    // Act
+    ItemImportResponse result = itemImportService.importItems(csv(csv.toString()), testUserId);
+
+    // Assert 2回は途中で、1回は最後に実行する
+    assertThat(result.getAccepted()).isEqualTo(ItemImportService.FLUSH_SIZE * 2 + 1);
+    verify(entityManager, times(3)).flush();
+    verify(entityManager, times(3)).clear();
+    // 件数が多い場合は1件ずつ反映せず、検索の索引を作り直す
+    verify(searchIndex).evict(testUserId);
+    verify(searchIndex, never()).update(anyString(), any());
+  }
+
+  @Test
+  void importItems_ヘッダー行に必須の列がない場合_InvalidCsvExceptionをスローする() {
+    // Act & Assert
+    assertThatThrownBy(() -> itemImportService.importItems(csv("name,quantity\n洗剤,1\n"), testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CSV);
+    verify(entityManager, never()).persist(any());
+  }
+
+  @Test
+  void importItems_先頭にBOMがある場合_ヘッダー行を正しく読み込む() {
+    // Act
+    ItemImportResponse result = itemImportService.importItems(
+        csv("﻿Category,Name\r\n日用品,洗剤\r\n"), testUserId);
+
+    // Assert
+    assertThat(result.getAccepted()).isEqualTo(1);
+  }
+
+  @Test
+  void importItems_読み込んだ後でカテゴリが削除されていた場合_CategoryNotFoundExceptionをスローする() {
+    // Arrange 加算の対象のカテゴリが見つからない
+    when(categoryRepository.addItemCount(10, 1)).thenReturn(0);
+
+    // Act & Assert
+    assertThatThrownBy(() -> itemImportService.importItems(csv("category,name\n日用品,洗剤\n"), testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NOT_FOUND);
+    verify(readYourWritesGuard, never()).recordWrite(anyString());
+  }
+
+  private InputStream csv(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private CategoryItemName itemName(Integer categoryId, String name) {
+    return new CategoryItemName() {
+      @Override
+      public Integer getCategoryId() {
+        return categoryId;
+      }
+
+      @Override
+      public String getName() {
+        return name;
+      }
+    };
+  }
+}
@@ -0,0 +1,78 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.controller.dto.ItemImportResponse;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 実際のDBを使い、インポートのスループット(行/秒)とINSERTのバッチ化を確認する
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class ItemImportThroughputTest {
+
+  @Autowired
+  private ItemImportService itemImportService;
+
+  @Autowired
+  private ItemRepository itemRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private static final int ROWS = 50_000;
+  private static final String USER_ID = "importUser";
+
+  @AfterEach
+  void tearDown() {
+    itemRepository.deleteAllInBatch();
+    categoryRepository.deleteAll(categoryRepository.findAll().stream()
+        .filter(category -> USER_ID.equals(category.getUserId()))
+        .toList());
+  }
+
+  @Test
+  void importItems_5万行のCSVをJDBCバッチで登録しスループットを計測する() {
+    // Arrange
+    categoryRepository.save(new Category(USER_ID, "インポート", false));
+    StringBuilder csv = new StringBuilder("category,name,quantity,price,place\n");
+    for (int i = 0; i < ROWS; i++) {
+      csv.append(i % 2 == 0 ? "インポート" : "キッチン").append(",アイテム").append(i)
+          .append(',').append(i % 100).append(',').append(i % 1000).append(",購入場所\n");
+    }
+    byte[] body = csv.toString().getBytes(StandardCharsets.UTF_8);
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // Act
+    long start = System.nanoTime();
+    ItemImportResponse result = itemImportService.importItems(new ByteArrayInputStream(body), USER_ID);
+    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+    // Assert
+    double rowsPerSecond = ROWS / seconds;
+    System.out.printf("item import: %d rows in %.2f s (%.0f rows/s)%n", ROWS, seconds, rowsPerSecond);
+    assertThat(result.getAccepted()).isEqualTo(ROWS);
+    assertThat(result.getRejected()).isZero();
+    assertThat(itemRepository.count()).isEqualTo(ROWS);
+    // 1行ずつINSERTした場合は行数分のステートメントが準備される
+    assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+    assertThat(rowsPerSecond).isGreaterThan(1_000);
+  }
+}
@@ -0,0 +1,204 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.Item;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 実際のDBを使い、同時に在庫数を増減しても増減が失われないことを確認する
+@SpringBootTest
+public class ItemQuantityCoalescerTest {
+
+  @Autowired
+  private ItemQuantityCoalescer itemQuantityCoalescer;
+
+  @Autowired
+  private ItemRepository itemRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private static final String USER_ID = "user1";
+  private static final int THREADS = 16;
+
+  @AfterEach
+  void tearDown() {
+    itemRepository.deleteAllInBatch();
+  }
+
+  @Test
+  void adjust_同じアイテムを同時に増減した場合_全ての増減が反映され書き込みはまとめられる() throws Exception {
+    // Arrange
+    Item item = saveItem(200);
+    long writesBefore = itemQuantityCoalescer.getWriteCount();
+
+    // Act +1を600回、-1を200回同時に実行
+    List<Integer> results = runConcurrently(800,
+        i -> itemQuantityCoalescer.adjust(USER_ID, item.getId(), i % 4 == 0 ? -1 : 1).join());
+
+    // Assert
+    assertThat(results).hasSize(800).allSatisfy(quantity -> assertThat(quantity).isBetween(0, 800));
+    assertThat(itemRepository.findById(item.getId()).orElseThrow().getQuantity()).isEqualTo(600);
+    assertThat(itemQuantityCoalescer.getWriteCount() - writesBefore).isLessThan(800);
+  }
+
+  @Test
+  void adjust_在庫数を超えて同時に減らした場合_在庫数の分だけ成功し0未満にならない() throws Exception {
+    // Arrange
+    Item item = saveItem(5);
+
+    // Act
+    List<Integer> results = runConcurrently(20, i -> {
+      try {
+        return itemQuantityCoalescer.adjust(USER_ID, item.getId(), -1).join();
+      } catch (CompletionException e) {
+        assertThat(e.getCause()).hasFieldOrPropertyWithValue("errorCode", ErrorCode.ITEM_QUANTITY_CONFLICT);
+        return null;
+      }
+    });
+
+    // Assert
+    assertThat(results.stream().filter(quantity -> quantity != null).count()).isEqualTo(5);
+    assertThat(itemRepository.findById(item.getId()).orElseThrow().getQuantity()).isZero();
+  }
+
+  @Test
+  void adjust_まとめた増減の途中で0未満にならない場合_1回で書き込み受け付けた順の在庫数を返す() throws Exception {
+    // Arrange
+    Item item = saveItem(5);
+    ItemQuantityCoalescer coalescer = longWindowCoalescer();
+
+    // Act
+    List<CompletableFuture<Integer>> results = adjustInOrder(coalescer, item, -1, -1, 3);
+
+    // Assert
+    assertThat(results).extracting(CompletableFuture::join).containsExactly(4, 3, 6);
+    assertThat(coalescer.getWriteCount()).isEqualTo(1);
+    assertThat(itemRepository.findById(item.getId()).orElseThrow().getQuantity()).isEqualTo(6);
+  }
+
+  @Test
+  void adjust_まとめた増減の途中で0未満になる場合_合計が0以上でも0未満になる増減だけ失敗する() throws Exception {
+    // Arrange
+    Item item = saveItem(0);
+    ItemQuantityCoalescer coalescer = longWindowCoalescer();
+
+    // Act 合計は0だが、1件ずつ反映すると最初の-1が0未満になる
+    List<CompletableFuture<Integer>> results = adjustInOrder(coalescer, item, -1, 1);
+
+    // Assert
+    assertThatThrownBy(() -> results.get(0).join())
+        .cause().hasFieldOrPropertyWithValue("errorCode", ErrorCode.ITEM_QUANTITY_CONFLICT);
+    assertThat(results.get(1).join()).isEqualTo(1);
+    assertThat(itemRepository.findById(item.getId()).orElseThrow().getQuantity()).isEqualTo(1);
+  }
+
+  @Test
+  void shutdown_書き込み待ちの増減がある場合_待ち時間の後に二重に書き込まない() throws Exception {
+    // Arrange
+    Item item = saveItem(5);
+    ItemQuantityCoalescer coalescer = longWindowCoalescer();
+    List<CompletableFuture<Integer>> results = adjustInOrder(coalescer, item, 2, 3);
+
+    // Act 待ち時間の途中で終了する
+    coalescer.shutdown();
+
+    // Assert 最初の増減を受け付けたスレッドが待ち時間の後に書き込みを終えるまで待つ
+    assertThat(results).extracting(CompletableFuture::join).containsExactly(7, 10);
+    assertThat(coalescer.getWriteCount()).isEqualTo(1);
+    assertThat(itemRepository.findById(item.getId()).orElseThrow().getQuantity()).isEqualTo(10);
+  }
+
+  @Test
+  void adjust_他のユーザーのアイテムの場合_NotFoundExceptionで失敗する() {
+    // Arrange
+    Item item = saveItem(5);
+
+    // Act & Assert
+    assertThatThrownBy(() -> itemQuantityCoalescer.adjust("user2", item.getId(), 1).join())
+        .hasCauseInstanceOf(BusinessException.class)
+        .cause().hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_ERROR);
+    assertThat(itemRepository.findById(item.getId()).orElseThrow().getQuantity()).isEqualTo(5);
+  }
+
+  private Item saveItem(int quantity) {
+    Item item = new Item();
+    item.setUserId(USER_ID);
+    item.setCategoryId(1);
+    item.setName("ティッシュペーパー");
+    item.setQuantity(quantity);
+    item.setDeleted(false);
+    return itemRepository.save(item);
+  }
+
+  // 受け付けた順を確実にするため、待ち時間を長くしたインスタンスを使う
+  private ItemQuantityCoalescer longWindowCoalescer() {
+    return new ItemQuantityCoalescer(itemRepository, transactionManager, Duration.ofSeconds(1));
+  }
+
+  // 最初の増減を受け付けたスレッドが待っている間に、残りの増減を順に受け付ける
+  private List<CompletableFuture<Integer>> adjustInOrder(
+      ItemQuantityCoalescer coalescer, Item item, int... deltas) throws InterruptedException {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      List<CompletableFuture<Integer>> results = new ArrayList<>();
+      results.add(CompletableFuture.supplyAsync(
+          () -> coalescer.adjust(USER_ID, item.getId(), deltas[0]).join(), executor));
+      Thread.sleep(200);
+      for (int i = 1; i < deltas.length; i++) {
+        results.add(coalescer.adjust(USER_ID, item.getId(), deltas[i]));
+      }
+      return results;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private List<Integer> runConcurrently(int requests, IndexedTask task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < requests; i++) {
+        int index = i;
+        futures.add(executor.submit(() -> {
+          start.await();
+          return task.run(index);
+        }));
+      }
+      start.countDown();
+
+      List<Integer> results = new ArrayList<>();
+      for (Future<Integer> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @FunctionalInterface
+  private interface IndexedTask {
+
+    Integer run(int index);
+  }
+}
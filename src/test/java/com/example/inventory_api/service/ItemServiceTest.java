@@ -0,0 +1,290 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.controller.dto.ItemQuantityResponse;
+import com.example.inventory_api.controller.dto.ItemResponse;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.model.Item;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemServiceTest {
+
+  @InjectMocks // テスト対象のクラス
+  private ItemService itemService;
+
+  @Mock // モックにするクラス
+  private ItemRepository itemRepository;
+
+  @Mock
+  private CategoryRepository categoryRepository;
+
+  @Mock
+  private ItemQuantityCoalescer itemQuantityCoalescer;
+
+  @Mock
+  private ReadYourWritesGuard readYourWritesGuard;
+
+  private final String testUserId = "user1";
+  private final Integer testCategoryId = 10;
+  private final LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+  /**
+   * getItemList のテスト
+   */
+  @Test
+  void getItemList_次ページがある場合_指定件数と次ページのカーソルを返す() {
+    // Arrange
+    when(categoryRepository.findByIdAndDeletedFalse(testCategoryId))
+        .thenReturn(Optional.of(new Category(testCategoryId, testUserId, "日用品", false)));
+    // 次ページの有無を判定するため、1件多く取得する
+    when(itemRepository.findFirstPage(testUserId, testCategoryId, Limit.of(3)))
+        .thenReturn(items(3));
+
+    // Act
+    ItemPage result = itemService.getItemList(testCategoryId, null, 2, testUserId);
+
+    // Assert
+    assertThat(result.items()).hasSize(2);
+    assertThat(result.nextCursor()).isNotNull();
+    ItemCursor cursor = ItemCursor.decode(result.nextCursor());
+    assertThat(cursor.id()).isEqualTo(2);
+    assertThat(cursor.updatedAt()).isEqualTo(baseTime.minusMinutes(2));
+  }
+
+  @Test
+  void getItemList_最終ページの場合_カーソルを返さない() {
+    // Arrange
+    when(categoryRepository.findByIdAndDeletedFalse(testCategoryId))
+        .thenReturn(Optional.of(new Category(testCategoryId, testUserId, "日用品", false)));
+    when(itemRepository.findFirstPage(testUserId, testCategoryId, Limit.of(3)))
+        .thenReturn(items(2));
+
+    // Act
+    ItemPage result = itemService.getItemList(testCategoryId, null, 2, testUserId);
+
+    // Assert
+    assertThat(result.items()).hasSize(2);
+    assertThat(result.nextCursor()).isNull();
+  }
+
+  @Test
+  void getItemList_カーソルを指定した場合_その位置から続きを取得する() {
+    // Arrange
+    LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+    String cursor = new ItemCursor(updatedAt, 42).encode();
+    when(categoryRepository.findByIdAndDeletedFalse(testCategoryId))
+        .thenReturn(Optional.of(new Category(testCategoryId, "system", "食品", false)));
+    when(itemRepository.findNextPage(testUserId, testCategoryId, updatedAt, 42, Limit.of(51)))
+        .thenReturn(List.of());
+
+    // Act 件数を指定しない場合は50件
+    ItemPage result = itemService.getItemList(testCategoryId, cursor, null, testUserId);
+
+    // Assert
+    assertThat(result.items()).isEmpty();
+    verify(itemRepository, never()).findFirstPage(any(), any(), any());
+  }
+
+  @Test
+  void getItemList_件数が上限を超える場合_上限件数で取得する() {
+    // Arrange
+    when(categoryRepository.findByIdAndDeletedFalse(testCategoryId))
+        .thenReturn(Optional.of(new Category(testCategoryId, testUserId, "日用品", false)));
+    when(itemRepository.findFirstPage(testUserId, testCategoryId, Limit.of(101)))
+        .thenReturn(List.of());
+
+    // Act
+    itemService.getItemList(testCategoryId, null, 1000, testUserId);
+
+    // Assert
+    verify(itemRepository).findFirstPage(testUserId, testCategoryId, Limit.of(101));
+  }
+
+  @Test
+  void getItemList_他のユーザーのカテゴリの場合_CategoryNotFoundExceptionをスローする() {
+    // Arrange
+    when(categoryRepository.findByIdAndDeletedFalse(testCategoryId))
+        .thenReturn(Optional.of(new Category(testCategoryId, "user2", "他人のカテゴリ", false)));
+
+    // Act & Assert
+    assertThatThrownBy(() -> itemService.getItemList(testCategoryId, null, null, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NOT_FOUND);
+    verifyNoInteractions(itemRepository);
+  }
+
+  @Test
+  void getItemList_カテゴリが存在しない場合_CategoryNotFoundExceptionをスローする() {
+    // Arrange
+    when(categoryRepository.findByIdAndDeletedFalse(testCategoryId)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThatThrownBy(() -> itemService.getItemList(testCategoryId, null, null, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NOT_FOUND)
+        .hasMessage("指定されたカテゴリが見つかりません");
+  }
+
+  @Test
+  void getItemList_カーソルの形式が正しくない場合_DBにアクセスせずInvalidCursorExceptionをスローする() {
+    // Act & Assert
+    assertThatThrownBy(() -> itemService.getItemList(testCategoryId, "不正なカーソル", null, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    verifyNoInteractions(categoryRepository, itemRepository);
+  }
+
+  @Test
+  void getItemList_DB検索時にエラーが発生する場合_RuntimeExceptionをスローする() {
+    // Arrange
+    when(categoryRepository.findByIdAndDeletedFalse(testCategoryId))
+        .thenThrow(new DataAccessResourceFailureException("DB接続エラー"));
+
+    // Act & Assert
+    assertThatThrownBy(() -> itemService.getItemList(testCategoryId, null, null, testUserId))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("データベースへのアクセスに失敗しました");
+  }
+
+  /**
+   * getLowStockItems のテスト
+   */
+  @Test
+  void getLowStockItems_正常系_在庫が少ないアイテムを返す() {
+    // Arrange
+    Item item = items(1).get(0);
+    item.setQuantity(1);
+    item.setThreshold(2);
+    when(itemRepository.findLowStock(testUserId, Limit.of(100))).thenReturn(List.of(item));
+
+    // Act 件数を指定しない場合は100件
+    List<ItemResponse> result = itemService.getLowStockItems(null, testUserId);
+
+    // Assert
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0).getQuantity()).isEqualTo(1);
+    assertThat(result.get(0).getThreshold()).isEqualTo(2);
+  }
+
+  @Test
+  void getLowStockItems_件数が上限を超える場合_上限件数で取得する() {
+    // Arrange
+    when(itemRepository.findLowStock(testUserId, Limit.of(500))).thenReturn(List.of());
+
+    // Act
+    itemService.getLowStockItems(10_000, testUserId);
+
+    // Assert
+    verify(itemRepository).findLowStock(testUserId, Limit.of(500));
+  }
+
+  /**
+   * updateThreshold のテスト
+   */
+  @Test
+  void updateThreshold_正常系_更新後のアイテムを返す() {
+    // Arrange
+    Item item = items(1).get(0);
+    item.setThreshold(3);
+    when(itemRepository.updateThreshold(eq(1), eq(testUserId), eq(3), any())).thenReturn(1);
+    when(itemRepository.findByIdAndUserIdAndDeletedFalse(1, testUserId)).thenReturn(Optional.of(item));
+
+    // Act
+    ItemResponse result = itemService.updateThreshold(1, 3, testUserId);
+
+    // Assert
+    assertThat(result.getThreshold()).isEqualTo(3);
+  }
+
+  @Test
+  void updateThreshold_アイテムが存在しない場合_NotFoundExceptionをスローする() {
+    // Arrange
+    when(itemRepository.updateThreshold(eq(1), eq(testUserId), eq(3), any())).thenReturn(0);
+
+    // Act & Assert
+    assertThatThrownBy(() -> itemService.updateThreshold(1, 3, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND_ERROR)
+        .hasMessage("該当のアイテムが見つかりません");
+  }
+
+  /**
+   * adjustQuantity のテスト
+   */
+  @Test
+  void adjustQuantity_正常系_反映後の在庫数を返す() {
+    // Arrange
+    when(itemQuantityCoalescer.adjust(testUserId, 1, -1))
+        .thenReturn(CompletableFuture.completedFuture(4));
+
+    // Act
+    ItemQuantityResponse result = itemService.adjustQuantity(1, -1, testUserId);
+
+    // Assert
+    assertThat(result.getId()).isEqualTo(1);
+    assertThat(result.getQuantity()).isEqualTo(4);
+  }
+
+  @Test
+  void adjustQuantity_在庫数が0未満になる場合_QuantityConflictExceptionをスローする() {
+    // Arrange
+    when(itemQuantityCoalescer.adjust(testUserId, 1, -1)).thenReturn(CompletableFuture.failedFuture(
+        new BusinessException(ErrorCode.ITEM_QUANTITY_CONFLICT, "在庫数を0未満にすることはできません")));
+
+    // Act & Assert
+    assertThatThrownBy(() -> itemService.adjustQuantity(1, -1, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ITEM_QUANTITY_CONFLICT)
+        .hasMessage("在庫数を0未満にすることはできません");
+  }
+
+  @Test
+  void adjustQuantity_DB更新時にエラーが発生する場合_RuntimeExceptionをスローする() {
+    // Arrange
+    when(itemQuantityCoalescer.adjust(testUserId, 1, 1)).thenReturn(CompletableFuture.failedFuture(
+        new DataAccessResourceFailureException("DB接続エラー")));
+
+    // Act & Assert
+    assertThatThrownBy(() -> itemService.adjustQuantity(1, 1, testUserId))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("データベースへのアクセスに失敗しました")
+        .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+  }
+
+  // 更新日時の新しい順に並んだアイテムを作成する
+  private List<Item> items(int count) {
+    return IntStream.rangeClosed(1, count).mapToObj(i -> {
+      Item item = new Item();
+      item.setId(i);
+      item.setUserId(testUserId);
+      item.setCategoryId(testCategoryId);
+      item.setName("アイテム" + i);
+      item.setQuantity(i);
+      item.setUpdatedAt(baseTime.minusMinutes(i));
+      return item;
+    }).toList();
+  }
+}
@@ -0,0 +1,140 @@
+package com.example.inventory_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchIndexTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  void get_一定時間参照されていない場合_索引を破棄して空を返す() {
+    // Arrange
+    SearchIndex searchIndex = new SearchIndex(10, Duration.ofMinutes(30), now::get);
+    searchIndex.put("user1", index(), searchIndex.startLoading("user1"));
+    now.addAndGet(Duration.ofMinutes(20).toNanos());
+    searchIndex.put("user2", index(), searchIndex.startLoading("user2"));
+    now.addAndGet(Duration.ofMinutes(20).toNanos());
+
+    // Act & Assert user1は40分、user2は20分参照されていない
+    assertThat(searchIndex.get("user2")).isPresent();
+    assertThat(searchIndex.get("user1")).isEmpty();
+    assertThat(searchIndex.size()).isEqualTo(1);
+  }
+
+  @Test
+  void put_上限のユーザー数を超える場合_最も参照されていない索引を破棄する() {
+    // Arrange
+    SearchIndex searchIndex = new SearchIndex(2, Duration.ofMinutes(30), now::get);
+    searchIndex.put("user1", index(), searchIndex.startLoading("user1"));
+    searchIndex.put("user2", index(), searchIndex.startLoading("user2"));
+    searchIndex.get("user1"); // user1を参照してuser2を最古にする
+
+    // Act
+    searchIndex.put("user3", index(), searchIndex.startLoading("user3"));
+
+    // Assert
+    assertThat(searchIndex.get("user1")).isPresent();
+    assertThat(searchIndex.get("user2")).isEmpty();
+    assertThat(searchIndex.get("user3")).isPresent();
+  }
+
+  @Test
+  void put_作成中に索引がないユーザーの変更があった場合_作成した索引を登録しない() {
+    // Arrange
+    SearchIndex searchIndex = new SearchIndex(10, Duration.ofMinutes(30), now::get);
+    long loadId = searchIndex.startLoading("user1");
+    searchIndex.update("user1", index -> index.upsert(SearchDocument.item(1, 1, "洗剤")));
+    UserSearchIndex loaded = index();
+
+    // Act
+    UserSearchIndex result = searchIndex.put("user1", loaded, loadId);
+
+    // Assert 作成した索引はその検索にだけ使う
+    assertThat(result).isSameAs(loaded);
+    assertThat(searchIndex.get("user1")).isEmpty();
+  }
+
+  @Test
+  void put_作成中に他のユーザーの変更があった場合_作成した索引を登録する() {
+    // Arrange
+    SearchIndex searchIndex = new SearchIndex(10, Duration.ofMinutes(30), now::get);
+    long loadId = searchIndex.startLoading("user1");
+    searchIndex.update("user2", index -> index.upsert(SearchDocument.item(2, 1, "洗濯ネット")));
+    searchIndex.evict("user3");
+    UserSearchIndex loaded = index();
+
+    // Act
+    searchIndex.put("user1", loaded, loadId);
+
+    // Assert
+    assertThat(searchIndex.get("user1")).containsSame(loaded);
+  }
+
+  @Test
+  void put_作成中に全ユーザーの索引が破棄された場合_作成した索引を登録しない() {
+    // Arrange
+    SearchIndex searchIndex = new SearchIndex(10, Duration.ofMinutes(30), now::get);
+    long loadId = searchIndex.startLoading("user1");
+    searchIndex.clear();
+
+    // Act
+    searchIndex.put("user1", index(), loadId);
+
+    // Assert
+    assertThat(searchIndex.get("user1")).isEmpty();
+  }
+
+  @Test
+  void put_同じユーザーの索引が登録済みの場合_登録済みの索引を返す() {
+    // Arrange
+    SearchIndex searchIndex = new SearchIndex(10, Duration.ofMinutes(30), now::get);
+    UserSearchIndex first = index();
+    searchIndex.put("user1", first, searchIndex.startLoading("user1"));
+
+    // Act
+    UserSearchIndex result = searchIndex.put("user1", index(), searchIndex.startLoading("user1"));
+
+    // Assert
+    assertThat(result).isSameAs(first);
+    assertThat(searchIndex.get("user1")).containsSame(first);
+  }
+
+  @Test
+  void update_索引があるユーザーの場合_索引に変更を反映する() {
+    // Arrange
+    SearchIndex searchIndex = new SearchIndex(10, Duration.ofMinutes(30), now::get);
+    UserSearchIndex index = index();
+    searchIndex.put("user1", index, searchIndex.startLoading("user1"));
+
+    // Act
+    searchIndex.update("user1", i -> i.upsert(SearchDocument.item(2, 1, "洗濯ネット")));
+
+    // Assert
+    assertThat(index.search("洗濯", 10)).extracting(SearchDocument::id).containsExactly(2);
+  }
+
+  @Test
+  void evict_呼び出した場合_指定ユーザーの索引だけを破棄する() {
+    // Arrange
+    SearchIndex searchIndex = new SearchIndex(10, Duration.ofMinutes(30), now::get);
+    searchIndex.put("user1", index(), searchIndex.startLoading("user1"));
+    searchIndex.put("user2", index(), searchIndex.startLoading("user2"));
+
+    // Act
+    searchIndex.evict("user1");
+
+    // Assert
+    assertThat(searchIndex.get("user1")).isEmpty();
+    assertThat(searchIndex.get("user2")).isPresent();
+  }
+
+  private UserSearchIndex index() {
+    return new UserSearchIndex(List.of(SearchDocument.item(1, 1, "洗剤")));
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.controller.dto.CategoryCreateRequest;
+import com.example.inventory_api.controller.dto.CategoryUpdateRequest;
+import com.example.inventory_api.controller.dto.SearchResultResponse;
+import com.example.inventory_api.domain.model.Category;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 実際のDBを使い、作成済みの検索の索引にカテゴリ・アイテムの登録・変更・削除がコミット後に反映されることを確認する
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:search-index")
+public class SearchIndexUpdateTest {
+
+  @Autowired
+  private SearchService searchService;
+
+  @Autowired
+  private CategoryService categoryService;
+
+  @Autowired
+  private ItemImportService itemImportService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private final String userId = "search-user";
+
+  @Test
+  void search_索引を作成した後の登録_変更_削除を_DBを読まずに検索結果に反映する() {
+    // Arrange 初回の検索で索引を作成する
+    assertThat(searchService.search("ランドリー", null, userId)).isEmpty();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    // Act & Assert カテゴリとアイテムの登録
+    Category category = categoryService.createCategory(createRequest("ランドリー"), userId);
+    itemImportService.importItems(
+        csv("category,name\nランドリー,洗濯ネット\nランドリー,ランドリーバッグ\n"), userId);
+    statistics.clear();
+    assertThat(names(searchService.search("らんどりー", null, userId)))
+        .containsExactly("ランドリー", "ランドリーバッグ");
+    assertThat(names(searchService.search("洗濯", null, userId))).containsExactly("洗濯ネット");
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+
+    // カテゴリ名の変更
+    CategoryUpdateRequest updateRequest = new CategoryUpdateRequest();
+    updateRequest.setName("ベランダ");
+    categoryService.updateCategory(category.getId(), updateRequest, userId);
+    assertThat(names(searchService.search("ランドリー", null, userId)))
+        .containsExactly("ランドリーバッグ");
+    assertThat(names(searchService.search("ﾍﾞﾗﾝﾀﾞ", null, userId))).containsExactly("ベランダ");
+
+    // アイテムのないカテゴリの削除
+    Category empty = categoryService.createCategory(createRequest("物置"), userId);
+    categoryService.deleteCategory(empty.getId(), userId);
+    assertThat(searchService.search("物置", null, userId)).isEmpty();
+  }
+
+  private CategoryCreateRequest createRequest(String name) {
+    CategoryCreateRequest request = new CategoryCreateRequest();
+    request.setName(name);
+    return request;
+  }
+
+  private ByteArrayInputStream csv(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private List<String> names(List<SearchResultResponse> results) {
+    return results.stream().map(SearchResultResponse::getName).toList();
+  }
+}
@@ -0,0 +1,147 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.config.ReadYourWritesGuard;
+import com.example.inventory_api.controller.dto.SearchResultResponse;
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.domain.repository.ItemRepository;
+import com.example.inventory_api.domain.repository.ItemRepository.ItemName;
+import com.example.inventory_api.exception.BusinessException;
+import com.example.inventory_api.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceTest {
+
+  @InjectMocks // テスト対象のクラス
+  private SearchService searchService;
+
+  @Mock // モックにするクラス
+  private ItemRepository itemRepository;
+
+  @Mock
+  private CategoryRepository categoryRepository;
+
+  @Mock
+  private ReadYourWritesGuard readYourWritesGuard;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Spy // 実物の索引を使い、作成した索引が再利用されることを確認する
+  private SearchIndex searchIndex = new SearchIndex(100, Duration.ofMinutes(30));
+
+  private final String testUserId = "user1";
+  private final String testSystemUserId = "system";
+
+  /**
+   * search のテスト
+   */
+  @Test
+  void search_初回の検索の場合_DBから索引を作成し2回目以降は索引から検索する() {
+    // Arrange
+    when(categoryRepository.findUserCategories(testUserId, testSystemUserId)).thenReturn(List.of(
+        new Category(1, testSystemUserId, "トイレ", false),
+        new Category(2, testUserId, "日用品", false)));
+    when(itemRepository.findItemNamesWithIdByUserId(testUserId)).thenReturn(List.of(
+        itemName(10, 2, "トイレットペーパー"),
+        itemName(11, 2, "ティッシュ")));
+
+    // Act
+    List<SearchResultResponse> first = searchService.search("といれ", null, testUserId);
+    List<SearchResultResponse> second = searchService.search("ティッシュ", null, testUserId);
+
+    // Assert
+    assertThat(first).extracting(SearchResultResponse::getType, SearchResultResponse::getId,
+            SearchResultResponse::getCategoryId, SearchResultResponse::getName)
+        .containsExactly(
+            tuple("CATEGORY", 1, null, "トイレ"),
+            tuple("ITEM", 10, 2, "トイレットペーパー"));
+    assertThat(second).extracting(SearchResultResponse::getId).containsExactly(11);
+    verify(itemRepository, times(1)).findItemNamesWithIdByUserId(testUserId);
+    verify(readYourWritesGuard, times(1)).routeReads(testUserId);
+  }
+
+  @Test
+  void search_件数の指定が上限を超える場合_上限の件数までを返す() {
+    // Arrange
+    when(categoryRepository.findUserCategories(testUserId, testSystemUserId)).thenReturn(List.of());
+    List<ItemName> items = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      items.add(itemName(i, 1, "アイテム" + i));
+    }
+    when(itemRepository.findItemNamesWithIdByUserId(testUserId)).thenReturn(items);
+
+    // Act
+    List<SearchResultResponse> result = searchService.search("アイテム", 1000, testUserId);
+
+    // Assert
+    assertThat(result).hasSize(100);
+  }
+
+  @Test
+  void search_検索語が空白のみの場合_InvalidSearchQueryExceptionをスローする() {
+    // Act & Assert
+    assertThatThrownBy(() -> searchService.search(" 　", null, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_SEARCH_QUERY);
+    verifyNoInteractions(itemRepository, categoryRepository);
+  }
+
+  @Test
+  void search_検索語が50文字を超える場合_InvalidSearchQueryExceptionをスローする() {
+    // Act & Assert
+    assertThatThrownBy(() -> searchService.search("あ".repeat(51), null, testUserId))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_SEARCH_QUERY);
+  }
+
+  @Test
+  void search_索引の作成時にDataAccessExceptionが発生する場合_RuntimeExceptionをスローする() {
+    // Arrange
+    when(categoryRepository.findUserCategories(anyString(), anyString()))
+        .thenThrow(new DataAccessResourceFailureException("DB接続エラー"));
+
+    // Act & Assert
+    assertThatThrownBy(() -> searchService.search("トイレ", null, testUserId))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("データベースへのアクセスに失敗しました");
+    assertThat(searchIndex.get(testUserId)).isEmpty();
+  }
+
+  private ItemName itemName(Integer id, Integer categoryId, String name) {
+    return new ItemName() {
+      @Override
+      public Integer getId() {
+        return id;
+      }
+
+      @Override
+      public Integer getCategoryId() {
+        return categoryId;
+      }
+
+      @Override
+      public String getName() {
+        return name;
+      }
+    };
+  }
+}
@@ -0,0 +1,95 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.repository.CategoryRepository;
+import com.example.inventory_api.service.SystemCategorySnapshot.SystemCategory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SystemCategorySnapshotTest {
+
+  @InjectMocks
+  private SystemCategorySnapshot systemCategorySnapshot;
+
+  @Mock
+  private CategoryRepository categoryRepository;
+
+  @Mock
+  private CategoryListCache categoryListCache;
+
+  @Mock
+  private CategoryListVersions categoryListVersions;
+
+  @Mock
+  private SearchIndex searchIndex;
+
+  @Spy
+  private CategoryJsonWriter categoryJsonWriter = new CategoryJsonWriter(new ObjectMapper());
+
+  private final String systemUserId = "system";
+
+  @Test
+  void getCategories_複数回呼び出した場合_DBからは初回のみ読み込む() {
+    // Arrange
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(systemUserId))
+        .thenReturn(List.of(new Category(1, systemUserId, "キッチン", false)));
+
+    // Act
+    List<SystemCategory> first = systemCategorySnapshot.getCategories();
+    List<SystemCategory> second = systemCategorySnapshot.getCategories();
+
+    // Assert
+    assertThat(first).extracting(SystemCategory::name).containsExactly("キッチン");
+    assertThat(second).isSameAs(first);
+    verify(categoryRepository, times(1))
+        .findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(systemUserId);
+  }
+
+  @Test
+  void getCategories_返却したリストは変更できない() {
+    // Arrange
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(systemUserId))
+        .thenReturn(List.of(new Category(1, systemUserId, "キッチン", false)));
+
+    // Act
+    List<SystemCategory> categories = systemCategorySnapshot.getCategories();
+
+    // Assert
+    assertThatThrownBy(() -> categories.add(categories.get(0)))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void refresh_呼び出した場合_DBから読み込み直しカテゴリ一覧のキャッシュとバージョンを更新する() {
+    // Arrange
+    when(categoryRepository.findByUserIdAndDeletedFalseOrderBySortKeyAscIdAsc(systemUserId))
+        .thenReturn(List.of(new Category(1, systemUserId, "キッチン", false)))
+        .thenReturn(List.of(
+            new Category(1, systemUserId, "キッチン", false),
+            new Category(2, systemUserId, "玄関", false)
+        ));
+    systemCategorySnapshot.getCategories();
+
+    // Act
+    systemCategorySnapshot.refresh();
+
+    // Assert
+    assertThat(systemCategorySnapshot.getCategories()).extracting(SystemCategory::name)
+        .containsExactly("キッチン", "玄関");
+    verify(categoryListCache, times(1)).clear();
+    verify(categoryListVersions, times(1)).bumpAll();
+    verify(searchIndex, times(1)).clear();
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.inventory_api.service;
+
+import com.example.inventory_api.domain.model.Category;
+import com.example.inventory_api.domain.support.SearchTexts;
+import com.example.inventory_api.service.SearchDocument.Type;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class UserSearchIndexTest {
+
+  private final UserSearchIndex index = new UserSearchIndex(List.of(
+      SearchDocument.category(new Category(1, "system", "トイレ", false)),
+      SearchDocument.item(10, 1, "トイレットペーパー"),
+      SearchDocument.item(11, 1, "ＴＯＩＬＥＴ ｸﾘｰﾅｰ"),
+      SearchDocument.item(12, 2, "お徳用トイレ洗剤"),
+      SearchDocument.item(13, 2, "トレイ")));
+
+  /**
+   * search のテスト
+   */
+  @Test
+  void search_検索語を含む名前を_完全一致_前方一致_部分一致の順に返す() {
+    // Act
+    List<SearchDocument> result = index.search(SearchTexts.normalize("トイレ"), 10);
+
+    // Assert 「トレイ」はbigramの一部が一致するが、検索語を含まないため返さない
+    assertThat(result).extracting(SearchDocument::type, SearchDocument::id)
+        .containsExactly(
+            tuple(Type.CATEGORY, 1),
+            tuple(Type.ITEM, 10),
+            tuple(Type.ITEM, 12));
+  }
+
+  @Test
+  void search_表記揺れがある場合_正規化して一致させる() {
+    // Act & Assert ひらがな・半角カナ・全角英字・大文字小文字・空白の違いを区別しない
+    assertThat(index.search(SearchTexts.normalize("といれっと"), 10))
+        .extracting(SearchDocument::id).containsExactly(10);
+    assertThat(index.search(SearchTexts.normalize("toiletクリ"), 10))
+        .extracting(SearchDocument::id).containsExactly(11);
+  }
+
+  @Test
+  void search_1文字の検索語の場合_その文字を含む名前を返す() {
+    // Act
+    List<SearchDocument> result = index.search(SearchTexts.normalize("剤"), 10);
+
+    // Assert
+    assertThat(result).extracting(SearchDocument::id).containsExactly(12);
+  }
+
+  @Test
+  void search_件数を指定した場合_一致度の高い順に指定件数までを返す() {
+    // Act
+    List<SearchDocument> result = index.search(SearchTexts.normalize("トイレ"), 2);
+
+    // Assert
+    assertThat(result).extracting(SearchDocument::id).containsExactly(1, 10);
+  }
+
+  /**
+   * upsert / remove のテスト
+   */
+  @Test
+  void upsert_登録済みのIDの場合_古い名前では検索されなくなる() {
+    // Act 名前の変更
+    index.upsert(SearchDocument.item(10, 1, "ティッシュ"));
+
+    // Assert
+    assertThat(index.search(SearchTexts.normalize("トイレット"), 10)).isEmpty();
+    assertThat(index.search(SearchTexts.normalize("ティッシュ"), 10))
+        .extracting(SearchDocument::id).containsExactly(10);
+    assertThat(index.size()).isEqualTo(5);
+  }
+
+  @Test
+  void remove_登録済みの場合_検索されなくなる() {
+    // Act
+    index.remove(Type.CATEGORY, 1);
+    index.remove(Type.CATEGORY, 999); // 未登録の場合は何もしない
+
+    // Assert
+    assertThat(index.search(SearchTexts.normalize("トイレ"), 10))
+        .extracting(SearchDocument::id).containsExactly(10, 12);
+    assertThat(index.size()).isEqualTo(4);
+  }
+}